@@ -0,0 +1,45 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.benchmarks;
+
+import java.util.UUID;
+
+/**
+ * Tenant identifiers of benchmarks.
+ */
+public final class BenchmarkTenants {
+
+    /**
+     * Constructor.
+     */
+    private BenchmarkTenants() {
+    }
+
+    /**
+     * Create tenant identifiers; they are the same for each run, so results are comparable between runs.
+     *
+     * @param count number of tenants
+     * @return array of tenant identifiers (UUID strings, like project ids).
+     */
+    public static String[] ids(final int count) {
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = new UUID(0x5eed, i).toString();
+        }
+        return ids;
+    }
+}
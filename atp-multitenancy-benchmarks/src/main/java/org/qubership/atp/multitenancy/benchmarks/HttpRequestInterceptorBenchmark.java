@@ -0,0 +1,164 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Answers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.auth.springbootstarter.security.permissions.PolicyEnforcement;
+import org.qubership.atp.multitenancy.core.header.CustomHeader;
+import org.qubership.atp.multitenancy.interceptor.http.LocalAccessDecisionCache;
+import org.qubership.atp.multitenancy.interceptor.http.MultiTenantHttpRequestInterceptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Benchmarks of {@link MultiTenantHttpRequestInterceptor}: access check and TenantContext set/clear per request.
+ * <p>PolicyEnforcement is a stub permitting everything, so uncached variants measure the interceptor
+ * and single-flight overhead, not the policy itself. Requests are cycled over the tenants by an authenticated user.
+ * Uncontended variants run on one thread, contended ones - on all available processors.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpRequestInterceptorBenchmark {
+
+    /**
+     * Number of tenants requested.
+     */
+    @Param({"1", "1000"})
+    public int tenants;
+
+    /**
+     * Whether access decisions are cached.
+     */
+    @Param({"true", "false"})
+    public boolean cached;
+
+    /**
+     * Requests, one per tenant.
+     */
+    private MockHttpServletRequest[] requests;
+
+    /**
+     * Interceptor under benchmark.
+     */
+    private MultiTenantHttpRequestInterceptor interceptor;
+
+    /**
+     * Create requests and the interceptor.
+     */
+    @Setup
+    public void setUp() {
+        String[] tenantIds = BenchmarkTenants.ids(tenants);
+        requests = new MockHttpServletRequest[tenants];
+        for (int i = 0; i < tenants; i++) {
+            requests[i] = new MockHttpServletRequest();
+            requests[i].addHeader(CustomHeader.X_PROJECT_ID, tenantIds[i]);
+            requests[i].setUserPrincipal(() -> "user");
+        }
+        PolicyEnforcement policyEnforcement = mock(PolicyEnforcement.class, withSettings().stubOnly()
+                .defaultAnswer(invocation -> invocation.getMethod().getReturnType() == boolean.class
+                        ? Boolean.TRUE
+                        : Answers.RETURNS_DEFAULTS.answer(invocation)));
+        interceptor = new MultiTenantHttpRequestInterceptor(policyEnforcement, cached
+                ? new LocalAccessDecisionCache(10_000, Duration.ofHours(1), Duration.ofHours(1))
+                : null);
+    }
+
+    /**
+     * Response and the next request of the benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        /**
+         * Response, reused as it's written only when access is denied.
+         */
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        /**
+         * Index of the next request.
+         */
+        private int next;
+
+        /**
+         * Get the next request.
+         *
+         * @param benchmark HttpRequestInterceptorBenchmark state with requests
+         * @return request to the next tenant.
+         */
+        MockHttpServletRequest nextRequest(final HttpRequestInterceptorBenchmark benchmark) {
+            MockHttpServletRequest request = benchmark.requests[next];
+            next = next + 1 == benchmark.requests.length ? 0 : next + 1;
+            return request;
+        }
+    }
+
+    /**
+     * Pre-handle and post-handle the next request.
+     *
+     * @param exchange Exchange state
+     * @return true if access is permitted.
+     * @throws IOException never.
+     */
+    @Benchmark
+    @Threads(1)
+    public boolean preHandle(final Exchange exchange) throws IOException {
+        return handle(exchange);
+    }
+
+    /**
+     * Pre-handle and post-handle the next request on all processors.
+     *
+     * @param exchange Exchange state
+     * @return true if access is permitted.
+     * @throws IOException never.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean preHandleContended(final Exchange exchange) throws IOException {
+        return handle(exchange);
+    }
+
+    private boolean handle(final Exchange exchange) throws IOException {
+        MockHttpServletRequest request = exchange.nextRequest(this);
+        boolean permitted = interceptor.preHandle(request, exchange.response, this);
+        interceptor.postHandle(request, exchange.response, this, null);
+        return permitted;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.atp.multitenancy.core.header.CustomHeader;
+import org.qubership.atp.multitenancy.interceptor.jms.MultiTenantJmsTemplate;
+import org.springframework.jms.connection.CachingConnectionFactory;
+
+/**
+ * Benchmarks of {@link MultiTenantJmsTemplate#convertAndSend(String, Object, Map)}
+ * and {@link MultiTenantJmsTemplate#convertAndSendBatch(String, java.util.Collection, Map)}.
+ * <p>Messages are sent to a topic without subscribers of an embedded non-persistent broker,
+ * so the result is the template overhead (conversion, tenant property, cached session and producer)
+ * plus the in-VM hand-off, without network and storage.
+ * Uncontended variants run on one thread, contended ones - on all available processors.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JmsTemplateBenchmark {
+
+    /**
+     * Destination of messages.
+     */
+    private static final String DESTINATION = "atp.multitenancy.benchmark";
+
+    /**
+     * Number of messages in a batch.
+     */
+    private static final int BATCH = 100;
+
+    /**
+     * Messages of a batch.
+     */
+    private static final List<String> MESSAGES = Collections.nCopies(BATCH, "message");
+
+    /**
+     * Number of tenants messages are sent by.
+     */
+    @Param({"1", "1000"})
+    public int tenants;
+
+    /**
+     * Tenant ids.
+     */
+    private String[] tenantIds;
+
+    /**
+     * Message properties, one per tenant.
+     */
+    private Map<String, Object>[] properties;
+
+    /**
+     * Connection factory caching sessions and producers.
+     */
+    private CachingConnectionFactory connectionFactory;
+
+    /**
+     * Template under benchmark.
+     */
+    private MultiTenantJmsTemplate jmsTemplate;
+
+    /**
+     * Start the embedded broker and create the template.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        tenantIds = BenchmarkTenants.ids(tenants);
+        properties = new Map[tenants];
+        for (int i = 0; i < tenants; i++) {
+            properties[i] = Map.of(CustomHeader.X_PROJECT_ID, tenantIds[i]);
+        }
+        connectionFactory = new CachingConnectionFactory(
+                new ActiveMQConnectionFactory("vm://benchmark?broker.persistent=false&broker.useJmx=false"));
+        connectionFactory.setSessionCacheSize(Runtime.getRuntime().availableProcessors());
+        jmsTemplate = new MultiTenantJmsTemplate();
+        jmsTemplate.setConnectionFactory(connectionFactory);
+        jmsTemplate.setPubSubDomain(true);
+    }
+
+    /**
+     * Close connections; the embedded broker is stopped with the last one.
+     */
+    @TearDown
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    /**
+     * Index of the next tenant of the benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Sender {
+
+        /**
+         * Index of the next tenant.
+         */
+        private int next;
+
+        /**
+         * Get properties of the next tenant.
+         *
+         * @param benchmark JmsTemplateBenchmark state with properties
+         * @return message properties.
+         */
+        Map<String, Object> nextProperties(final JmsTemplateBenchmark benchmark) {
+            Map<String, Object> tenantProperties = benchmark.properties[next];
+            next = next + 1 == benchmark.properties.length ? 0 : next + 1;
+            return tenantProperties;
+        }
+
+        /**
+         * Get the next tenant id.
+         *
+         * @param benchmark JmsTemplateBenchmark state with tenant ids
+         * @return tenant id.
+         */
+        String nextTenantId(final JmsTemplateBenchmark benchmark) {
+            String tenantId = benchmark.tenantIds[next];
+            next = next + 1 == benchmark.tenantIds.length ? 0 : next + 1;
+            return tenantId;
+        }
+    }
+
+    /**
+     * Send a text message with the tenant property.
+     *
+     * @param sender Sender state.
+     */
+    @Benchmark
+    @Threads(1)
+    public void convertAndSend(final Sender sender) {
+        jmsTemplate.convertAndSend(DESTINATION, "message", sender.nextProperties(this));
+    }
+
+    /**
+     * Send a text message with the tenant property on all processors.
+     *
+     * @param sender Sender state.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void convertAndSendContended(final Sender sender) {
+        jmsTemplate.convertAndSend(DESTINATION, "message", sender.nextProperties(this));
+    }
+
+    /**
+     * Send a text message without properties; it's stamped with the tenant of TenantContext.
+     *
+     * @param sender Sender state.
+     */
+    @Benchmark
+    @Threads(1)
+    public void convertAndSendStamped(final Sender sender) {
+        TenantContext.setTenantInfo(sender.nextTenantId(this));
+        jmsTemplate.convertAndSend(DESTINATION, "message");
+    }
+
+    /**
+     * Send a batch of text messages with the tenant property; the result is per message.
+     *
+     * @param sender Sender state.
+     */
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(BATCH)
+    public void convertAndSendBatch(final Sender sender) {
+        jmsTemplate.convertAndSendBatch(DESTINATION, MESSAGES, sender.nextProperties(this));
+    }
+}
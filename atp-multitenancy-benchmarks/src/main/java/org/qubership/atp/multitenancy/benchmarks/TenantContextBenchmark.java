@@ -0,0 +1,144 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+/**
+ * Benchmarks of {@link TenantContext} reads and writes, made on each request and message.
+ * <p>Uncontended variants run on one thread, contended ones - on all available processors.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TenantContextBenchmark {
+
+    /**
+     * Number of tenants the current tenant is switched between.
+     */
+    @Param({"1", "1000"})
+    public int tenants;
+
+    /**
+     * Tenant identifiers.
+     */
+    private String[] tenantIds;
+
+    /**
+     * Index of the next tenant.
+     */
+    private int next;
+
+    /**
+     * Create tenants and set the current one.
+     */
+    @Setup
+    public void setUp() {
+        tenantIds = BenchmarkTenants.ids(tenants);
+        TenantContext.setTenantInfo(tenantIds[0]);
+    }
+
+    /**
+     * Clear the current tenant.
+     */
+    @TearDown
+    public void tearDown() {
+        TenantContext.clear();
+    }
+
+    /**
+     * Get the current tenant.
+     *
+     * @return tenant identifier.
+     */
+    @Benchmark
+    @Threads(1)
+    public String getTenantInfo() {
+        return TenantContext.getTenantInfo();
+    }
+
+    /**
+     * Get the current tenant on all processors.
+     *
+     * @return tenant identifier.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String getTenantInfoContended() {
+        return TenantContext.getTenantInfo();
+    }
+
+    /**
+     * Switch the current tenant and get it, as it's done for each request.
+     *
+     * @return tenant identifier.
+     */
+    @Benchmark
+    @Threads(1)
+    public String setAndGetTenantInfo() {
+        TenantContext.setTenantInfo(nextTenant());
+        return TenantContext.getTenantInfo();
+    }
+
+    /**
+     * Switch the current tenant and get it on all processors.
+     *
+     * @return tenant identifier.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String setAndGetTenantInfoContended() {
+        TenantContext.setTenantInfo(nextTenant());
+        return TenantContext.getTenantInfo();
+    }
+
+    /**
+     * Run a task under the next tenant, restoring the previous one after it.
+     *
+     * @return tenant identifier got by the task.
+     * @throws Exception never.
+     */
+    @Benchmark
+    @Threads(1)
+    public String runAs() throws Exception {
+        return TenantContext.runAs(nextTenant(), TenantContext::getTenantInfo);
+    }
+
+    private String nextTenant() {
+        String tenantId = tenantIds[next];
+        next = next + 1 == tenantIds.length ? 0 : next + 1;
+        return tenantId;
+    }
+}
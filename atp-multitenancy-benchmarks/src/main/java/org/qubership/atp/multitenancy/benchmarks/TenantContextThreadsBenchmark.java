@@ -0,0 +1,138 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+/**
+ * Benchmarks of {@link TenantContext} on platform and virtual threads.
+ * <p>JMH itself runs benchmarks on platform threads, so each invocation runs a batch of tenant switches
+ * split between {@code parallelism} tasks of the executor of the kind given; the batch is large enough
+ * for the hand-off to the executor to be negligible. Parallelism 1 is the uncontended case.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TenantContextThreadsBenchmark {
+
+    /**
+     * Number of tenant switches per invocation.
+     */
+    private static final int BATCH = 100_000;
+
+    /**
+     * Kind of threads: PLATFORM or VIRTUAL.
+     */
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String threads;
+
+    /**
+     * Number of tasks the batch is split between.
+     */
+    @Param({"1", "8"})
+    public int parallelism;
+
+    /**
+     * Number of tenants the current tenant is switched between.
+     */
+    @Param({"1", "1000"})
+    public int tenants;
+
+    /**
+     * Tenant identifiers.
+     */
+    private String[] tenantIds;
+
+    /**
+     * Executor running the tasks.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Create tenants and the executor.
+     */
+    @Setup
+    public void setUp() {
+        tenantIds = BenchmarkTenants.ids(tenants);
+        executor = "VIRTUAL".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(parallelism);
+    }
+
+    /**
+     * Stop the executor.
+     */
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Switch the current tenant and get it, BATCH times in total.
+     *
+     * @return sum of lengths of tenant identifiers got, so the reads aren't eliminated.
+     * @throws InterruptedException in case the benchmark is interrupted
+     * @throws ExecutionException in case a task is failed.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long setAndGetTenantInfo() throws InterruptedException, ExecutionException {
+        List<Future<Long>> futures = new ArrayList<>(parallelism);
+        int operations = BATCH / parallelism;
+        for (int task = 0; task < parallelism; task++) {
+            int offset = task;
+            futures.add(executor.submit(() -> {
+                long sum = 0;
+                for (int i = 0; i < operations; i++) {
+                    TenantContext.setTenantInfo(tenantIds[(offset + i) % tenantIds.length]);
+                    sum += TenantContext.getTenantInfo().length();
+                }
+                TenantContext.clear();
+                return sum;
+            }));
+        }
+        long sum = 0;
+        for (Future<Long> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.lookup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.multitenancy.benchmarks.BenchmarkTenants;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresCluster;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresClusters;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.DefaultPostgresCluster;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import com.zaxxer.hikari.HikariConfig;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+
+/**
+ * Benchmarks of {@link TenantRoutingDataSource} lookups, made on each connection checkout.
+ * <p>It's in the package of TenantRoutingDataSource to call its protected lookup methods.
+ * Liquibase is disabled and pools aren't started, so no database is needed.
+ * Uncontended variants run on one thread, contended ones - on all available processors.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TenantRoutingBenchmark {
+
+    /**
+     * Number of additional clusters the tenants are spread over, if there are enough tenants.
+     */
+    private static final int CLUSTERS = 4;
+
+    /**
+     * Number of tenants routed to additional clusters.
+     */
+    @Param({"1", "1000"})
+    public int tenants;
+
+    /**
+     * Tenant identifiers.
+     */
+    private String[] tenantIds;
+
+    /**
+     * TenantRoutingDataSource under benchmark.
+     */
+    private TenantRoutingDataSource routingDataSource;
+
+    /**
+     * Create the routing data source with tenants spread over additional clusters.
+     *
+     * @throws LiquibaseException never, Liquibase is disabled.
+     */
+    @Setup
+    public void setUp() throws LiquibaseException {
+        tenantIds = BenchmarkTenants.ids(tenants);
+        DefaultPostgresCluster defaultCluster = new DefaultPostgresCluster();
+        defaultCluster.setUrl("jdbc:postgresql://localhost:5432/default");
+        int clusterCount = Math.min(CLUSTERS, tenants);
+        List<AdditionalPostgresCluster> clusters = new ArrayList<>(clusterCount);
+        for (int i = 0; i < clusterCount; i++) {
+            AdditionalPostgresCluster cluster = new AdditionalPostgresCluster();
+            cluster.setUrl("jdbc:postgresql://cluster" + i + ":5432/benchmark");
+            int from = tenants * i / clusterCount;
+            int to = tenants * (i + 1) / clusterCount;
+            cluster.setProjects(String.join(",", Arrays.copyOfRange(tenantIds, from, to)));
+            clusters.add(cluster);
+        }
+        AdditionalPostgresClusters additionalClusters = new AdditionalPostgresClusters();
+        additionalClusters.setClusters(clusters);
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setMaximumPoolSize(10);
+        hikariConfig.setMinimumIdle(0);
+        LiquibaseProperties liquibaseProperties = new LiquibaseProperties();
+        liquibaseProperties.setEnabled(false);
+        routingDataSource = new TenantRoutingDataSource(new TenantIdentifierResolver(), new SpringLiquibase(),
+                new DefaultResourceLoader(), additionalClusters, defaultCluster, hikariConfig, liquibaseProperties);
+    }
+
+    /**
+     * Stop the routing data source.
+     */
+    @TearDown
+    public void tearDown() {
+        routingDataSource.destroy();
+    }
+
+    /**
+     * Current tenant of the benchmark thread, switched on each invocation.
+     */
+    @State(Scope.Thread)
+    public static class CurrentTenant {
+
+        /**
+         * Index of the next tenant.
+         */
+        private int next;
+
+        /**
+         * Switch the current tenant to the next one.
+         *
+         * @param benchmark TenantRoutingBenchmark state with tenants.
+         */
+        void switchTenant(final TenantRoutingBenchmark benchmark) {
+            TenantContext.setTenantInfo(benchmark.tenantIds[next]);
+            next = next + 1 == benchmark.tenantIds.length ? 0 : next + 1;
+        }
+
+        /**
+         * Clear the current tenant.
+         */
+        @TearDown
+        public void tearDown() {
+            TenantContext.clear();
+        }
+    }
+
+    /**
+     * Determine lookup key of the current tenant.
+     *
+     * @param currentTenant CurrentTenant state
+     * @return lookup key.
+     */
+    @Benchmark
+    @Threads(1)
+    public String determineCurrentLookupKey(final CurrentTenant currentTenant) {
+        currentTenant.switchTenant(this);
+        return routingDataSource.determineCurrentLookupKey();
+    }
+
+    /**
+     * Determine data source of the current tenant: lookup key and routing map lookup.
+     *
+     * @param currentTenant CurrentTenant state
+     * @return data source of the tenant cluster.
+     */
+    @Benchmark
+    @Threads(1)
+    public DataSource determineTargetDataSource(final CurrentTenant currentTenant) {
+        currentTenant.switchTenant(this);
+        return routingDataSource.determineTargetDataSource();
+    }
+
+    /**
+     * Determine data source of the current tenant on all processors.
+     *
+     * @param currentTenant CurrentTenant state
+     * @return data source of the tenant cluster.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public DataSource determineTargetDataSourceContended(final CurrentTenant currentTenant) {
+        currentTenant.switchTenant(this);
+        return routingDataSource.determineTargetDataSource();
+    }
+}
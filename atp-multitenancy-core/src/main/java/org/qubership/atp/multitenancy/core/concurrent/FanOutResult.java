@@ -0,0 +1,142 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of a task run for several tenants by {@link TenantFanOut}.
+ * <p>Results and failures are kept in completion order. Tenants which task didn't complete within the timeout
+ * are reported as timed out, and tenants which task was cancelled before the timeout (the calling thread is
+ * interrupted, or the consumer of results failed) are reported as cancelled, so partial results can be used.</p>
+ *
+ * @param <T> type of the task result
+ */
+public final class FanOutResult<T> {
+
+    /**
+     * Map of TenantId - result of the task.
+     */
+    private final Map<String, T> results = new LinkedHashMap<>();
+
+    /**
+     * Map of TenantId - exception thrown by the task.
+     */
+    private final Map<String, Throwable> failures = new LinkedHashMap<>();
+
+    /**
+     * TenantIds which task didn't complete within the timeout.
+     */
+    private final List<String> timedOut = new ArrayList<>();
+
+    /**
+     * TenantIds which task was cancelled before the timeout.
+     */
+    private final List<String> cancelled = new ArrayList<>();
+
+    /**
+     * Whether waiting for the tasks was interrupted.
+     */
+    private boolean interrupted;
+
+    void addResult(final String tenantId, final T result) {
+        results.put(tenantId, result);
+    }
+
+    void addFailure(final String tenantId, final Throwable failure) {
+        failures.put(tenantId, failure);
+    }
+
+    void addTimedOut(final String tenantId) {
+        timedOut.add(tenantId);
+    }
+
+    void addCancelled(final String tenantId) {
+        cancelled.add(tenantId);
+    }
+
+    void setInterrupted() {
+        interrupted = true;
+    }
+
+    /**
+     * Get results of the tasks completed successfully.
+     *
+     * @return unmodifiable map of TenantId - result of the task.
+     */
+    public Map<String, T> getResults() {
+        return Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * Get results of the tasks completed successfully, without tenants.
+     *
+     * @return list of results.
+     */
+    public List<T> getValues() {
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * Get exceptions thrown by the tasks.
+     *
+     * @return unmodifiable map of TenantId - exception thrown by the task.
+     */
+    public Map<String, Throwable> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Get tenants which task didn't complete within the timeout; these tasks are cancelled.
+     *
+     * @return unmodifiable list of TenantIds.
+     */
+    public List<String> getTimedOut() {
+        return Collections.unmodifiableList(timedOut);
+    }
+
+    /**
+     * Get tenants which task was cancelled before the timeout; these tasks may have been running.
+     *
+     * @return unmodifiable list of TenantIds.
+     */
+    public List<String> getCancelled() {
+        return Collections.unmodifiableList(cancelled);
+    }
+
+    /**
+     * Check if the calling thread was interrupted while waiting for the tasks.
+     *
+     * @return true if waiting was interrupted; the interrupt status of the thread is restored in this case.
+     */
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+
+    /**
+     * Check if the tasks of all tenants completed successfully.
+     *
+     * @return true if there are neither failures nor timed out or cancelled tasks.
+     */
+    public boolean isComplete() {
+        return failures.isEmpty() && timedOut.isEmpty() && cancelled.isEmpty();
+    }
+}
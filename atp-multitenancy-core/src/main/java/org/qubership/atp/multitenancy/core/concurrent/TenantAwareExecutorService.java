@@ -0,0 +1,225 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * ExecutorService running tasks with the tenant of the thread which submitted them.
+ * <p>Executor's own threads keep no tenant between tasks: the tenant is set right before a task
+ * and the previous tenant of the thread is restored right after it.</p>
+ */
+public class TenantAwareExecutorService implements ExecutorService {
+
+    /**
+     * ExecutorService tasks are delegated to.
+     */
+    private final ExecutorService delegate;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate ExecutorService to run tasks.
+     */
+    public TenantAwareExecutorService(final ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Execute task with the current tenant.
+     *
+     * @param command Runnable to be executed.
+     */
+    @Override
+    public void execute(final Runnable command) {
+        delegate.execute(TenantAwareTasks.wrap(command));
+    }
+
+    /**
+     * Submit task to run with the current tenant.
+     *
+     * @param task Callable to be run
+     * @param <T> type of the task result
+     * @return Future of the task.
+     */
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) {
+        return delegate.submit(TenantAwareTasks.wrap(task));
+    }
+
+    /**
+     * Submit task to run with the current tenant.
+     *
+     * @param task Runnable to be run
+     * @param result result to be returned on completion
+     * @param <T> type of the result
+     * @return Future of the task.
+     */
+    @Override
+    public <T> Future<T> submit(final Runnable task, final T result) {
+        return delegate.submit(TenantAwareTasks.wrap(task), result);
+    }
+
+    /**
+     * Submit task to run with the current tenant.
+     *
+     * @param task Runnable to be run
+     * @return Future of the task.
+     */
+    @Override
+    public Future<?> submit(final Runnable task) {
+        return delegate.submit(TenantAwareTasks.wrap(task));
+    }
+
+    /**
+     * Run all tasks with the current tenant.
+     *
+     * @param tasks Collection of Callable to be run
+     * @param <T> type of the tasks result
+     * @return List of Future of the tasks.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks)
+            throws InterruptedException {
+        return delegate.invokeAll(TenantAwareTasks.wrap(tasks));
+    }
+
+    /**
+     * Run all tasks with the current tenant.
+     *
+     * @param tasks Collection of Callable to be run
+     * @param timeout maximum time to wait
+     * @param unit TimeUnit of the timeout
+     * @param <T> type of the tasks result
+     * @return List of Future of the tasks.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks, final long timeout,
+                                         final TimeUnit unit) throws InterruptedException {
+        return delegate.invokeAll(TenantAwareTasks.wrap(tasks), timeout, unit);
+    }
+
+    /**
+     * Run tasks with the current tenant and return result of one completed successfully.
+     *
+     * @param tasks Collection of Callable to be run
+     * @param <T> type of the tasks result
+     * @return result of one of the tasks.
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if no task completed successfully.
+     */
+    @Override
+    public <T> T invokeAny(final Collection<? extends Callable<T>> tasks)
+            throws InterruptedException, ExecutionException {
+        return delegate.invokeAny(TenantAwareTasks.wrap(tasks));
+    }
+
+    /**
+     * Run tasks with the current tenant and return result of one completed successfully.
+     *
+     * @param tasks Collection of Callable to be run
+     * @param timeout maximum time to wait
+     * @param unit TimeUnit of the timeout
+     * @param <T> type of the tasks result
+     * @return result of one of the tasks.
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if no task completed successfully
+     * @throws TimeoutException if the timeout elapsed before any task completed successfully.
+     */
+    @Override
+    public <T> T invokeAny(final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return delegate.invokeAny(TenantAwareTasks.wrap(tasks), timeout, unit);
+    }
+
+    /**
+     * Shutdown the delegate.
+     */
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    /**
+     * Shutdown the delegate now.
+     *
+     * @return List of tasks never started.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    /**
+     * Check if the delegate is shut down.
+     *
+     * @return true if shut down.
+     */
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    /**
+     * Check if all tasks of the delegate are completed after shut down.
+     *
+     * @return true if terminated.
+     */
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    /**
+     * Wait for the delegate termination.
+     *
+     * @param timeout maximum time to wait
+     * @param unit TimeUnit of the timeout
+     * @return true if terminated, false if the timeout elapsed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Close the delegate.
+     */
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * Get ExecutorService tasks are delegated to.
+     *
+     * @return ExecutorService delegate.
+     */
+    public ExecutorService getDelegate() {
+        return delegate;
+    }
+}
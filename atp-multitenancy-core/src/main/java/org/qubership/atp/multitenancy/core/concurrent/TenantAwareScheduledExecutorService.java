@@ -0,0 +1,112 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScheduledExecutorService running tasks with the tenant of the thread which scheduled them.
+ * <p>Periodic tasks run with the same tenant on each execution.</p>
+ */
+public class TenantAwareScheduledExecutorService extends TenantAwareExecutorService
+        implements ScheduledExecutorService {
+
+    /**
+     * ScheduledExecutorService tasks are delegated to.
+     */
+    private final ScheduledExecutorService delegate;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate ScheduledExecutorService to run tasks.
+     */
+    public TenantAwareScheduledExecutorService(final ScheduledExecutorService delegate) {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    /**
+     * Schedule task to run with the current tenant.
+     *
+     * @param command Runnable to be run
+     * @param delay delay before the run
+     * @param unit TimeUnit of the delay
+     * @return ScheduledFuture of the task.
+     */
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        return delegate.schedule(TenantAwareTasks.wrap(command), delay, unit);
+    }
+
+    /**
+     * Schedule task to run with the current tenant.
+     *
+     * @param callable Callable to be run
+     * @param delay delay before the run
+     * @param unit TimeUnit of the delay
+     * @param <V> type of the task result
+     * @return ScheduledFuture of the task.
+     */
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        return delegate.schedule(TenantAwareTasks.wrap(callable), delay, unit);
+    }
+
+    /**
+     * Schedule task to run periodically with the current tenant.
+     *
+     * @param command Runnable to be run
+     * @param initialDelay delay before the first run
+     * @param period period between starts of the runs
+     * @param unit TimeUnit of the delay and period
+     * @return ScheduledFuture of the task.
+     */
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay,
+                                                  final long period, final TimeUnit unit) {
+        return delegate.scheduleAtFixedRate(TenantAwareTasks.wrap(command), initialDelay, period, unit);
+    }
+
+    /**
+     * Schedule task to run periodically with the current tenant.
+     *
+     * @param command Runnable to be run
+     * @param initialDelay delay before the first run
+     * @param delay delay between end of a run and start of the next one
+     * @param unit TimeUnit of the delays
+     * @return ScheduledFuture of the task.
+     */
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay,
+                                                     final long delay, final TimeUnit unit) {
+        return delegate.scheduleWithFixedDelay(TenantAwareTasks.wrap(command), initialDelay, delay, unit);
+    }
+
+    /**
+     * Get ScheduledExecutorService tasks are delegated to.
+     *
+     * @return ScheduledExecutorService delegate.
+     */
+    @Override
+    public ScheduledExecutorService getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Spring TaskDecorator running tasks with the tenant of the thread which submitted them.
+ * <p>Can be set to ThreadPoolTaskExecutor, SimpleAsyncTaskExecutor etc. of @Async methods.</p>
+ */
+public class TenantAwareTaskDecorator implements TaskDecorator {
+
+    /**
+     * Decorate task to run with the current tenant.
+     *
+     * @param runnable Runnable to be decorated
+     * @return Runnable running the task with the current tenant.
+     */
+    @Override
+    public Runnable decorate(final Runnable runnable) {
+        return TenantAwareTasks.wrap(runnable);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+/**
+ * Wraps tasks so that they run with the tenant of the thread which submitted them.
+ * <p>The tenant is captured when the task is wrapped and is set around the task execution,
+ * then the tenant of the executing thread is restored. The only allocation is the wrapper itself.</p>
+ */
+public final class TenantAwareTasks {
+
+    /**
+     * Constructor.
+     */
+    private TenantAwareTasks() {
+    }
+
+    /**
+     * Wrap task to run with the current tenant.
+     *
+     * @param task Runnable to be wrapped
+     * @return Runnable running the task with the current tenant.
+     */
+    public static Runnable wrap(final Runnable task) {
+        String tenant = TenantContext.getTenantInfo();
+        return () -> TenantContext.runAs(tenant, task);
+    }
+
+    /**
+     * Wrap task to run with the current tenant.
+     *
+     * @param task Callable to be wrapped
+     * @param <T> type of the task result
+     * @return Callable running the task with the current tenant.
+     */
+    public static <T> Callable<T> wrap(final Callable<T> task) {
+        String tenant = TenantContext.getTenantInfo();
+        return () -> TenantContext.runAs(tenant, task);
+    }
+
+    /**
+     * Wrap all tasks to run with the current tenant.
+     *
+     * @param tasks Collection of Callable to be wrapped
+     * @param <T> type of the tasks result
+     * @return List of Callable running the tasks with the current tenant.
+     */
+    public static <T> List<Callable<T>> wrap(final Collection<? extends Callable<T>> tasks) {
+        String tenant = TenantContext.getTenantInfo();
+        List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(() -> TenantContext.runAs(tenant, task));
+        }
+        return wrapped;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+/**
+ * Runs a task for each cluster or for each tenant concurrently, with the tenant bound to {@link TenantContext}.
+ * <p>Instead of a sequential loop over {@code TenantContext.getTenantIds(true)}, the task is run for all tenants
+ * at once, at most parallelism of them at a time, so a cross-cluster request takes about the latency
+ * of the slowest cluster. Tasks not completed within the timeout are cancelled, and results of the other ones
+ * are returned. Sorted results of tenants can be merged by {@link #mergeSorted(Collection, Comparator, int)}.</p>
+ * <pre>{@code
+ * FanOutResult<List<Run>> runs = fanOut.forEachCluster(() -> runRepository.findLatest(100));
+ * List<Run> latest = TenantFanOut.mergeSorted(runs.getResults().values(), BY_START_DESC, 100);
+ * }</pre>
+ */
+public class TenantFanOut implements AutoCloseable {
+
+    /**
+     * Executor of the tasks.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Whether the executor is created by this object, so it's shut down on close.
+     */
+    private final boolean ownExecutor;
+
+    /**
+     * Permits limiting number of tasks run at the same time.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Maximum time to wait for all tasks; null for no timeout.
+     */
+    private final Duration timeout;
+
+    /**
+     * Constructor with tasks run on virtual threads.
+     *
+     * @param parallelism maximum number of tasks run at the same time
+     * @param timeout maximum time to wait for all tasks; null for no timeout.
+     */
+    public TenantFanOut(final int parallelism, final Duration timeout) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), true, parallelism, timeout);
+    }
+
+    /**
+     * Constructor with tasks run on the executor given; the executor isn't shut down on close.
+     *
+     * @param executor ExecutorService to run tasks
+     * @param parallelism maximum number of tasks run at the same time
+     * @param timeout maximum time to wait for all tasks; null for no timeout.
+     */
+    public TenantFanOut(final ExecutorService executor, final int parallelism, final Duration timeout) {
+        this(executor, false, parallelism, timeout);
+    }
+
+    private TenantFanOut(final ExecutorService executor,
+                         final boolean ownExecutor,
+                         final int parallelism,
+                         final Duration timeout) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.executor = executor;
+        this.ownExecutor = ownExecutor;
+        this.permits = new Semaphore(parallelism);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Run the task for one tenant of each cluster.
+     *
+     * @param task Callable to be run under each tenant
+     * @param <T> type of the task result
+     * @return FanOutResult with results by tenant.
+     */
+    public <T> FanOutResult<T> forEachCluster(final Callable<T> task) {
+        return forTenants(TenantContext.getTenantIds(true), task);
+    }
+
+    /**
+     * Run the task for each registered tenant.
+     *
+     * @param task Callable to be run under each tenant
+     * @param <T> type of the task result
+     * @return FanOutResult with results by tenant.
+     */
+    public <T> FanOutResult<T> forEachTenant(final Callable<T> task) {
+        return forTenants(TenantContext.getTenantIds(false), task);
+    }
+
+    /**
+     * Run the task for each tenant given.
+     *
+     * @param tenantIds Collection of TenantIds
+     * @param task Callable to be run under each tenant
+     * @param <T> type of the task result
+     * @return FanOutResult with results by tenant.
+     */
+    public <T> FanOutResult<T> forTenants(final Collection<String> tenantIds, final Callable<T> task) {
+        return stream(tenantIds, task, (tenantId, result) -> {
+        });
+    }
+
+    /**
+     * Run the task for each tenant given, and pass results to the consumer as soon as they are ready.
+     * The consumer is called on the calling thread, in completion order, so it doesn't need synchronization.
+     * If the consumer throws an exception, the tasks not completed yet are cancelled.
+     * If the calling thread is interrupted, the tasks not completed yet are cancelled and reported
+     * by {@link FanOutResult#getCancelled()}, the result is flagged {@link FanOutResult#isInterrupted()},
+     * and the interrupt status of the thread is restored.
+     *
+     * @param tenantIds Collection of TenantIds
+     * @param task Callable to be run under each tenant
+     * @param consumer BiConsumer of TenantId and result of the task
+     * @param <T> type of the task result
+     * @return FanOutResult with results by tenant.
+     */
+    public <T> FanOutResult<T> stream(final Collection<String> tenantIds,
+                                      final Callable<T> task,
+                                      final BiConsumer<String, ? super T> consumer) {
+        List<String> tenants = new ArrayList<>(new LinkedHashSet<>(tenantIds));
+        FanOutResult<T> result = new FanOutResult<>();
+        ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        Map<Future<T>, String> running = new HashMap<>();
+        long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+        boolean expired = false;
+        try {
+            for (String tenantId : tenants) {
+                running.put(completionService.submit(() -> call(tenantId, task)), tenantId);
+            }
+            while (!running.isEmpty()) {
+                Future<T> future = timeout == null
+                        ? completionService.take()
+                        : completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (future == null) {
+                    expired = true;
+                    break;
+                }
+                String tenantId = running.remove(future);
+                T value;
+                try {
+                    value = future.get();
+                } catch (ExecutionException e) {
+                    result.addFailure(tenantId, e.getCause());
+                    continue;
+                } catch (CancellationException e) {
+                    result.addCancelled(tenantId);
+                    continue;
+                }
+                result.addResult(tenantId, value);
+                consumer.accept(tenantId, value);
+            }
+        } catch (InterruptedException e) {
+            result.setInterrupted();
+            Thread.currentThread().interrupt();
+        } finally {
+            for (Map.Entry<Future<T>, String> entry : running.entrySet()) {
+                entry.getKey().cancel(true);
+                if (expired) {
+                    result.addTimedOut(entry.getValue());
+                } else {
+                    result.addCancelled(entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    private <T> T call(final String tenantId, final Callable<T> task) throws Exception {
+        permits.acquire();
+        try {
+            return TenantContext.runAs(tenantId, task);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Merge lists sorted by the comparator into one sorted list (k-way merge).
+     *
+     * @param sortedLists Collection of lists, each one sorted by the comparator
+     * @param comparator Comparator of elements
+     * @param limit maximum number of elements in the result; 0 or negative for no limit
+     * @param <T> type of elements
+     * @return merged sorted list.
+     */
+    public static <T> List<T> mergeSorted(final Collection<? extends List<? extends T>> sortedLists,
+                                          final Comparator<? super T> comparator,
+                                          final int limit) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (first, second) -> comparator.compare(first.head(), second.head()));
+        int size = 0;
+        for (List<? extends T> list : sortedLists) {
+            if (list != null && !list.isEmpty()) {
+                Iterator<? extends T> iterator = list.iterator();
+                heads.add(new Cursor<>(iterator.next(), iterator));
+                size += list.size();
+            }
+        }
+        int max = limit > 0 ? Math.min(limit, size) : size;
+        List<T> merged = new ArrayList<>(max);
+        while (merged.size() < max) {
+            Cursor<T> cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.rest().hasNext()) {
+                heads.add(new Cursor<>(cursor.rest().next(), cursor.rest()));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Shut down the executor if it's created by this object.
+     */
+    @Override
+    public void close() {
+        if (ownExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Current element of a sorted list and the rest of the list.
+     *
+     * @param head current element
+     * @param rest Iterator over the rest of the list
+     * @param <T> type of elements
+     */
+    private record Cursor<T>(T head, Iterator<? extends T> rest) {
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.context;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+
+/**
+ * Scope of {@link TenantContext#runAs(String, Runnable)}, carried by {@code java.lang.ScopedValue},
+ * which is final since Java 25, or by a non-inheritable ThreadLocal otherwise.
+ * <p>The library is compiled for Java 21, where ScopedValue is a preview API,
+ * so it's accessed via method handles and is available only when the service runs on Java 25+.
+ * It can be switched off by {@code -Datp.multi-tenancy.context.scoped-value=false}.</p>
+ * <p>The scope holds a mutable tenant, so changes of Tenant Info inside the scope behave the same
+ * regardless of the carrier.</p>
+ */
+final class ScopedTenant {
+
+    /**
+     * Java feature version where ScopedValue is final.
+     */
+    private static final int SCOPED_VALUE_JAVA_VERSION = 25;
+
+    /**
+     * Scope of the current thread, used when ScopedValue isn't available.
+     */
+    private static final ThreadLocal<ScopedTenant> SCOPE = new ThreadLocal<>();
+
+    /**
+     * ScopedValue.isBound() bound to the scope ScopedValue; null if ScopedValue isn't available.
+     */
+    private static final MethodHandle IS_BOUND;
+
+    /**
+     * ScopedValue.get() bound to the scope ScopedValue.
+     */
+    private static final MethodHandle GET;
+
+    /**
+     * ScopedValue.where(ScopedValue, Object) with the scope ScopedValue bound as the first argument.
+     */
+    private static final MethodHandle WHERE;
+
+    /**
+     * ScopedValue.Carrier.run(Runnable).
+     */
+    private static final MethodHandle RUN;
+
+    static {
+        MethodHandle isBound = null;
+        MethodHandle get = null;
+        MethodHandle where = null;
+        MethodHandle run = null;
+        if (Runtime.version().feature() >= SCOPED_VALUE_JAVA_VERSION
+                && Boolean.parseBoolean(System.getProperty("atp.multi-tenancy.context.scoped-value", "true"))) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+                Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+                Object key = lookup.findStatic(scopedValue, "newInstance", MethodType.methodType(scopedValue))
+                        .invoke();
+                isBound = lookup.findVirtual(scopedValue, "isBound", MethodType.methodType(boolean.class))
+                        .bindTo(key);
+                get = lookup.findVirtual(scopedValue, "get", MethodType.methodType(Object.class)).bindTo(key);
+                where = MethodHandles.insertArguments(lookup.findStatic(scopedValue, "where",
+                        MethodType.methodType(carrier, scopedValue, Object.class)), 0, key);
+                run = lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class));
+            } catch (Throwable e) {
+                isBound = null;
+            }
+        }
+        IS_BOUND = isBound;
+        GET = get;
+        WHERE = where;
+        RUN = run;
+    }
+
+    /**
+     * Thread which has opened the scope.
+     */
+    private final Thread owner = Thread.currentThread();
+
+    /**
+     * Tenant of the scope; null if it's cleared.
+     */
+    private String tenant;
+
+    /**
+     * Constructor.
+     *
+     * @param tenant String tenant id.
+     */
+    ScopedTenant(final String tenant) {
+        this.tenant = tenant;
+    }
+
+    /**
+     * Check if ScopedValue is available.
+     *
+     * @return true if scope can be carried by ScopedValue.
+     */
+    static boolean isAvailable() {
+        return IS_BOUND != null;
+    }
+
+    /**
+     * Get scope of the current thread.
+     *
+     * @return scope, or null if the thread doesn't run in a scope.
+     */
+    static ScopedTenant current() {
+        if (IS_BOUND == null) {
+            return SCOPE.get();
+        }
+        try {
+            return (boolean) IS_BOUND.invokeExact() ? (ScopedTenant) (Object) GET.invokeExact() : null;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Can't get tenant scope", e);
+        }
+    }
+
+    /**
+     * Run task in the scope given.
+     *
+     * @param scope ScopedTenant scope to be bound
+     * @param task Runnable to be run.
+     */
+    static void run(final ScopedTenant scope, final Runnable task) {
+        if (IS_BOUND == null) {
+            ScopedTenant previous = enter(scope);
+            try {
+                task.run();
+            } finally {
+                exit(previous);
+            }
+            return;
+        }
+        bind(scope, task);
+    }
+
+    /**
+     * Call task in the scope given.
+     *
+     * @param scope ScopedTenant scope to be bound
+     * @param task Callable to be called
+     * @param <T> result type
+     * @return result of the task.
+     * @throws Exception thrown by the task.
+     */
+    static <T> T call(final ScopedTenant scope, final Callable<T> task) throws Exception {
+        if (IS_BOUND == null) {
+            ScopedTenant previous = enter(scope);
+            try {
+                return task.call();
+            } finally {
+                exit(previous);
+            }
+        }
+        Call<T> call = new Call<>(task);
+        bind(scope, call);
+        return call.getResult();
+    }
+
+    private static ScopedTenant enter(final ScopedTenant scope) {
+        ScopedTenant previous = SCOPE.get();
+        SCOPE.set(scope);
+        return previous;
+    }
+
+    private static void exit(final ScopedTenant previous) {
+        if (previous == null) {
+            SCOPE.remove();
+        } else {
+            SCOPE.set(previous);
+        }
+    }
+
+    private static void bind(final ScopedTenant scope, final Runnable task) {
+        Object carrier;
+        try {
+            carrier = WHERE.invoke(scope);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Can't bind tenant scope", e);
+        }
+        try {
+            RUN.invoke(carrier, task);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Check if the scope is opened by the current thread; other threads (e.g. forks of a structured task scope)
+     * may read its tenant, but don't change it.
+     *
+     * @return true if the current thread owns the scope.
+     */
+    boolean isOwnedByCurrentThread() {
+        return owner == Thread.currentThread();
+    }
+
+    /**
+     * Get tenant of the scope.
+     *
+     * @return tenant id; null if it's cleared.
+     */
+    String getTenant() {
+        return tenant;
+    }
+
+    /**
+     * Set tenant of the scope.
+     *
+     * @param tenant String tenant id; null to clear it.
+     */
+    void setTenant(final String tenant) {
+        this.tenant = tenant;
+    }
+
+    /**
+     * Callable run by the scope carrier, holding the outcome until the scope is closed.
+     *
+     * @param <T> result type
+     */
+    private static final class Call<T> implements Runnable {
+
+        /**
+         * Task to be called.
+         */
+        private final Callable<T> task;
+
+        /**
+         * Result of the task.
+         */
+        private T result;
+
+        /**
+         * Exception thrown by the task; null if it completed normally.
+         */
+        private Exception failure;
+
+        /**
+         * Constructor.
+         *
+         * @param task Callable to be called.
+         */
+        private Call(final Callable<T> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result = task.call();
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+
+        /**
+         * Get result of the task.
+         *
+         * @return result of the task.
+         * @throws Exception thrown by the task.
+         */
+        private T getResult() throws Exception {
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+    }
+}
@@ -17,32 +17,37 @@
 package org.qubership.atp.multitenancy.core.context;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 public final class TenantContext {
 
     /**
      * Default Tenant Name.
      */
-    private static final String DEFAULT_TENANT = "default";
+    public static final String DEFAULT_TENANT = "default";
 
     /**
-     * Tenant Info ThreadLocal String (inheritable).
+     * Tenant Info ThreadLocal String; not copied to child threads
+     * unless {@code -Datp.multi-tenancy.context.inheritable=true} is set.
      */
-    private static final ThreadLocal<String> TENANT_INFO = new InheritableThreadLocal<>();
+    private static final ThreadLocal<String> TENANT_INFO =
+            Boolean.parseBoolean(System.getProperty("atp.multi-tenancy.context.inheritable", "false"))
+                    ? new InheritableThreadLocal<>()
+                    : new ThreadLocal<>();
 
     /**
-     * Set of Tenant ID Strings.
+     * Current snapshot of registered tenants; replaced as a whole on each change.
      */
-    private static final Set<String> TENANT_IDS = new HashSet<>();
+    private static final AtomicReference<TenantRegistry> REGISTRY = new AtomicReference<>(TenantRegistry.EMPTY);
 
     /**
-     * Map of ClusterId - TenantId (where TenantId resides).
+     * Listeners of registered tenants changes.
      */
-    private static final Map<String, String> TENANT_IDS_PER_CLUSTER = new HashMap<>();
+    private static final List<TenantRegistryListener> LISTENERS = new CopyOnWriteArrayList<>();
 
     /**
      * Constructor.
@@ -52,37 +57,91 @@ public final class TenantContext {
 
     /**
      * Get Tenant Info.
+     * Tenant of the innermost {@link #runAs(String, Runnable)} scope of the current thread takes precedence over
+     * the one set by {@link #setTenantInfo(String)} outside of the scope.
      *
      * @return The current Tenant Info String.
      */
     public static String getTenantInfo() {
-        if (null != TENANT_INFO.get()) {
-            return TENANT_INFO.get();
+        ScopedTenant scope = ScopedTenant.current();
+        String tenant;
+        if (scope == null) {
+            tenant = TENANT_INFO.get();
+        } else if (scope.isOwnedByCurrentThread()) {
+            tenant = scope.getTenant();
+        } else {
+            tenant = TENANT_INFO.get();
+            if (tenant == null) {
+                tenant = scope.getTenant();
+            }
         }
-        return DEFAULT_TENANT;
+        return tenant != null ? tenant : DEFAULT_TENANT;
     }
 
     /**
-     * Set Tenant Info.
+     * Run task under the tenant given; the previous Tenant Info is restored after the task.
+     * Inside the task, {@link #setTenantInfo(String)}, {@link #clear()} and {@link #setDefaultTenantInfo()}
+     * change the tenant of the task until it ends. The tenant isn't copied to child threads started by the task.
+     * The scope is carried by ScopedValue when available (Java 25+), otherwise by a non-inheritable ThreadLocal;
+     * the semantics are the same.
+     *
+     * @param tenant String tenant id
+     * @param task Runnable to be run.
+     */
+    public static void runAs(final String tenant, final Runnable task) {
+        ScopedTenant.run(new ScopedTenant(tenant), task);
+    }
+
+    /**
+     * Call task under the tenant given; the previous Tenant Info is restored after the task.
+     *
+     * @param tenant String tenant id
+     * @param task Callable to be called
+     * @param <T> result type
+     * @return result of the task.
+     * @throws Exception thrown by the task.
+     * @see #runAs(String, Runnable)
+     */
+    public static <T> T runAs(final String tenant, final Callable<T> task) throws Exception {
+        return ScopedTenant.call(new ScopedTenant(tenant), task);
+    }
+
+    /**
+     * Set Tenant Info; inside {@link #runAs(String, Runnable)} the tenant of the task is changed.
      *
      * @param tenant String tenant id.
      */
     public static void setTenantInfo(final String tenant) {
-        TENANT_INFO.set(tenant);
+        ScopedTenant scope = ownScope();
+        if (scope != null) {
+            scope.setTenant(tenant);
+        } else {
+            TENANT_INFO.set(tenant);
+        }
     }
 
     /**
-     * Clear Tenant Info.
+     * Clear Tenant Info; inside {@link #runAs(String, Runnable)} the tenant of the task is cleared.
      */
     public static void clear() {
-        TENANT_INFO.remove();
+        ScopedTenant scope = ownScope();
+        if (scope != null) {
+            scope.setTenant(null);
+        } else {
+            TENANT_INFO.remove();
+        }
     }
 
     /**
      * Set Default Tenant Info.
      */
     public static void setDefaultTenantInfo() {
-        TENANT_INFO.set(DEFAULT_TENANT);
+        setTenantInfo(DEFAULT_TENANT);
+    }
+
+    private static ScopedTenant ownScope() {
+        ScopedTenant scope = ScopedTenant.current();
+        return scope != null && scope.isOwnedByCurrentThread() ? scope : null;
     }
 
     /**
@@ -92,8 +151,48 @@ public final class TenantContext {
      * @param tenantId String tenantId
      */
     public static void addTenantId(final String clusterId, final String tenantId) {
-        TENANT_IDS.add(tenantId);
-        TENANT_IDS_PER_CLUSTER.putIfAbsent(clusterId, tenantId);
+        addTenantIds(clusterId, List.of(tenantId));
+    }
+
+    /**
+     * Add tenantIds under clusterId, as one change of the registry.
+     *
+     * @param clusterId String clusterId
+     * @param tenantIds Collection of tenantIds.
+     */
+    public static void addTenantIds(final String clusterId, final Collection<String> tenantIds) {
+        TenantRegistry previous;
+        TenantRegistry current;
+        do {
+            previous = REGISTRY.get();
+            current = previous.addAll(clusterId, tenantIds);
+            if (current == previous) {
+                return;
+            }
+        } while (!REGISTRY.compareAndSet(previous, current));
+        notifyListeners(current);
+    }
+
+    /**
+     * Replace all tenantIds by the tenantIds given.
+     *
+     * @param clusterTenantIds Map of ClusterId - TenantIds residing in the cluster.
+     */
+    public static void replaceTenantIds(final Map<String, ? extends Collection<String>> clusterTenantIds) {
+        notifyListeners(REGISTRY.updateAndGet(previous -> previous.replace(clusterTenantIds)));
+    }
+
+    /**
+     * Replace tenantIds of the clusters owned by the caller: tenants of removedClusterIds are removed,
+     * and tenants of clusterTenantIds are set; tenants of other clusters (e.g. added by {@link #addTenantId})
+     * are kept.
+     *
+     * @param removedClusterIds Collection of ClusterIds previously set by the caller
+     * @param clusterTenantIds Map of ClusterId - TenantIds residing in the cluster.
+     */
+    public static void replaceTenantIds(final Collection<String> removedClusterIds,
+                                        final Map<String, ? extends Collection<String>> clusterTenantIds) {
+        notifyListeners(REGISTRY.updateAndGet(previous -> previous.replace(removedClusterIds, clusterTenantIds)));
     }
 
     /**
@@ -101,12 +200,63 @@ public final class TenantContext {
      *
      * @param oneTenantIdPerCluster true to return one of tenant identifiers for a cluster,
      *                             or false to return all tenant identifiers
-     * @return list of tenant IDs.
+     * @return unmodifiable collection of tenant IDs.
      */
     public static Collection<String> getTenantIds(final boolean oneTenantIdPerCluster) {
-        if (oneTenantIdPerCluster) {
-            return TENANT_IDS_PER_CLUSTER.values();
+        TenantRegistry registry = REGISTRY.get();
+        return oneTenantIdPerCluster ? registry.getTenantIdPerCluster() : registry.getTenantIds();
+    }
+
+    /**
+     * Return all Tenant IDs residing in the cluster.
+     *
+     * @param clusterId String clusterId
+     * @return unmodifiable list of tenant IDs; empty if cluster is unknown.
+     */
+    public static List<String> getTenantIds(final String clusterId) {
+        return REGISTRY.get().getTenantIds(clusterId);
+    }
+
+    /**
+     * Check if tenantId is registered.
+     *
+     * @param tenantId String tenantId
+     * @return true if tenantId is registered under some cluster.
+     */
+    public static boolean containsTenantId(final String tenantId) {
+        return REGISTRY.get().contains(tenantId);
+    }
+
+    /**
+     * Get current snapshot of registered tenants.
+     *
+     * @return TenantRegistry immutable snapshot.
+     */
+    public static TenantRegistry getTenantRegistry() {
+        return REGISTRY.get();
+    }
+
+    /**
+     * Add listener of registered tenants changes.
+     *
+     * @param listener TenantRegistryListener to be notified.
+     */
+    public static void addTenantRegistryListener(final TenantRegistryListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Remove listener of registered tenants changes.
+     *
+     * @param listener TenantRegistryListener to be removed.
+     */
+    public static void removeTenantRegistryListener(final TenantRegistryListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    private static void notifyListeners(final TenantRegistry registry) {
+        for (TenantRegistryListener listener : LISTENERS) {
+            listener.onTenantsChanged(registry);
         }
-        return TENANT_IDS;
     }
 }
@@ -0,0 +1,210 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.context;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of registered tenants and clusters where they reside.
+ * <p>A new snapshot with incremented version is created on each change of tenants,
+ * so the snapshot can be safely read from any thread and cached by its version.</p>
+ */
+public final class TenantRegistry {
+
+    /**
+     * Empty registry.
+     */
+    static final TenantRegistry EMPTY = new TenantRegistry(0, Map.of());
+
+    /**
+     * Version of the snapshot.
+     */
+    private final long version;
+
+    /**
+     * Set of Tenant ID Strings.
+     */
+    private final Set<String> tenantIds;
+
+    /**
+     * Map of ClusterId - TenantIds residing in the cluster.
+     */
+    private final Map<String, List<String>> clusterTenantIds;
+
+    /**
+     * Map of ClusterId - TenantId (first one of the cluster).
+     */
+    private final Map<String, String> tenantIdPerCluster;
+
+    /**
+     * Map of TenantId - ClusterId (where TenantId resides).
+     */
+    private final Map<String, String> tenantClusters;
+
+    private TenantRegistry(final long version, final Map<String, ? extends Collection<String>> clusterTenantIds) {
+        Set<String> ids = new HashSet<>();
+        Map<String, List<String>> idsOfClusters = new LinkedHashMap<>();
+        Map<String, String> idPerCluster = new HashMap<>();
+        Map<String, String> clusters = new HashMap<>();
+        clusterTenantIds.forEach((clusterId, clusterIds) -> {
+            if (clusterIds.isEmpty()) {
+                return;
+            }
+            idsOfClusters.put(clusterId, List.copyOf(clusterIds));
+            idPerCluster.put(clusterId, clusterIds.iterator().next());
+            for (String tenantId : clusterIds) {
+                ids.add(tenantId);
+                clusters.putIfAbsent(tenantId, clusterId);
+            }
+        });
+        this.version = version;
+        this.tenantIds = Collections.unmodifiableSet(ids);
+        this.clusterTenantIds = Collections.unmodifiableMap(idsOfClusters);
+        this.tenantIdPerCluster = Collections.unmodifiableMap(idPerCluster);
+        this.tenantClusters = Collections.unmodifiableMap(clusters);
+    }
+
+    /**
+     * Create the next version of the registry with tenants given.
+     *
+     * @param clusterTenantIds Map of ClusterId - TenantIds residing in the cluster.
+     * @return new TenantRegistry object.
+     */
+    TenantRegistry replace(final Map<String, ? extends Collection<String>> clusterTenantIds) {
+        return new TenantRegistry(version + 1, clusterTenantIds);
+    }
+
+    /**
+     * Create the next version of the registry where tenants of the clusters removed are replaced
+     * by the tenants given; tenants of other clusters are kept.
+     *
+     * @param removedClusterIds Collection of ClusterIds which tenants are removed
+     * @param clusterTenantIds Map of ClusterId - TenantIds residing in the cluster.
+     * @return new TenantRegistry object.
+     */
+    TenantRegistry replace(final Collection<String> removedClusterIds,
+                           final Map<String, ? extends Collection<String>> clusterTenantIds) {
+        Map<String, Collection<String>> idsOfClusters = new LinkedHashMap<>(this.clusterTenantIds);
+        idsOfClusters.keySet().removeAll(removedClusterIds);
+        idsOfClusters.putAll(clusterTenantIds);
+        return replace(idsOfClusters);
+    }
+
+    /**
+     * Create the next version of the registry with tenantIds added under clusterId.
+     *
+     * @param clusterId String clusterId
+     * @param tenantIds Collection of tenantIds
+     * @return new TenantRegistry object; this object if all tenantIds are already registered under clusterId.
+     */
+    TenantRegistry addAll(final String clusterId, final Collection<String> tenantIds) {
+        List<String> existing = getTenantIds(clusterId);
+        Set<String> clusterIds = new LinkedHashSet<>(existing);
+        clusterIds.addAll(tenantIds);
+        if (clusterIds.size() == existing.size()) {
+            return this;
+        }
+        Map<String, Collection<String>> idsOfClusters = new LinkedHashMap<>(clusterTenantIds);
+        idsOfClusters.put(clusterId, clusterIds);
+        return replace(idsOfClusters);
+    }
+
+    /**
+     * Get version of the snapshot; it's incremented on each change of tenants.
+     *
+     * @return version number.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Check if tenantId is registered.
+     *
+     * @param tenantId String tenantId
+     * @return true if tenantId is registered under some cluster.
+     */
+    public boolean contains(final String tenantId) {
+        return tenantId != null && tenantIds.contains(tenantId);
+    }
+
+    /**
+     * Check if tenantId is registered under clusterId.
+     *
+     * @param clusterId String clusterId
+     * @param tenantId String tenantId
+     * @return true if tenantId is registered under clusterId.
+     */
+    public boolean contains(final String clusterId, final String tenantId) {
+        return clusterId != null && clusterId.equals(getClusterId(tenantId));
+    }
+
+    /**
+     * Get all tenantIds.
+     *
+     * @return unmodifiable set of tenantIds.
+     */
+    public Set<String> getTenantIds() {
+        return tenantIds;
+    }
+
+    /**
+     * Get one tenantId per cluster.
+     *
+     * @return unmodifiable collection of tenantIds, one for each cluster.
+     */
+    public Collection<String> getTenantIdPerCluster() {
+        return tenantIdPerCluster.values();
+    }
+
+    /**
+     * Get all tenantIds residing in the cluster.
+     *
+     * @param clusterId String clusterId
+     * @return unmodifiable list of tenantIds; empty if cluster is unknown.
+     */
+    public List<String> getTenantIds(final String clusterId) {
+        return clusterId == null ? List.of() : clusterTenantIds.getOrDefault(clusterId, List.of());
+    }
+
+    /**
+     * Get all clusters with their tenantIds.
+     *
+     * @return unmodifiable map of ClusterId - TenantIds residing in the cluster.
+     */
+    public Map<String, List<String>> getClusterTenantIds() {
+        return clusterTenantIds;
+    }
+
+    /**
+     * Get cluster where tenantId resides.
+     *
+     * @param tenantId String tenantId
+     * @return clusterId, or null if tenantId isn't registered.
+     */
+    public String getClusterId(final String tenantId) {
+        return tenantId == null ? null : tenantClusters.get(tenantId);
+    }
+}
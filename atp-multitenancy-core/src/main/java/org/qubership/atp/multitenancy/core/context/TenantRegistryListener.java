@@ -0,0 +1,30 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.context;
+
+@FunctionalInterface
+public interface TenantRegistryListener {
+
+    /**
+     * Process change of registered tenants.
+     * Notifications of concurrent changes may come out of order, so the version of the registry
+     * should be compared with the last processed one.
+     *
+     * @param registry TenantRegistry new snapshot of tenants.
+     */
+    void onTenantsChanged(TenantRegistry registry);
+}
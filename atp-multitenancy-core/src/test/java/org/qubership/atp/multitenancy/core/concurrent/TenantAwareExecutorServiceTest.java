@@ -0,0 +1,132 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+public class TenantAwareExecutorServiceTest {
+
+    /**
+     * Executor tasks are delegated to; its only thread is started under tenant "pool".
+     */
+    private ExecutorService delegate;
+
+    /**
+     * Executor under test.
+     */
+    private TenantAwareExecutorService executor;
+
+    /**
+     * Start the pool thread under tenant "pool", so the thread has its own tenant.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        delegate = Executors.newSingleThreadExecutor();
+        executor = new TenantAwareExecutorService(delegate);
+        TenantContext.setTenantInfo("pool");
+        delegate.submit(() -> TenantContext.setTenantInfo("pool")).get();
+        TenantContext.clear();
+    }
+
+    /**
+     * Shut down the executor and clear Tenant Info of the test thread.
+     */
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        TenantContext.clear();
+    }
+
+    /**
+     * Test that the task runs with the tenant of the submitting thread at submit time, even if the tenant
+     * is changed before the task is run, and the tenant of the pool thread is restored afterwards.
+     */
+    @Test
+    public void testSubmitShouldRunTaskWithTenantOfSubmitTimeWhenTenantIsChangedBeforeRun() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        delegate.execute(() -> awaitQuietly(release));
+        TenantContext.setTenantInfo("a");
+        Future<String> future = executor.submit(TenantContext::getTenantInfo);
+        TenantContext.setTenantInfo("b");
+        release.countDown();
+
+        assertEquals("a", future.get(10, TimeUnit.SECONDS));
+        assertEquals("pool", delegate.submit(TenantContext::getTenantInfo).get(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that execute and submit of Runnable run with the tenant of the submitting thread.
+     */
+    @Test
+    public void testExecuteShouldRunRunnableWithTenantOfSubmittingThreadWhenTaskIsExecuted() throws Exception {
+        String[] seen = new String[2];
+        TenantContext.setTenantInfo("a");
+        executor.execute(() -> seen[0] = TenantContext.getTenantInfo());
+        TenantContext.setTenantInfo("b");
+        executor.submit(() -> {
+            seen[1] = TenantContext.getTenantInfo();
+        }).get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("a", "b"), List.of(seen));
+    }
+
+    /**
+     * Test that invokeAll and invokeAny run all tasks with the tenant of the invoking thread.
+     */
+    @Test
+    public void testInvokeAllShouldRunAllTasksWithTenantOfInvokingThreadWhenTasksAreInvoked() throws Exception {
+        TenantContext.setTenantInfo("a");
+        List<Callable<String>> tasks = List.of(TenantContext::getTenantInfo, TenantContext::getTenantInfo);
+        List<String> tenants = executor.invokeAll(tasks).stream()
+                .map(TenantAwareExecutorServiceTest::getQuietly)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("a", "a"), tenants);
+        assertEquals("a", executor.invokeAny(tasks));
+        assertEquals("pool", delegate.submit(TenantContext::getTenantInfo).get(10, TimeUnit.SECONDS));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String getQuietly(final Future<String> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+public class TenantAwareScheduledExecutorServiceTest {
+
+    /**
+     * Executor under test.
+     */
+    private TenantAwareScheduledExecutorService executor;
+
+    /**
+     * Create the executor; its thread is started under tenant "pool".
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        executor = new TenantAwareScheduledExecutorService(Executors.newSingleThreadScheduledExecutor());
+        TenantContext.setTenantInfo("pool");
+        executor.getDelegate().submit(() -> TenantContext.setTenantInfo("pool")).get();
+        TenantContext.clear();
+    }
+
+    /**
+     * Shut down the executor and clear Tenant Info of the test thread.
+     */
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        TenantContext.clear();
+    }
+
+    /**
+     * Test that a delayed task runs with the tenant of schedule time, even if the tenant is changed
+     * before the task is run.
+     */
+    @Test
+    public void testScheduleShouldRunTaskWithTenantOfScheduleTimeWhenTenantIsChangedBeforeRun() throws Exception {
+        TenantContext.setTenantInfo("a");
+        ScheduledFuture<String> future = executor.schedule(TenantContext::getTenantInfo, 50, TimeUnit.MILLISECONDS);
+        TenantContext.setTenantInfo("b");
+
+        assertEquals("a", future.get(10, TimeUnit.SECONDS));
+        assertEquals("pool", executor.getDelegate().submit(TenantContext::getTenantInfo).get(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that each run of a periodic task has the tenant of schedule time.
+     */
+    @Test
+    public void testScheduleAtFixedRateShouldRunEachExecutionWithTenantOfScheduleTimeWhenTaskIsPeriodic()
+            throws Exception {
+        List<String> tenants = new CopyOnWriteArrayList<>();
+        CountDownLatch runs = new CountDownLatch(3);
+        TenantContext.setTenantInfo("a");
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(() -> {
+            tenants.add(TenantContext.getTenantInfo());
+            TenantContext.setTenantInfo("changed-by-task");
+            runs.countDown();
+        }, 0, 10, TimeUnit.MILLISECONDS);
+        TenantContext.setTenantInfo("b");
+
+        assertTrue(runs.await(10, TimeUnit.SECONDS));
+        future.cancel(false);
+        assertEquals(List.of("a", "a", "a"), tenants.subList(0, 3));
+    }
+
+    /**
+     * Test that each run of a task scheduled with fixed delay has the tenant of schedule time.
+     */
+    @Test
+    public void testScheduleWithFixedDelayShouldRunEachExecutionWithTenantOfScheduleTimeWhenTaskIsPeriodic()
+            throws Exception {
+        List<String> tenants = new CopyOnWriteArrayList<>();
+        CountDownLatch runs = new CountDownLatch(2);
+        TenantContext.setTenantInfo("a");
+        ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
+            tenants.add(TenantContext.getTenantInfo());
+            runs.countDown();
+        }, 0, 10, TimeUnit.MILLISECONDS);
+        TenantContext.clear();
+
+        assertTrue(runs.await(10, TimeUnit.SECONDS));
+        future.cancel(false);
+        assertEquals(List.of("a", "a"), tenants.subList(0, 2));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+public class TenantAwareTaskDecoratorTest {
+
+    /**
+     * Decorator under test.
+     */
+    private final TenantAwareTaskDecorator decorator = new TenantAwareTaskDecorator();
+
+    /**
+     * Clear Tenant Info of the test thread.
+     */
+    @AfterEach
+    public void tearDown() {
+        TenantContext.clear();
+    }
+
+    /**
+     * Test that the decorated task runs with the tenant of decoration time on another thread,
+     * even if the tenant of the decorating thread is changed before the run.
+     */
+    @Test
+    public void testDecorateShouldRunTaskWithTenantOfDecorationTimeWhenTaskRunsOnAnotherThread() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        TenantContext.setTenantInfo("a");
+        Runnable decorated = decorator.decorate(() -> seen.set(TenantContext.getTenantInfo()));
+        TenantContext.setTenantInfo("b");
+
+        Thread thread = new Thread(decorated);
+        thread.start();
+        thread.join(10_000);
+
+        assertEquals("a", seen.get());
+    }
+
+    /**
+     * Test that the tenant of the running thread is restored after the decorated task,
+     * also when the task changes the tenant.
+     */
+    @Test
+    public void testDecorateShouldRestoreTenantOfRunningThreadWhenTaskIsFinished() {
+        AtomicReference<String> seen = new AtomicReference<>();
+        TenantContext.setTenantInfo("a");
+        Runnable decorated = decorator.decorate(() -> {
+            seen.set(TenantContext.getTenantInfo());
+            TenantContext.setTenantInfo("changed-by-task");
+        });
+        TenantContext.setTenantInfo("b");
+
+        decorated.run();
+
+        assertEquals("a", seen.get());
+        assertEquals("b", TenantContext.getTenantInfo());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+public class TenantFanOutTest {
+
+    /**
+     * Test that each task runs under its own tenant, and failures of some tenants don't hide results of others.
+     */
+    @Test
+    public void testForTenantsShouldReturnPartialResultsWhenSomeTenantsFail() {
+        try (TenantFanOut fanOut = new TenantFanOut(4, Duration.ofSeconds(10))) {
+            FanOutResult<String> result = fanOut.forTenants(List.of("a", "b", "c"), () -> {
+                String tenant = TenantContext.getTenantInfo();
+                if ("b".equals(tenant)) {
+                    throw new IOException("failed " + tenant);
+                }
+                return tenant;
+            });
+
+            assertEquals(Map.of("a", "a", "c", "c"), result.getResults());
+            assertEquals(List.of("b"), List.copyOf(result.getFailures().keySet()));
+            assertInstanceOf(IOException.class, result.getFailures().get("b"));
+            assertTrue(result.getTimedOut().isEmpty());
+            assertTrue(result.getCancelled().isEmpty());
+            assertFalse(result.isComplete());
+            assertFalse(result.isInterrupted());
+        }
+    }
+
+    /**
+     * Test that tasks not completed within the timeout are cancelled (interrupted) and reported as timed out,
+     * while results of the fast ones are returned.
+     */
+    @Test
+    public void testForTenantsShouldReportTimedOutTenantsWhenTasksDontCompleteWithinTimeout()
+            throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (TenantFanOut fanOut = new TenantFanOut(4, Duration.ofMillis(200))) {
+            FanOutResult<String> result = fanOut.forTenants(List.of("fast", "slow"), () -> {
+                String tenant = TenantContext.getTenantInfo();
+                if ("slow".equals(tenant)) {
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                }
+                return tenant;
+            });
+
+            assertEquals(Map.of("fast", "fast"), result.getResults());
+            assertEquals(List.of("slow"), result.getTimedOut());
+            assertTrue(result.getCancelled().isEmpty());
+            assertFalse(result.isComplete());
+            assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Test that interruption of the calling thread cancels the running tasks, reports them as cancelled
+     * (not timed out), flags the result and keeps the interrupt status of the thread.
+     */
+    @Test
+    public void testForTenantsShouldReportCancelledTenantsWhenCallingThreadIsInterrupted() {
+        CountDownLatch never = new CountDownLatch(1);
+        FanOutResult<String> result;
+        try (TenantFanOut fanOut = new TenantFanOut(4, Duration.ofSeconds(30))) {
+            Thread.currentThread().interrupt();
+            result = fanOut.forTenants(List.of("a", "b"), () -> {
+                never.await();
+                return TenantContext.getTenantInfo();
+            });
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        assertTrue(result.isInterrupted());
+        assertEquals(List.of("a", "b"), result.getCancelled().stream().sorted().toList());
+        assertTrue(result.getTimedOut().isEmpty());
+        assertTrue(result.getResults().isEmpty());
+        assertFalse(result.isComplete());
+    }
+
+    /**
+     * Test that at most parallelism tasks run at the same time, and duplicate tenants are run once.
+     */
+    @Test
+    public void testForTenantsShouldLimitConcurrentTasksWhenParallelismIsSet() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (TenantFanOut fanOut = new TenantFanOut(2, null)) {
+            FanOutResult<String> result = fanOut.forTenants(List.of("a", "b", "c", "d", "e", "a"), () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return TenantContext.getTenantInfo();
+            });
+
+            assertEquals(5, result.getResults().size());
+            assertTrue(result.isComplete());
+            assertTrue(maxRunning.get() <= 2, "max running tasks: " + maxRunning.get());
+        }
+    }
+
+    /**
+     * Test that stream passes each result to the consumer on the calling thread.
+     */
+    @Test
+    public void testStreamShouldPassResultsToConsumerOnCallingThreadWhenTasksComplete() {
+        Thread caller = Thread.currentThread();
+        List<String> consumed = new ArrayList<>();
+        try (TenantFanOut fanOut = new TenantFanOut(4, Duration.ofSeconds(10))) {
+            fanOut.stream(List.of("a", "b", "c"), TenantContext::getTenantInfo, (tenantId, value) -> {
+                assertEquals(caller, Thread.currentThread());
+                assertEquals(tenantId, value);
+                consumed.add(value);
+            });
+        }
+        assertEquals(List.of("a", "b", "c"), consumed.stream().sorted().toList());
+    }
+
+    /**
+     * Test that sorted lists are merged into one sorted list, truncated to the limit, skipping empty and null lists.
+     */
+    @Test
+    public void testMergeSortedShouldMergeSortedListsWhenLimitIsSet() {
+        List<List<Integer>> lists = Arrays.asList(List.of(9, 5, 1), List.of(), null, List.of(8, 7, 2), List.of(6));
+        Comparator<Integer> descending = Comparator.reverseOrder();
+
+        assertEquals(List.of(9, 8, 7, 6, 5, 2, 1), TenantFanOut.mergeSorted(lists, descending, 0));
+        assertEquals(List.of(9, 8, 7), TenantFanOut.mergeSorted(lists, descending, 3));
+        assertEquals(List.of(9, 8, 7, 6, 5, 2, 1), TenantFanOut.mergeSorted(lists, descending, 100));
+        assertEquals(List.of(), TenantFanOut.mergeSorted(List.of(), descending, 10));
+    }
+
+    /**
+     * Test that non-positive parallelism is rejected.
+     */
+    @Test
+    public void testConstructorShouldThrowExceptionWhenParallelismIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new TenantFanOut(0, null));
+    }
+}
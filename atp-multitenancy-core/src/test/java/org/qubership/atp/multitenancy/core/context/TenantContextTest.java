@@ -0,0 +1,153 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TenantContextTest {
+
+    /**
+     * Clear Tenant Info of the test thread.
+     */
+    @AfterEach
+    public void tearDown() {
+        TenantContext.clear();
+    }
+
+    /**
+     * Test that the default tenant is returned when Tenant Info isn't set or is cleared.
+     */
+    @Test
+    public void testGetTenantInfoShouldReturnDefaultTenantWhenTenantInfoIsNotSet() {
+        assertEquals(TenantContext.DEFAULT_TENANT, TenantContext.getTenantInfo());
+        TenantContext.setTenantInfo("a");
+        assertEquals("a", TenantContext.getTenantInfo());
+        TenantContext.clear();
+        assertEquals(TenantContext.DEFAULT_TENANT, TenantContext.getTenantInfo());
+    }
+
+    /**
+     * Test that nested runAs calls see their own tenants, and the tenant of the outer call is restored
+     * after the inner one.
+     */
+    @Test
+    public void testRunAsShouldRestoreOuterTenantWhenNestedTaskIsFinished() {
+        List<String> tenants = new ArrayList<>();
+        TenantContext.setTenantInfo("outer");
+        TenantContext.runAs("a", () -> {
+            tenants.add(TenantContext.getTenantInfo());
+            TenantContext.runAs("b", () -> {
+                tenants.add(TenantContext.getTenantInfo());
+            });
+            tenants.add(TenantContext.getTenantInfo());
+        });
+        tenants.add(TenantContext.getTenantInfo());
+        assertEquals(List.of("a", "b", "a", "outer"), tenants);
+    }
+
+    /**
+     * Test that the previous tenant is restored when the task throws an exception.
+     */
+    @Test
+    public void testRunAsShouldRestorePreviousTenantWhenTaskThrowsException() {
+        TenantContext.setTenantInfo("outer");
+        IllegalStateException failure = new IllegalStateException("failed");
+        assertSame(failure, assertThrows(IllegalStateException.class,
+                () -> TenantContext.runAs("a", (Runnable) () -> {
+                    throw failure;
+                })));
+        assertEquals("outer", TenantContext.getTenantInfo());
+        IOException checkedFailure = new IOException("failed");
+        assertSame(checkedFailure, assertThrows(IOException.class, () -> TenantContext.runAs("a", () -> {
+            throw checkedFailure;
+        })));
+        assertEquals("outer", TenantContext.getTenantInfo());
+    }
+
+    /**
+     * Test that result of the Callable is returned, and the Callable runs under the tenant given.
+     *
+     * @throws Exception in case errors.
+     */
+    @Test
+    public void testRunAsShouldReturnResultOfCallableWhenItIsCalledUnderTenant() throws Exception {
+        assertEquals("a:result", TenantContext.runAs("a", () -> TenantContext.getTenantInfo() + ":result"));
+        assertEquals(TenantContext.DEFAULT_TENANT, TenantContext.getTenantInfo());
+    }
+
+    /**
+     * Test that setTenantInfo, clear and setDefaultTenantInfo inside runAs change the tenant of the task
+     * until it ends, and don't change the tenant outside of the task.
+     */
+    @Test
+    public void testRunAsShouldApplyTenantChangesInsideTaskUntilItEnds() {
+        List<String> tenants = new ArrayList<>();
+        TenantContext.setTenantInfo("outer");
+        TenantContext.runAs("a", () -> {
+            TenantContext.setTenantInfo("b");
+            tenants.add(TenantContext.getTenantInfo());
+            TenantContext.clear();
+            tenants.add(TenantContext.getTenantInfo());
+            TenantContext.setTenantInfo("c");
+            TenantContext.setDefaultTenantInfo();
+            tenants.add(TenantContext.getTenantInfo());
+            TenantContext.setTenantInfo("d");
+        });
+        tenants.add(TenantContext.getTenantInfo());
+        assertEquals(List.of("b", TenantContext.DEFAULT_TENANT, TenantContext.DEFAULT_TENANT, "outer"), tenants);
+    }
+
+    /**
+     * Test that the tenant of runAs isn't copied to threads started by the task.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void testRunAsShouldNotCopyTenantToChildThreads() throws InterruptedException {
+        AtomicReference<String> childTenant = new AtomicReference<>();
+        List<Thread> children = new ArrayList<>();
+        TenantContext.runAs("a", () -> {
+            children.add(Thread.ofPlatform().start(() -> childTenant.set(TenantContext.getTenantInfo())));
+        });
+        children.get(0).join();
+        assertEquals(TenantContext.DEFAULT_TENANT, childTenant.get());
+    }
+
+    /**
+     * Test that Tenant Info set outside of runAs isn't copied to child threads by default.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void testSetTenantInfoShouldNotCopyTenantToChildThreadsByDefault() throws InterruptedException {
+        AtomicReference<String> childTenant = new AtomicReference<>();
+        TenantContext.setTenantInfo("a");
+        Thread child = Thread.ofPlatform().start(() -> childTenant.set(TenantContext.getTenantInfo()));
+        child.join();
+        assertEquals(TenantContext.DEFAULT_TENANT, childTenant.get());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.core.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TenantRegistryTest {
+
+    /**
+     * Clear registered tenants.
+     */
+    @AfterEach
+    public void tearDown() {
+        TenantContext.replaceTenantIds(Map.of());
+    }
+
+    /**
+     * Test that a snapshot taken before a change isn't affected by the change,
+     * and the next snapshot has a greater version.
+     */
+    @Test
+    public void testGetTenantRegistryShouldReturnImmutableSnapshotWhenTenantsAreChangedLater() {
+        TenantContext.replaceTenantIds(Map.of("cluster1", List.of("a", "b")));
+        TenantRegistry before = TenantContext.getTenantRegistry();
+
+        TenantContext.addTenantId("cluster2", "c");
+        TenantRegistry after = TenantContext.getTenantRegistry();
+
+        assertEquals(Set.of("a", "b"), before.getTenantIds());
+        assertFalse(before.contains("c"));
+        assertEquals(Set.of("a", "b", "c"), after.getTenantIds());
+        assertEquals("cluster2", after.getClusterId("c"));
+        assertTrue(after.getVersion() > before.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> after.getTenantIds().add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> after.getTenantIds("cluster1").add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> after.getClusterTenantIds().remove("cluster1"));
+    }
+
+    /**
+     * Test lookups of the registry: tenants per cluster, one tenant per cluster, cluster of tenant,
+     * and unknown or null ids.
+     */
+    @Test
+    public void testTenantRegistryShouldResolveClustersAndTenantsWhenTenantsAreRegistered() {
+        TenantContext.replaceTenantIds(Map.of("cluster1", List.of("a", "b"), "cluster2", List.of("c"),
+                "empty", List.of()));
+        TenantRegistry registry = TenantContext.getTenantRegistry();
+
+        assertEquals(List.of("a", "b"), registry.getTenantIds("cluster1"));
+        assertEquals(List.of(), registry.getTenantIds("unknown"));
+        assertEquals(List.of(), registry.getTenantIds(null));
+        assertEquals(Set.of("a", "c"), Set.copyOf(registry.getTenantIdPerCluster()));
+        assertEquals(Set.of("cluster1", "cluster2"), registry.getClusterTenantIds().keySet());
+        assertTrue(registry.contains("cluster1", "b"));
+        assertFalse(registry.contains("cluster2", "b"));
+        assertFalse(registry.contains(null));
+        assertEquals(null, registry.getClusterId("unknown"));
+        assertTrue(TenantContext.containsTenantId("c"));
+        assertEquals(2, TenantContext.getTenantIds(true).size());
+        assertEquals(3, TenantContext.getTenantIds(false).size());
+    }
+
+    /**
+     * Test that replacing tenants of the caller's clusters keeps tenants added by other code under other clusters,
+     * and removes clusters the caller no longer has.
+     */
+    @Test
+    public void testReplaceTenantIdsShouldKeepOtherClustersWhenOnlyOwnedClustersAreReplaced() {
+        TenantContext.replaceTenantIds(List.of(), Map.of("cluster1", List.of("a"), "cluster2", List.of("b")));
+        TenantContext.addTenantId("external", "x");
+
+        TenantContext.replaceTenantIds(Set.of("cluster1", "cluster2"), Map.of("cluster1", List.of("a", "c")));
+
+        TenantRegistry registry = TenantContext.getTenantRegistry();
+        assertEquals(List.of("a", "c"), registry.getTenantIds("cluster1"));
+        assertEquals(List.of(), registry.getTenantIds("cluster2"));
+        assertEquals(List.of("x"), registry.getTenantIds("external"));
+        assertEquals(Set.of("a", "c", "x"), registry.getTenantIds());
+    }
+
+    /**
+     * Test that bulk add registers all new tenants as one change, skips already registered ones,
+     * and doesn't create a new version when nothing is added.
+     */
+    @Test
+    public void testAddTenantIdsShouldCreateOneVersionWhenManyTenantsAreAdded() {
+        TenantContext.addTenantIds("cluster1", List.of("a"));
+        List<TenantRegistry> notified = new ArrayList<>();
+        TenantRegistryListener listener = notified::add;
+        TenantContext.addTenantRegistryListener(listener);
+        try {
+            long version = TenantContext.getTenantRegistry().getVersion();
+
+            TenantContext.addTenantIds("cluster1", List.of("a", "b", "c", "b"));
+            TenantRegistry registry = TenantContext.getTenantRegistry();
+            TenantContext.addTenantIds("cluster1", List.of("c", "a"));
+            TenantContext.addTenantId("cluster1", "b");
+
+            assertEquals(version + 1, registry.getVersion());
+            assertEquals(List.of("a", "b", "c"), registry.getTenantIds("cluster1"));
+            assertSame(registry, TenantContext.getTenantRegistry());
+            assertEquals(List.of(registry), notified);
+        } finally {
+            TenantContext.removeTenantRegistryListener(listener);
+        }
+    }
+
+    /**
+     * Test that listeners are notified synchronously with the new snapshot on each change,
+     * and aren't notified after removal.
+     */
+    @Test
+    public void testListenerShouldReceiveNewSnapshotWhenTenantsAreChanged() {
+        List<TenantRegistry> notified = new ArrayList<>();
+        TenantRegistryListener listener = notified::add;
+        TenantContext.addTenantRegistryListener(listener);
+        try {
+            TenantContext.replaceTenantIds(Map.of("cluster1", List.of("a")));
+            assertEquals(1, notified.size());
+            assertSame(TenantContext.getTenantRegistry(), notified.get(0));
+
+            TenantContext.addTenantId("cluster1", "b");
+            assertEquals(2, notified.size());
+            assertEquals(List.of("a", "b"), notified.get(1).getTenantIds("cluster1"));
+            assertTrue(notified.get(1).getVersion() > notified.get(0).getVersion());
+        } finally {
+            TenantContext.removeTenantRegistryListener(listener);
+        }
+        TenantContext.addTenantId("cluster1", "c");
+        assertEquals(2, notified.size());
+    }
+}
@@ -18,22 +18,37 @@ package org.qubership.atp.multitenancy.hibernate.config;
 
 import javax.sql.DataSource;
 
+import org.qubership.atp.multitenancy.hibernate.health.ClusterCircuitBreakerHealthIndicator;
 import org.qubership.atp.multitenancy.hibernate.jdbc.connections.TenantConnectionProvider;
 import org.qubership.atp.multitenancy.hibernate.jdbc.lookup.TenantIdentifierResolver;
 import org.qubership.atp.multitenancy.hibernate.jdbc.lookup.TenantRoutingDataSource;
+import org.qubership.atp.multitenancy.hibernate.jdbc.lookup.TenantRoutingRefreshListener;
 import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresClusters;
 import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.DefaultPostgresCluster;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.MultiTenantDataSourceProperties;
+import org.qubership.atp.multitenancy.hibernate.metrics.TenantRoutingMeterBinder;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantTags;
+import org.qubership.atp.multitenancy.interceptor.pojo.TenantMetricsProperties;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
 
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import liquibase.exception.LiquibaseException;
 import liquibase.integration.spring.SpringLiquibase;
 
@@ -61,6 +76,16 @@ public class MultiTenantDataSourceConfiguration {
         return new AdditionalPostgresClusters();
     }
 
+    /**
+     * Create multiTenantDataSourceProperties bean.
+     *
+     * @return new MultiTenantDataSourceProperties object.
+     */
+    @Bean
+    public MultiTenantDataSourceProperties multiTenantDataSourceProperties() {
+        return new MultiTenantDataSourceProperties();
+    }
+
     /**
      * Create tenantIdentifierResolver bean.
      *
@@ -103,6 +128,8 @@ public class MultiTenantDataSourceConfiguration {
      * @param hikariConfig HikariConfig bean
      * @param springLiquibase SpringLiquibase bean
      * @param liquibaseProperties LiquibaseProperties bean
+     * @param multiTenantDataSourceProperties MultiTenantDataSourceProperties bean
+     * @param metricsTrackerFactory Provider of MetricsTrackerFactory; it's empty unless metrics are enabled
      * @return new TenantRoutingDataSource object created and configured.
      * @throws LiquibaseException in case data source initialization errors occurred.
      */
@@ -116,9 +143,12 @@ public class MultiTenantDataSourceConfiguration {
             final AdditionalPostgresClusters additionalPostgresClusters,
             @Qualifier(value = "hikariConfig") final HikariConfig hikariConfig,
             final SpringLiquibase springLiquibase,
-            final LiquibaseProperties liquibaseProperties) throws LiquibaseException {
+            final LiquibaseProperties liquibaseProperties,
+            final MultiTenantDataSourceProperties multiTenantDataSourceProperties,
+            final ObjectProvider<MetricsTrackerFactory> metricsTrackerFactory) throws LiquibaseException {
         return new TenantRoutingDataSource(tenantIdentifierResolver, springLiquibase, resourceLoader,
-                additionalPostgresClusters, defaultPostgresCluster, hikariConfig, liquibaseProperties);
+                additionalPostgresClusters, defaultPostgresCluster, hikariConfig, liquibaseProperties,
+                multiTenantDataSourceProperties, metricsTrackerFactory.getIfAvailable());
     }
 
     /**
@@ -132,4 +162,89 @@ public class MultiTenantDataSourceConfiguration {
     public TenantConnectionProvider tenantConnectionProvider(final DataSource dataSource) {
         return new TenantConnectionProvider(dataSource);
     }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.cloud.context.environment.EnvironmentChangeEvent")
+    @ConditionalOnProperty(value = {"atp.multi-tenancy.datasource.refresh.enabled"})
+    static class TenantRoutingRefreshConfiguration {
+
+        /**
+         * Create tenantRoutingRefreshListener bean.
+         *
+         * @param tenantRoutingDataSource TenantRoutingDataSource bean
+         * @param environment Environment bean
+         * @return new TenantRoutingRefreshListener object.
+         */
+        @Bean
+        public TenantRoutingRefreshListener tenantRoutingRefreshListener(
+                final TenantRoutingDataSource tenantRoutingDataSource,
+                final Environment environment) {
+            return new TenantRoutingRefreshListener(tenantRoutingDataSource, environment);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+    @ConditionalOnProperty(value = {"atp.multi-tenancy.datasource.circuit-breaker.enabled"})
+    static class ClusterCircuitBreakerHealthConfiguration {
+
+        /**
+         * Create clusterCircuitBreakerHealthIndicator bean.
+         *
+         * @param tenantRoutingDataSource TenantRoutingDataSource bean
+         * @return new ClusterCircuitBreakerHealthIndicator object.
+         */
+        @Bean
+        public ClusterCircuitBreakerHealthIndicator clusterCircuitBreakerHealthIndicator(
+                final TenantRoutingDataSource tenantRoutingDataSource) {
+            return new ClusterCircuitBreakerHealthIndicator(tenantRoutingDataSource);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(value = {"atp.multi-tenancy.metrics.enabled"})
+    static class TenantRoutingMetricsConfiguration {
+
+        /**
+         * Prefix of metrics properties.
+         */
+        private static final String METRICS_PREFIX = "atp.multi-tenancy.metrics";
+
+        /**
+         * Create tenantPoolsMetricsTrackerFactory bean measuring pools of all clusters;
+         * meters are registered in the global registry if there is no MeterRegistry bean.
+         *
+         * @param meterRegistry Provider of MeterRegistry object
+         * @return new MicrometerMetricsTrackerFactory object.
+         */
+        @Bean
+        public MetricsTrackerFactory tenantPoolsMetricsTrackerFactory(
+                final ObjectProvider<MeterRegistry> meterRegistry) {
+            return new MicrometerMetricsTrackerFactory(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        }
+
+        /**
+         * Create tenantRoutingMeterBinder bean.
+         * Tenant tags are shared with interceptors metrics if they are configured,
+         * otherwise they are created from atp.multi-tenancy.metrics properties.
+         *
+         * @param tenantRoutingDataSource TenantRoutingDataSource bean
+         * @param tenantTags Provider of TenantTags object
+         * @param environment Environment bean
+         * @return new TenantRoutingMeterBinder object.
+         */
+        @Bean
+        public TenantRoutingMeterBinder tenantRoutingMeterBinder(
+                @Lazy final TenantRoutingDataSource tenantRoutingDataSource,
+                final ObjectProvider<TenantTags> tenantTags,
+                final Environment environment) {
+            return new TenantRoutingMeterBinder(tenantRoutingDataSource, tenantTags.getIfAvailable(() -> {
+                TenantMetricsProperties properties = Binder.get(environment)
+                        .bind(METRICS_PREFIX, TenantMetricsProperties.class)
+                        .orElseGet(TenantMetricsProperties::new);
+                return new TenantTags(properties.getMaxTenantTags(), properties.getTenantTags());
+            }));
+        }
+    }
 }
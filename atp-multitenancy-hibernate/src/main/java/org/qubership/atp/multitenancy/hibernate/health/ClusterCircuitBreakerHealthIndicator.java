@@ -0,0 +1,72 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ClusterCircuitBreaker;
+import org.qubership.atp.multitenancy.hibernate.jdbc.lookup.TenantRoutingDataSource;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Reports circuit breakers state of additional clusters.
+ * <p>Status is UP when all circuits are closed, and DEGRADED otherwise: tenants of other clusters are still served,
+ * so the service itself shouldn't be reported as DOWN.</p>
+ */
+public class ClusterCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    /**
+     * Status reported when some clusters are unavailable.
+     */
+    public static final Status DEGRADED = new Status("DEGRADED", "Some additional clusters are unavailable");
+
+    /**
+     * TenantRoutingDataSource object link.
+     */
+    private final TenantRoutingDataSource tenantRoutingDataSource;
+
+    /**
+     * Constructor.
+     *
+     * @param tenantRoutingDataSource TenantRoutingDataSource which circuit breakers are reported.
+     */
+    public ClusterCircuitBreakerHealthIndicator(final TenantRoutingDataSource tenantRoutingDataSource) {
+        this.tenantRoutingDataSource = tenantRoutingDataSource;
+    }
+
+    /**
+     * Report circuit breakers state, one detail per cluster.
+     *
+     * @return Health object.
+     */
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        boolean degraded = false;
+        for (ClusterCircuitBreaker circuitBreaker : tenantRoutingDataSource.getCircuitBreakers()) {
+            degraded |= circuitBreaker.getState() != ClusterCircuitBreaker.State.CLOSED;
+            details.put(circuitBreaker.getClusterUrl(), Map.of(
+                    "state", circuitBreaker.getState(),
+                    "consecutiveFailures", circuitBreaker.getConsecutiveFailures(),
+                    "rejected", circuitBreaker.getRejectedCount()));
+        }
+        return Health.status(degraded ? DEGRADED : Status.UP).withDetails(details).build();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.connections;
+
+import javax.sql.DataSource;
+
+import liquibase.exception.LiquibaseException;
+
+@FunctionalInterface
+public interface SchemaMigrator {
+
+    /**
+     * Migrate (Liquibase) schema of a tenant; the schema is already created.
+     *
+     * @param dataSource DataSource of the cluster
+     * @param schema String schema name
+     * @throws LiquibaseException when migration is failed.
+     */
+    void migrate(DataSource dataSource, String schema) throws LiquibaseException;
+}
@@ -19,11 +19,14 @@ package org.qubership.atp.multitenancy.hibernate.jdbc.connections;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.sql.DataSource;
 
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.TenantBulkheads;
+import org.qubership.atp.multitenancy.hibernate.jdbc.lookup.TenantRoutingDataSource;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 
 public class TenantConnectionProvider implements MultiTenantConnectionProvider, HibernatePropertiesCustomizer {
@@ -33,6 +36,21 @@ public class TenantConnectionProvider implements MultiTenantConnectionProvider,
      */
     private final DataSource dataSource;
 
+    /**
+     * TenantRoutingDataSource the dataSource is or wraps; null if it's another data source.
+     */
+    private final TenantRoutingDataSource routingDataSource;
+
+    /**
+     * Per-tenant connection limits; null if bulkhead is disabled or dataSource isn't a TenantRoutingDataSource.
+     */
+    private final TenantBulkheads tenantBulkheads;
+
+    /**
+     * Bulkhead permits of connections in use, released when the connections are returned.
+     */
+    private final Map<Connection, TenantBulkheads.Permit> permits = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      *
@@ -40,6 +58,8 @@ public class TenantConnectionProvider implements MultiTenantConnectionProvider,
      */
     public TenantConnectionProvider(final DataSource dataSource) {
         this.dataSource = dataSource;
+        this.routingDataSource = unwrapRoutingDataSource(dataSource);
+        this.tenantBulkheads = routingDataSource == null ? null : routingDataSource.getTenantBulkheads();
     }
 
     /**
@@ -64,14 +84,56 @@ public class TenantConnectionProvider implements MultiTenantConnectionProvider,
         connection.close();
     }
 
+    /**
+     * Get connection to the data source of the tenant given.
+     * The tenant identifier of the Hibernate session is used (not the one of TenantContext),
+     * so sessions opened with {@code withOptions().tenantIdentifier(...)} are routed properly,
+     * and a thread can work with several tenants at a time.
+     * In schema-per-tenant mode, search_path of the connection is set to the tenant schema.
+     * In case bulkhead is enabled, the connection is taken only when the tenant hasn't reached its connection limit,
+     * or a connection of the tenant is returned within the acquire timeout.
+     *
+     * @param tenantIdentifier Tenant identifier
+     * @return a connection to the data source of the tenant
+     * @throws SQLException if a database error occurs.
+     */
     @Override
-    public Connection getConnection(Object o) throws SQLException {
-        return dataSource.getConnection();
+    public Connection getConnection(final Object tenantIdentifier) throws SQLException {
+        if (routingDataSource == null) {
+            return dataSource.getConnection();
+        }
+        if (tenantBulkheads == null || tenantIdentifier == null) {
+            return routingDataSource.getTenantConnection(tenantIdentifier);
+        }
+        TenantBulkheads.Permit permit = tenantBulkheads.acquire(tenantIdentifier.toString());
+        Connection connection;
+        try {
+            connection = routingDataSource.getTenantConnection(tenantIdentifier);
+        } catch (SQLException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+        permits.put(connection, permit);
+        return connection;
     }
 
+    /**
+     * Close given connection.
+     *
+     * @param tenantIdentifier Tenant identifier
+     * @param connection Connection object to be closed
+     * @throws SQLException if a database error occurs.
+     */
     @Override
-    public void releaseConnection(Object o, Connection connection) throws SQLException {
-        connection.close();
+    public void releaseConnection(final Object tenantIdentifier, final Connection connection) throws SQLException {
+        try {
+            connection.close();
+        } finally {
+            TenantBulkheads.Permit permit = permits.remove(connection);
+            if (permit != null) {
+                permit.release();
+            }
+        }
     }
 
     /**
@@ -141,4 +203,17 @@ public class TenantConnectionProvider implements MultiTenantConnectionProvider,
     public void customize(final Map<String, Object> hibernateProperties) {
         hibernateProperties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, this);
     }
+
+    private static TenantRoutingDataSource unwrapRoutingDataSource(final DataSource dataSource) {
+        if (dataSource instanceof TenantRoutingDataSource routing) {
+            return routing;
+        }
+        try {
+            return dataSource.isWrapperFor(TenantRoutingDataSource.class)
+                    ? dataSource.unwrap(TenantRoutingDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
 }
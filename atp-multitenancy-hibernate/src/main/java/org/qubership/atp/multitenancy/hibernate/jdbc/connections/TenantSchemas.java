@@ -0,0 +1,596 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.connections;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.atp.multitenancy.core.context.TenantRegistry;
+import org.qubership.atp.multitenancy.core.context.TenantRegistryListener;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ConnectionInitializer;
+import org.springframework.util.Assert;
+
+import liquibase.exception.LiquibaseException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Schemas of tenants in schema-per-tenant mode.
+ * <p>Only tenants registered in {@link TenantContext} have schemas; other tenants use default search_path,
+ * so no schema is created for an arbitrary tenant id of a request. Schemas of registered tenants are cached
+ * and recomputed when the registry is changed (the object should be added as a registry listener).</p>
+ * <p>Tenant ids of lower case letters, digits and single dashes (e.g. UUIDs) are mapped to the prefix plus
+ * the id with dashes replaced by underscores. Other ids are mapped to the prefix plus the sanitized id,
+ * "__" and a hash of the original id, so the mapping is injective; hash collisions are detected anyway.</p>
+ * <p>Schemas are migrated on startup and on routing refresh. A checkout never migrates: a schema which isn't
+ * migrated yet in the cluster (e.g. of a tenant registered later, or after a failed migration) is queued,
+ * the connection is refused, and queued schemas are migrated by {@link #migratePending()}.</p>
+ * <p>Schema is set as search_path of a connection on checkout. The search_path set last time is tracked
+ * per physical connection, so the SET round-trip is skipped when the connection already has the schema of the tenant.
+ * SET is run in auto-commit mode, so it isn't undone by a rollback of the transaction which uses the connection
+ * (or by the rollback of a dirty connection returned to the pool), and the tracked search_path stays valid.
+ * The tracking is valid as long as search_path isn't changed by the application code directly.</p>
+ */
+@Slf4j
+public class TenantSchemas implements TenantRegistryListener {
+
+    /**
+     * Maximum length of PostgreSQL identifiers.
+     */
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    /**
+     * Separator of the hash suffix; schemas of plain tenant ids never contain it after the prefix.
+     */
+    private static final String HASH_SEPARATOR = "__";
+
+    /**
+     * Length of the hash suffix, in hex digits.
+     */
+    private static final int HASH_LENGTH = 16;
+
+    /**
+     * Maximum length of the schema prefix, so any tenant id can be mapped with the hash suffix.
+     */
+    private static final int MAX_PREFIX_LENGTH = MAX_IDENTIFIER_LENGTH - HASH_SEPARATOR.length() - HASH_LENGTH - 1;
+
+    /**
+     * Pattern of valid schema names (lower case, so they don't depend on quoting).
+     */
+    private static final Pattern SCHEMA_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    /**
+     * Pattern of tenant ids mapped without hash suffix.
+     */
+    private static final Pattern PLAIN_TENANT_PATTERN = Pattern.compile("[a-z0-9]+(-[a-z0-9]+)*");
+
+    /**
+     * Prefix of schema names.
+     */
+    private final String schemaPrefix;
+
+    /**
+     * Migrator of created schemas; null if schemas are only created.
+     */
+    private final SchemaMigrator migrator;
+
+    /**
+     * Schemas of registered tenants; replaced as a whole when the registry is changed.
+     */
+    private volatile Mapping mapping = new Mapping(-1, Map.of(), Set.of());
+
+    /**
+     * Migrations of tenant schemas, started or completed successfully, per data source of a cluster.
+     */
+    private final Map<DataSource, Map<String, CompletableFuture<Void>>> migrations = new ConcurrentHashMap<>();
+
+    /**
+     * Schemas requested on checkout before they are migrated; migrated by {@link #migratePending()}.
+     */
+    private final Set<PendingMigration> pendingMigrations = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Initializer of connections of tenants without schema; it resets search_path to default.
+     */
+    private final ConnectionInitializer defaultInitializer = connection -> applySearchPath(connection, null);
+
+    /**
+     * Initializers of connections per schema; the same initializer is returned for each checkout of a schema,
+     * so data sources can reuse objects built for it. Like migrations, they are kept for schemas of tenants
+     * registered once.
+     */
+    private final Map<String, ConnectionInitializer> initializers = new ConcurrentHashMap<>();
+
+    /**
+     * Schema set last time, per physical connection; connections without entry have default search_path.
+     * Entries of connections closed by the pool are removed by {@link #pruneClosedConnections()}.
+     */
+    private final Map<Connection, String> searchPaths = new ConcurrentHashMap<>();
+
+    /**
+     * Number of search_path changes.
+     */
+    private final LongAdder searchPathChangeCount = new LongAdder();
+
+    /**
+     * Number of checkouts when search_path already matched.
+     */
+    private final LongAdder searchPathHitCount = new LongAdder();
+
+    /**
+     * Constructor of schemas which are created, but not migrated.
+     *
+     * @param schemaPrefix String prefix of schema names.
+     */
+    public TenantSchemas(final String schemaPrefix) {
+        this(schemaPrefix, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param schemaPrefix String prefix of schema names
+     * @param migrator SchemaMigrator of created schemas, or null if schemas are only created.
+     */
+    public TenantSchemas(final String schemaPrefix, final SchemaMigrator migrator) {
+        String prefix = schemaPrefix == null ? "" : schemaPrefix.trim().toLowerCase(Locale.ROOT);
+        Assert.isTrue(prefix.isEmpty() || SCHEMA_PATTERN.matcher(prefix).matches(),
+                () -> "Invalid tenant schema prefix: %s".formatted(schemaPrefix));
+        Assert.isTrue(prefix.length() <= MAX_PREFIX_LENGTH,
+                () -> "Tenant schema prefix %s is longer than %d characters".formatted(schemaPrefix,
+                        MAX_PREFIX_LENGTH));
+        this.schemaPrefix = prefix;
+        this.migrator = migrator;
+    }
+
+    /**
+     * Get schema of the tenant; it's a cache lookup, schemas are computed when the registry is changed.
+     *
+     * @param tenantId tenant identifier
+     * @return String schema name; null for unknown (null), unregistered and default tenants,
+     *     they use default search_path.
+     * @throws SQLException if schema of the registered tenant collides with schema of another tenant.
+     */
+    public String schemaOf(final Object tenantId) throws SQLException {
+        if (tenantId == null) {
+            return null;
+        }
+        Mapping current = mapping;
+        String schema = current.schemas().get(tenantId);
+        if (schema == null && current.collisions().contains(tenantId)) {
+            throw new SQLException("Schema of tenant %s collides with schema of another tenant".formatted(tenantId));
+        }
+        return schema;
+    }
+
+    /**
+     * Get schemas of the tenants given, checking that they don't collide with each other
+     * and with schemas of registered tenants; used before the tenants are registered.
+     *
+     * @param tenantIds collection of tenant identifiers
+     * @return map, key - tenant id, value - schema name; the default tenant isn't mapped.
+     * @throws IllegalArgumentException if schemas of two tenants collide.
+     */
+    public Map<String, String> schemasOf(final Collection<String> tenantIds) {
+        Set<String> tenants = new LinkedHashSet<>(tenantIds);
+        tenants.addAll(TenantContext.getTenantRegistry().getTenantIds());
+        Map<String, String> owners = new HashMap<>();
+        for (String tenantId : tenants) {
+            if (tenantId == null || TenantContext.DEFAULT_TENANT.equals(tenantId)) {
+                continue;
+            }
+            String schema = toSchemaName(tenantId);
+            String owner = owners.putIfAbsent(schema, tenantId);
+            Assert.isTrue(owner == null,
+                    () -> "Tenants %s and %s are mapped to the same schema %s".formatted(owner, tenantId, schema));
+        }
+        Map<String, String> schemas = new LinkedHashMap<>();
+        owners.forEach((schema, tenantId) -> schemas.put(tenantId, schema));
+        schemas.keySet().retainAll(tenantIds);
+        return schemas;
+    }
+
+    /**
+     * Map tenant id to schema name, regardless of its registration.
+     *
+     * @param tenantId String tenant identifier
+     * @return String schema name.
+     */
+    public String toSchemaName(final String tenantId) {
+        if (PLAIN_TENANT_PATTERN.matcher(tenantId).matches()) {
+            String schema = schemaPrefix + tenantId.replace('-', '_');
+            if (schema.length() <= MAX_IDENTIFIER_LENGTH && SCHEMA_PATTERN.matcher(schema).matches()) {
+                return schema;
+            }
+        }
+        String id = tenantId.toLowerCase(Locale.ROOT);
+        StringBuilder schema = new StringBuilder(MAX_IDENTIFIER_LENGTH).append(schemaPrefix);
+        if (schemaPrefix.isEmpty() && (id.isEmpty() || id.charAt(0) < 'a' || id.charAt(0) > 'z')) {
+            schema.append('_');
+        }
+        int length = Math.min(id.length(),
+                MAX_IDENTIFIER_LENGTH - schema.length() - HASH_SEPARATOR.length() - HASH_LENGTH);
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            schema.append(c >= 'a' && c <= 'z' || c >= '0' && c <= '9' ? c : '_');
+        }
+        return schema.append(HASH_SEPARATOR).append(hashOf(tenantId)).toString();
+    }
+
+    /**
+     * Recompute schemas of registered tenants. Tenants which schemas collide aren't mapped,
+     * and their connections are refused.
+     *
+     * @param registry TenantRegistry new snapshot of tenants.
+     */
+    @Override
+    public synchronized void onTenantsChanged(final TenantRegistry registry) {
+        Mapping previous = mapping;
+        if (registry.getVersion() <= previous.version()) {
+            return;
+        }
+        Map<String, String> schemas = new HashMap<>();
+        Map<String, String> owners = new HashMap<>();
+        Set<String> collisions = new HashSet<>();
+        for (String tenantId : registry.getTenantIds()) {
+            if (TenantContext.DEFAULT_TENANT.equals(tenantId)) {
+                continue;
+            }
+            String schema = previous.schemas().get(tenantId);
+            if (schema == null) {
+                schema = toSchemaName(tenantId);
+            }
+            String owner = owners.putIfAbsent(schema, tenantId);
+            if (owner == null) {
+                schemas.put(tenantId, schema);
+            } else {
+                collisions.add(owner);
+                collisions.add(tenantId);
+            }
+        }
+        if (!collisions.isEmpty()) {
+            collisions.forEach(schemas::remove);
+            log.error("Tenants {} are mapped to the same schemas; their connections are refused", collisions);
+        }
+        mapping = new Mapping(registry.getVersion(), Map.copyOf(schemas), Set.copyOf(collisions));
+    }
+
+    /**
+     * Create and migrate schema of a tenant in the data source, unless it's already migrated by this object.
+     * Concurrent calls for the same schema wait for the one migration.
+     *
+     * @param dataSource DataSource of the cluster
+     * @param schema String schema name
+     * @throws SQLException if the migration is failed.
+     */
+    public void migrate(final DataSource dataSource, final String schema) throws SQLException {
+        Map<String, CompletableFuture<Void>> schemas = migrations.get(dataSource);
+        if (schemas == null) {
+            schemas = migrations.computeIfAbsent(dataSource, key -> new ConcurrentHashMap<>());
+        }
+        CompletableFuture<Void> migration = schemas.get(schema);
+        if (migration == null) {
+            CompletableFuture<Void> created = new CompletableFuture<>();
+            migration = schemas.putIfAbsent(schema, created);
+            if (migration == null) {
+                migration = created;
+                try {
+                    createSchema(dataSource, schema);
+                    if (migrator != null) {
+                        migrator.migrate(dataSource, schema);
+                    }
+                    created.complete(null);
+                } catch (LiquibaseException | SQLException | RuntimeException e) {
+                    schemas.remove(schema, created);
+                    created.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            migration.join();
+        } catch (CompletionException e) {
+            throw new SQLException("Failed to migrate tenant schema %s".formatted(schema), e.getCause());
+        }
+    }
+
+    /**
+     * Create and migrate schemas of the tenants given concurrently; tenants without schemas are skipped.
+     *
+     * @param tenantDataSources map, key - tenantId, value - DataSource of the tenant cluster
+     * @param concurrency maximum number of schemas migrated at the same time
+     * @throws LiquibaseException if migration of some schemas is failed; other schemas are migrated anyway.
+     */
+    public void migrateAll(final Map<Object, DataSource> tenantDataSources,
+                           final int concurrency) throws LiquibaseException {
+        if (tenantDataSources.isEmpty()) {
+            return;
+        }
+        Map<String, String> schemas = schemasOf(tenantDataSources.keySet().stream().map(String::valueOf).toList());
+        int threads = Math.min(Math.max(1, concurrency), tenantDataSources.size());
+        log.info("Migrating {} tenant schemas, concurrency: {}", schemas.size(), threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("atp-multitenancy-schema-", 0).daemon(true).factory());
+        try {
+            List<Future<Void>> futures = new ArrayList<>(schemas.size());
+            tenantDataSources.forEach((tenantId, dataSource) -> {
+                String schema = schemas.get(String.valueOf(tenantId));
+                if (schema != null) {
+                    futures.add(executor.submit(() -> {
+                        migrate(dataSource, schema);
+                        return null;
+                    }));
+                }
+            });
+            LiquibaseException failure = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new LiquibaseException("Migration of tenant schemas was interrupted", e);
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = new LiquibaseException("Migration of tenant schemas failed", e.getCause());
+                    } else {
+                        failure.addSuppressed(e.getCause());
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Migrate schemas requested on checkout before they were migrated; failed migrations are logged,
+     * and the schema is queued again on the next checkout of its tenant.
+     */
+    public void migratePending() {
+        for (PendingMigration pending : pendingMigrations) {
+            if (!pendingMigrations.remove(pending)) {
+                continue;
+            }
+            try {
+                migrate(pending.dataSource(), pending.schema());
+            } catch (SQLException e) {
+                log.error("Failed to migrate tenant schema {}; it will be retried on the next use of the tenant",
+                        pending.schema(), e);
+            }
+        }
+    }
+
+    /**
+     * Get number of schemas waiting for migration.
+     *
+     * @return number of schemas.
+     */
+    public int getPendingMigrationCount() {
+        return pendingMigrations.size();
+    }
+
+    /**
+     * Get initializer of connections of the tenant: search_path of connections is set to the schema
+     * of a registered tenant; other tenants get default search_path.
+     * The same initializer is returned for all tenants of one schema.
+     * The schema isn't migrated here: if it isn't migrated in the data source yet, it's queued
+     * for {@link #migratePending()} and the connection is refused.
+     *
+     * @param tenantId tenant identifier
+     * @param dataSource DataSource of the tenant cluster
+     * @return ConnectionInitializer setting search_path.
+     * @throws SQLException if the tenant schema collides with another one.
+     * @throws SQLTransientConnectionException if the tenant schema isn't migrated yet.
+     */
+    public ConnectionInitializer initializerOf(final Object tenantId, final DataSource dataSource)
+            throws SQLException {
+        String schema = schemaOf(tenantId);
+        if (schema == null) {
+            return defaultInitializer;
+        }
+        if (!isMigrated(dataSource, schema)) {
+            pendingMigrations.add(new PendingMigration(dataSource, schema));
+            throw new SQLTransientConnectionException(
+                    "Schema %s of tenant %s isn't migrated yet".formatted(schema, tenantId));
+        }
+        return initializers.computeIfAbsent(schema, name -> connection -> applySearchPath(connection, name));
+    }
+
+    /**
+     * Check if the schema is migrated in the data source by this object.
+     *
+     * @param dataSource DataSource of the cluster
+     * @param schema String schema name
+     * @return true if migration of the schema is completed successfully.
+     */
+    public boolean isMigrated(final DataSource dataSource, final String schema) {
+        Map<String, CompletableFuture<Void>> schemas = migrations.get(dataSource);
+        CompletableFuture<Void> migration = schemas == null ? null : schemas.get(schema);
+        return migration != null && migration.isDone() && !migration.isCompletedExceptionally();
+    }
+
+    /**
+     * Forget migrations of schemas in the data source, e.g. when its cluster is removed from routing.
+     *
+     * @param dataSource DataSource of the cluster.
+     */
+    public void forgetMigrations(final DataSource dataSource) {
+        migrations.remove(dataSource);
+        pendingMigrations.removeIf(pending -> pending.dataSource().equals(dataSource));
+    }
+
+    /**
+     * Set search_path of the connection to the schema, unless the physical connection already has it.
+     * If auto-commit of the connection is off, it's switched on for the SET and switched off again;
+     * the connection is just taken from the pool, so no transaction is in progress yet.
+     *
+     * @param connection Connection taken from a pool
+     * @param schema String schema name; null to reset search_path to default.
+     * @throws SQLException if search_path can't be set.
+     */
+    public void applySearchPath(final Connection connection, final String schema) throws SQLException {
+        Connection physical = unwrap(connection);
+        String current = searchPaths.get(physical);
+        if (current == null ? schema == null : current.equals(schema)) {
+            searchPathHitCount.increment();
+            return;
+        }
+        boolean autoCommit = connection.getAutoCommit();
+        if (!autoCommit) {
+            connection.setAutoCommit(true);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(schema == null
+                    ? "SET search_path TO DEFAULT"
+                    : "SET search_path TO " + quote(schema) + ", public");
+        } finally {
+            if (!autoCommit) {
+                connection.setAutoCommit(false);
+            }
+        }
+        if (schema == null) {
+            searchPaths.remove(physical);
+        } else {
+            searchPaths.put(physical, schema);
+        }
+        searchPathChangeCount.increment();
+    }
+
+    /**
+     * Remove tracked search_path of physical connections closed by the pool.
+     */
+    public void pruneClosedConnections() {
+        searchPaths.keySet().removeIf(TenantSchemas::isClosed);
+    }
+
+    /**
+     * Get number of physical connections with tracked search_path.
+     *
+     * @return number of connections.
+     */
+    public int getTrackedConnectionCount() {
+        return searchPaths.size();
+    }
+
+    /**
+     * Get number of search_path changes.
+     *
+     * @return number of changes.
+     */
+    public long getSearchPathChangeCount() {
+        return searchPathChangeCount.sum();
+    }
+
+    /**
+     * Get number of checkouts when search_path of the connection already matched the tenant schema.
+     *
+     * @return number of skipped changes.
+     */
+    public long getSearchPathHitCount() {
+        return searchPathHitCount.sum();
+    }
+
+    /**
+     * Quote schema name.
+     *
+     * @param schema String schema name
+     * @return quoted identifier.
+     */
+    public static String quote(final String schema) {
+        return '"' + schema.replace("\"", "\"\"") + '"';
+    }
+
+    private static void createSchema(final DataSource dataSource, final String schema) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + quote(schema));
+        }
+    }
+
+    private static String hashOf(final String tenantId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tenantId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, HASH_LENGTH / 2);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 isn't supported", e);
+        }
+    }
+
+    private static boolean isClosed(final Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static Connection unwrap(final Connection connection) {
+        try {
+            return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+        } catch (SQLException e) {
+            return connection;
+        }
+    }
+
+    /**
+     * Schemas of registered tenants.
+     *
+     * @param version version of the registry the schemas are computed for
+     * @param schemas map, key - tenant id, value - schema name
+     * @param collisions tenant ids which schemas collide.
+     */
+    private record Mapping(long version, Map<String, String> schemas, Set<String> collisions) {
+    }
+
+    /**
+     * Schema waiting for migration.
+     *
+     * @param dataSource DataSource of the cluster
+     * @param schema schema name.
+     */
+    private record PendingMigration(DataSource dataSource, String schema) {
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuit breaker of connection acquisition from a cluster.
+ * <p>The circuit is opened after failureThreshold consecutive connection failures; while it's open,
+ * connection requests fail immediately with {@link ClusterUnavailableException} instead of waiting
+ * for connection timeout. After openDuration, the cluster is probed in the background (half-open state):
+ * the circuit is closed if the probe succeeds, otherwise it's opened again.</p>
+ */
+@Slf4j
+public class ClusterCircuitBreaker {
+
+    public enum State {
+        /**
+         * Connections are requested from the cluster.
+         */
+        CLOSED,
+        /**
+         * Connection requests fail immediately.
+         */
+        OPEN,
+        /**
+         * Connection requests fail immediately, the cluster is being probed.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Url of the cluster.
+     */
+    private final String clusterUrl;
+
+    /**
+     * Number of consecutive failures opening the circuit.
+     */
+    private final int failureThreshold;
+
+    /**
+     * Time the circuit stays open before the cluster is probed, in nanoseconds.
+     */
+    private final long openDurationNanos;
+
+    /**
+     * Current state.
+     */
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+    /**
+     * Number of consecutive connection failures.
+     */
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /**
+     * Number of connection requests rejected while the circuit is open.
+     */
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * Number of times the circuit was opened.
+     */
+    private final AtomicLong openCount = new AtomicLong();
+
+    /**
+     * Time the circuit was opened last time, as {@link System#nanoTime()}.
+     */
+    private volatile long openedAtNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param clusterUrl String url of the cluster
+     * @param failureThreshold number of consecutive failures opening the circuit
+     * @param openDuration time the circuit stays open before the cluster is probed.
+     */
+    public ClusterCircuitBreaker(final String clusterUrl, final int failureThreshold, final Duration openDuration) {
+        this.clusterUrl = clusterUrl;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Get connection from the data source of the cluster through the circuit breaker.
+     *
+     * @param dataSource DataSource of the cluster
+     * @return Connection object.
+     * @throws ClusterUnavailableException if the circuit is open
+     * @throws SQLException if the connection can't be got.
+     */
+    public Connection getConnection(final DataSource dataSource) throws SQLException {
+        if (state.get() != State.CLOSED) {
+            rejectedCount.incrementAndGet();
+            throw new ClusterUnavailableException(clusterUrl);
+        }
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            if (isConnectionFailure(e)) {
+                onFailure();
+            }
+            throw e;
+        }
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+        return connection;
+    }
+
+    /**
+     * Wrap the data source of the cluster, so its connections are got through the circuit breaker.
+     *
+     * @param dataSource DataSource of the cluster
+     * @return DataSource wrapper.
+     */
+    public DataSource protect(final DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return ClusterCircuitBreaker.this.getConnection(dataSource);
+            }
+        };
+    }
+
+    /**
+     * Probe the cluster if the circuit is open longer than openDuration; the circuit is closed if the probe succeeds.
+     * The probe is made on the calling thread.
+     *
+     * @param dataSource DataSource of the cluster
+     * @return true if the probe was made.
+     */
+    public boolean probeIfDue(final DataSource dataSource) {
+        if (!isProbeDue() || !state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            consecutiveFailures.set(0);
+            state.set(State.CLOSED);
+            log.info("Cluster (url): {} is available, circuit breaker is closed", clusterUrl);
+        } catch (SQLException | RuntimeException e) {
+            openedAtNanos = System.nanoTime();
+            state.set(State.OPEN);
+            log.warn("Cluster (url): {} is still unavailable: {}", clusterUrl, e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Probe the cluster on its own virtual thread if the circuit is open longer than openDuration,
+     * so probes of unavailable clusters don't block each other.
+     *
+     * @param dataSource DataSource of the cluster.
+     */
+    public void probeInBackgroundIfDue(final DataSource dataSource) {
+        if (isProbeDue()) {
+            Thread.ofVirtual().name("atp-multitenancy-probe").start(() -> probeIfDue(dataSource));
+        }
+    }
+
+    /**
+     * Check if the circuit is open longer than openDuration, so the cluster should be probed.
+     *
+     * @return true if the probe is due.
+     */
+    public boolean isProbeDue() {
+        return state.get() == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos;
+    }
+
+    /**
+     * Get url of the cluster.
+     *
+     * @return String url.
+     */
+    public String getClusterUrl() {
+        return clusterUrl;
+    }
+
+    /**
+     * Get current state of the circuit.
+     *
+     * @return State object.
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Get number of consecutive connection failures.
+     *
+     * @return number of failures.
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * Get number of connection requests rejected while the circuit is open.
+     *
+     * @return number of rejected requests.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Get number of times the circuit was opened.
+     *
+     * @return number of openings.
+     */
+    public long getOpenCount() {
+        return openCount.get();
+    }
+
+    private void onFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAtNanos = System.nanoTime();
+            if (state.compareAndSet(State.CLOSED, State.OPEN)) {
+                openCount.incrementAndGet();
+                log.error("Cluster (url): {} is unavailable after {} consecutive failures, circuit breaker is open",
+                        clusterUrl, failureThreshold);
+            }
+        }
+    }
+
+    /**
+     * Check if the exception means the cluster can't be connected (rather than the pool is just exhausted).
+     *
+     * @param e SQLException thrown on connection request
+     * @return true for connection failures.
+     */
+    static boolean isConnectionFailure(final SQLException e) {
+        if (e instanceof ClusterUnavailableException) {
+            return false;
+        }
+        String sqlState = e.getSQLState();
+        return sqlState != null && sqlState.startsWith("08")
+                || e instanceof SQLNonTransientConnectionException
+                || e instanceof SQLTransientConnectionException && e.getCause() != null;
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresCluster;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import liquibase.exception.LiquibaseException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DataSource of an additional cluster, which creates (and migrates) the underlying connection pool
+ * on the first connection request.
+ * <p>Concurrent first requests are serialized, so the pool is created only once;
+ * in case of initialization failure, the next request tries to initialize the pool again.</p>
+ * <p>The pool can be evicted (closed) when the cluster is idle; it's re-created (without migration)
+ * on the next connection request. Connection checkout and eviction are mutually exclusive: the pool isn't evicted
+ * while a connection is being acquired from it or is checked out.</p>
+ * <p>Once closed, the data source can't be used anymore.</p>
+ */
+@Slf4j
+public class ClusterDataSource extends AbstractDataSource {
+
+    /**
+     * Cluster served by the data source.
+     */
+    private final AdditionalPostgresCluster cluster;
+
+    /**
+     * Factory creating connection pool for the cluster.
+     */
+    private final ClusterDataSourceFactory factory;
+
+    /**
+     * Lock guarding the pool initialization.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Granularity of last access time tracking, in nanoseconds.
+     */
+    private static final long ACCESS_GRANULARITY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Number of pool evictions.
+     */
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Number of pool re-creations after eviction.
+     */
+    private final AtomicLong rewarmCount = new AtomicLong();
+
+    /**
+     * Total time of pool re-creations after eviction, in nanoseconds.
+     */
+    private final AtomicLong rewarmTimeNanos = new AtomicLong();
+
+    /**
+     * Number of connection requests in progress; the pool isn't evicted while it's positive.
+     */
+    private final AtomicInteger acquiring = new AtomicInteger();
+
+    /**
+     * Connection pool of the cluster; null until initialized or after eviction.
+     */
+    private volatile DataSource target;
+
+    /**
+     * Flag if the cluster is already migrated (Liquibase).
+     */
+    private volatile boolean migrated;
+
+    /**
+     * Flag if the data source is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Time of the last access to the cluster, as {@link System#nanoTime()}.
+     */
+    private volatile long lastAccessNanos = System.nanoTime();
+
+    /**
+     * Constructor.
+     *
+     * @param cluster AdditionalPostgresCluster to be served
+     * @param factory ClusterDataSourceFactory to create connection pool for the cluster.
+     */
+    public ClusterDataSource(final AdditionalPostgresCluster cluster, final ClusterDataSourceFactory factory) {
+        this.cluster = cluster;
+        this.factory = factory;
+    }
+
+    /**
+     * Constructor for the cluster which connection pool is already created and migrated.
+     *
+     * @param cluster AdditionalPostgresCluster to be served
+     * @param factory ClusterDataSourceFactory to re-create connection pool for the cluster after eviction
+     * @param target DataSource connection pool of the cluster.
+     */
+    public ClusterDataSource(final AdditionalPostgresCluster cluster,
+                             final ClusterDataSourceFactory factory,
+                             final DataSource target) {
+        this(cluster, factory);
+        this.target = target;
+        this.migrated = true;
+    }
+
+    /**
+     * Get cluster served by the data source.
+     *
+     * @return AdditionalPostgresCluster object.
+     */
+    public AdditionalPostgresCluster getCluster() {
+        return cluster;
+    }
+
+    /**
+     * Check if connection pool of the cluster is already created.
+     *
+     * @return true if connection pool is created, otherwise false.
+     */
+    public boolean isInitialized() {
+        return target != null;
+    }
+
+    /**
+     * Get connection pool of the cluster without creating it and without marking the cluster as used.
+     *
+     * @return {@link DataSource} connection pool of the cluster; null if it isn't created or is evicted.
+     */
+    public DataSource getTargetIfInitialized() {
+        return target;
+    }
+
+    /**
+     * Get connection pool of the cluster; create and migrate it if it's not created yet.
+     * <p>The pool may be evicted after it's returned; connections should be got by {@link #getConnection()},
+     * which prevents eviction during checkout.</p>
+     *
+     * @return {@link DataSource} connection pool of the cluster.
+     * @throws SQLException in case connection pool can't be created.
+     */
+    public DataSource getTarget() throws SQLException {
+        long now = System.nanoTime();
+        if (now - lastAccessNanos > ACCESS_GRANULARITY_NANOS) {
+            lastAccessNanos = now;
+        }
+        DataSource current = target;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                throw new SQLException("Additional cluster (url): %s is closed".formatted(cluster.getUrl()));
+            }
+            current = target;
+            if (current == null) {
+                current = initialize();
+            }
+            return current;
+        } catch (LiquibaseException e) {
+            throw new SQLException(e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private DataSource initialize() throws LiquibaseException {
+        boolean rewarm = migrated;
+        log.info("{} additional cluster (url): {}", rewarm ? "Re-warming" : "Initializing", cluster.getUrl());
+        long start = System.nanoTime();
+        DataSource dataSource = factory.createDataSource(cluster, !rewarm);
+        migrated = true;
+        target = dataSource;
+        if (rewarm) {
+            long elapsed = System.nanoTime() - start;
+            rewarmCount.incrementAndGet();
+            rewarmTimeNanos.addAndGet(elapsed);
+            log.info("Additional cluster (url): {} is re-warmed in {} ms", cluster.getUrl(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return dataSource;
+    }
+
+    /**
+     * Close connection pool of the cluster if it isn't used longer than idleTimeout
+     * and has no active connections.
+     * <p>The pool is retired before connection requests in progress and active connections are checked,
+     * so a request started after the check waits for the lock instead of using the pool being closed;
+     * if the pool is in use, it's restored.</p>
+     *
+     * @param idleTimeout Duration of inactivity after which the pool is closed
+     * @return true if the pool is closed, otherwise false.
+     */
+    public boolean evictIfIdle(final Duration idleTimeout) {
+        DataSource current = target;
+        if (current == null || System.nanoTime() - lastAccessNanos < idleTimeout.toNanos()) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (target != current) {
+                return false;
+            }
+            target = null;
+            if (acquiring.get() > 0 || ClusterDataSources.getActiveConnections(current) > 0) {
+                target = current;
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+        ClusterDataSources.close(current);
+        evictionCount.incrementAndGet();
+        log.info("Additional cluster (url): {} is evicted after {} of inactivity", cluster.getUrl(), idleTimeout);
+        return true;
+    }
+
+    /**
+     * Close connection pool of the cluster; the data source can't be used after that.
+     */
+    public void close() {
+        DataSource current;
+        lock.lock();
+        try {
+            closed = true;
+            current = target;
+            target = null;
+        } finally {
+            lock.unlock();
+        }
+        if (current != null) {
+            ClusterDataSources.close(current);
+        }
+    }
+
+    /**
+     * Get number of active (checked out) connections of the cluster pool.
+     *
+     * @return number of active connections; 0 if the pool isn't created.
+     */
+    public int getActiveConnections() {
+        DataSource current = target;
+        return current == null ? 0 : ClusterDataSources.getActiveConnections(current);
+    }
+
+    /**
+     * Get number of pool evictions.
+     *
+     * @return number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Get number of pool re-creations after eviction.
+     *
+     * @return number of re-warms.
+     */
+    public long getRewarmCount() {
+        return rewarmCount.get();
+    }
+
+    /**
+     * Get total time of pool re-creations after eviction.
+     *
+     * @return Duration of all re-warms.
+     */
+    public Duration getRewarmTime() {
+        return Duration.ofNanos(rewarmTimeNanos.get());
+    }
+
+    /**
+     * Get connection to the cluster; the pool isn't evicted until the connection is acquired.
+     *
+     * @return a connection to the cluster
+     * @throws SQLException if a database error occurs.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquiring.incrementAndGet();
+        try {
+            return getTarget().getConnection();
+        } finally {
+            acquiring.decrementAndGet();
+        }
+    }
+
+    /**
+     * Get connection to the cluster for the user given.
+     *
+     * @param username String username
+     * @param password String password
+     * @return a connection to the cluster
+     * @throws SQLException if a database error occurs.
+     */
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquiring.incrementAndGet();
+        try {
+            return getTarget().getConnection(username, password);
+        } finally {
+            acquiring.decrementAndGet();
+        }
+    }
+
+    /**
+     * Unwrap to iface; connection pool of the cluster is unwrapped if the data source itself isn't iface.
+     * The pool isn't created (and the cluster isn't migrated) for unwrapping.
+     *
+     * @param iface Class type of unwrap
+     * @param <T> Class
+     * @return unwrapped object.
+     * @throws SQLException if unwrapping isn't possible, e.g. the pool isn't created yet or is evicted.
+     */
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        DataSource current = target;
+        if (current == null) {
+            throw new SQLException("Connection pool of additional cluster (url): %s isn't created, can't unwrap %s"
+                    .formatted(cluster.getUrl(), iface.getName()));
+        }
+        return current.unwrap(iface);
+    }
+
+    /**
+     * Is it a wrapper for iface or not; the pool isn't created (and the cluster isn't migrated) for the check.
+     *
+     * @param iface Class type of unwrap
+     * @return true if the data source or created connection pool of the cluster is iface.
+     * @throws SQLException if a database error occurs.
+     */
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return true;
+        }
+        DataSource current = target;
+        return current != null && current.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import javax.sql.DataSource;
+
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresCluster;
+
+import liquibase.exception.LiquibaseException;
+
+@FunctionalInterface
+public interface ClusterDataSourceFactory {
+
+    /**
+     * Create connection pool for the cluster and migrate (Liquibase) it if necessary.
+     *
+     * @param cluster AdditionalPostgresCluster to create data source for
+     * @param migrate true to migrate (Liquibase) the cluster, false if it's already migrated
+     * @return {@link DataSource} created (and migrated).
+     * @throws LiquibaseException when migration is failed.
+     */
+    DataSource createDataSource(AdditionalPostgresCluster cluster, boolean migrate) throws LiquibaseException;
+}
@@ -0,0 +1,90 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+public final class ClusterDataSources {
+
+    /**
+     * Constructor.
+     */
+    private ClusterDataSources() {
+    }
+
+    /**
+     * Get number of active (checked out) connections of the data source.
+     *
+     * @param dataSource {@link HikariDataSource}, {@link ClusterDataSource} or {@link ReadReplicaDataSource}
+     * @return number of active connections; 0 for not started pools and other data sources.
+     */
+    public static int getActiveConnections(final DataSource dataSource) {
+        if (dataSource instanceof ReadReplicaDataSource source) {
+            return source.getActiveConnections();
+        }
+        if (dataSource instanceof ClusterDataSource source) {
+            return source.getActiveConnections();
+        }
+        if (dataSource instanceof HikariDataSource source) {
+            HikariPoolMXBean pool = source.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+        return 0;
+    }
+
+    /**
+     * Get Hikari pool of the data source without creating it.
+     *
+     * @param dataSource {@link HikariDataSource} or {@link ClusterDataSource}
+     * @return HikariDataSource; null for not created pools and other data sources.
+     */
+    public static HikariDataSource getHikariDataSource(final DataSource dataSource) {
+        DataSource target = dataSource instanceof ClusterDataSource source
+                ? source.getTargetIfInitialized()
+                : dataSource;
+        return target instanceof HikariDataSource source && !source.isClosed() ? source : null;
+    }
+
+    /**
+     * Get connection demand of the pool: number of active connections plus number of threads awaiting a connection.
+     *
+     * @param dataSource HikariDataSource pool
+     * @return connection demand; 0 for not started pools.
+     */
+    public static int getDemand(final HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+    }
+
+    /**
+     * Close the data source if it's closeable; only replicas pools of {@link ReadReplicaDataSource} are closed.
+     *
+     * @param dataSource {@link HikariDataSource}, {@link ClusterDataSource} or {@link ReadReplicaDataSource}.
+     */
+    public static void close(final DataSource dataSource) {
+        if (dataSource instanceof ReadReplicaDataSource source) {
+            source.close();
+        } else if (dataSource instanceof ClusterDataSource source) {
+            source.close();
+        } else if (dataSource instanceof HikariDataSource source) {
+            source.close();
+        }
+    }
+}
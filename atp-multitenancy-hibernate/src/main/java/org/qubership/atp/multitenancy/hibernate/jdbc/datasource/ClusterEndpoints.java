@@ -0,0 +1,121 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.util.Locale;
+
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresCluster;
+import org.springframework.boot.jdbc.DatabaseDriver;
+
+/**
+ * Identity of clusters: endpoints shared by cluster entries, and names of clusters in pool names and metrics.
+ */
+public final class ClusterEndpoints {
+
+    /**
+     * Name of the default cluster in pool names and metrics.
+     */
+    public static final String DEFAULT_CLUSTER = "default";
+
+    /**
+     * Prefix of PostgreSQL JDBC urls.
+     */
+    private static final String POSTGRESQL_URL_PREFIX = "jdbc:postgresql://";
+
+    /**
+     * Default port of PostgreSQL.
+     */
+    private static final int POSTGRESQL_DEFAULT_PORT = 5432;
+
+    /**
+     * Constructor.
+     */
+    private ClusterEndpoints() {
+    }
+
+    /**
+     * Get endpoint of the cluster: normalized url, username and driver class name.
+     * Clusters with the same endpoint share one pool and one migration.
+     *
+     * @param cluster AdditionalPostgresCluster object
+     * @return String endpoint key.
+     */
+    public static String endpointOf(final AdditionalPostgresCluster cluster) {
+        String url = normalizeUrl(cluster.getUrl());
+        String driverClassName = cluster.getDriverClassName() != null
+                ? cluster.getDriverClassName().trim()
+                : DatabaseDriver.fromJdbcUrl(url).getDriverClassName();
+        return String.join("|", url, String.valueOf(cluster.getUsername()), String.valueOf(driverClassName));
+    }
+
+    /**
+     * Get url part of the endpoint.
+     *
+     * @param endpoint String endpoint key
+     * @return normalized url of the cluster.
+     */
+    public static String urlOf(final String endpoint) {
+        return endpoint.substring(0, endpoint.indexOf('|'));
+    }
+
+    /**
+     * Get name of the cluster for pool names and metrics: host, port and database of the normalized url.
+     *
+     * @param url String JDBC url of the cluster
+     * @return cluster name, e.g. "host:5432/database".
+     */
+    public static String clusterNameOf(final String url) {
+        String normalized = normalizeUrl(url);
+        int hostStart = normalized.indexOf("//");
+        String name = hostStart < 0 ? normalized : normalized.substring(hostStart + 2);
+        int query = name.indexOf('?');
+        return query < 0 ? name : name.substring(0, query);
+    }
+
+    /**
+     * Normalize JDBC url: trim it, lower-case its scheme and host, add default PostgreSQL port
+     * and remove trailing slash of the database path.
+     *
+     * @param url String JDBC url
+     * @return normalized url.
+     */
+    public static String normalizeUrl(final String url) {
+        String normalized = url.trim();
+        int hostStart = normalized.indexOf("//");
+        if (hostStart < 0) {
+            return normalized;
+        }
+        hostStart += 2;
+        int hostEnd = normalized.indexOf('/', hostStart);
+        if (hostEnd < 0) {
+            hostEnd = normalized.length();
+        }
+        String prefix = normalized.substring(0, hostStart).toLowerCase(Locale.ROOT);
+        String hosts = normalized.substring(hostStart, hostEnd).toLowerCase(Locale.ROOT);
+        String rest = normalized.substring(hostEnd);
+        if (prefix.startsWith(POSTGRESQL_URL_PREFIX) && !hosts.isEmpty() && !hosts.contains(",")
+                && hosts.indexOf(':', hosts.lastIndexOf(']') + 1) < 0) {
+            hosts = hosts + ":" + POSTGRESQL_DEFAULT_PORT;
+        }
+        int query = rest.indexOf('?');
+        String path = query < 0 ? rest : rest.substring(0, query);
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return prefix + hosts + path + (query < 0 ? "" : rest.substring(query));
+    }
+}
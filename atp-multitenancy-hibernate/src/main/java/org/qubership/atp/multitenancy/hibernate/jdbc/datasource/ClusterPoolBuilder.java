@@ -0,0 +1,230 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import javax.sql.DataSource;
+
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresCluster;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.DefaultPostgresCluster;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.MultiTenantDataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builder of connection pools of clusters and of their read replicas.
+ * <p>Pools get settings of spring.datasource.hikari, overridden by pool settings of additional clusters,
+ * and are named after their clusters.</p>
+ * <p>Auto-commit and transaction isolation of pools of primaries and of replicas are the same as the defaults
+ * the routing of read-only transactions assumes for connections it hasn't taken yet; isolation which isn't set
+ * is READ COMMITTED, the default of PostgreSQL.</p>
+ */
+@Slf4j
+public class ClusterPoolBuilder {
+
+    /**
+     * Prefix of pool names of clusters.
+     */
+    private static final String POOL_NAME_PREFIX = "atp-";
+
+    /**
+     * Transaction isolation used when spring.datasource.hikari doesn't set it.
+     */
+    private static final String DEFAULT_TRANSACTION_ISOLATION = "TRANSACTION_READ_COMMITTED";
+
+    /**
+     * HikariConfig object link.
+     */
+    private final HikariConfig hikariConfig;
+
+    /**
+     * Settings of read replicas.
+     */
+    private final MultiTenantDataSourceProperties.Replicas replicas;
+
+    /**
+     * Factory of Hikari metrics trackers set to all pools; null if pools aren't measured.
+     */
+    private final MetricsTrackerFactory metricsTrackerFactory;
+
+    /**
+     * Constructor.
+     *
+     * @param hikariConfig HikariConfig with common pool settings
+     * @param replicas settings of read replicas
+     * @param metricsTrackerFactory MetricsTrackerFactory set to all pools, or null if pools aren't measured.
+     */
+    public ClusterPoolBuilder(final HikariConfig hikariConfig,
+                              final MultiTenantDataSourceProperties.Replicas replicas,
+                              final MetricsTrackerFactory metricsTrackerFactory) {
+        this.hikariConfig = hikariConfig;
+        this.replicas = replicas;
+        this.metricsTrackerFactory = metricsTrackerFactory;
+    }
+
+    /**
+     * Build connection pool of the cluster.
+     *
+     * @param cluster DefaultPostgresCluster or AdditionalPostgresCluster
+     * @return DataSource pool of the cluster.
+     */
+    public DataSource build(final DefaultPostgresCluster cluster) {
+        return build(cluster, cluster.getUrl());
+    }
+
+    /**
+     * Build connection pool to the url given with settings of the cluster.
+     *
+     * @param cluster DefaultPostgresCluster or AdditionalPostgresCluster
+     * @param url String JDBC url, e.g. of a replica of the cluster
+     * @return DataSource pool.
+     */
+    public DataSource build(final DefaultPostgresCluster cluster, final String url) {
+        DataSource dataSource = DataSourceBuilder.create()
+                .driverClassName(cluster.getDriverClassName())
+                .username(cluster.getUsername())
+                .password(cluster.getPassword())
+                .url(url)
+                .build();
+        if (dataSource instanceof HikariDataSource source) {
+            setHikariProperties(source, cluster);
+            if (source.getPoolName() == null) {
+                source.setPoolName(poolNameOf(cluster));
+            }
+        }
+        return dataSource;
+    }
+
+    /**
+     * Build read replicas of the cluster.
+     *
+     * @param cluster DefaultPostgresCluster or AdditionalPostgresCluster
+     * @param primary DataSource of the primary, e.g. protected by the circuit breaker of the cluster
+     * @return ReadReplicaDataSource; null if the cluster has no replicas.
+     */
+    public ReadReplicaDataSource buildReadReplicas(final DefaultPostgresCluster cluster, final DataSource primary) {
+        List<String> replicaUrls = replicaUrlsOf(cluster);
+        if (replicaUrls.isEmpty()) {
+            return null;
+        }
+        List<DataSource> replicaDataSources = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            DataSource replica = build(cluster, replicaUrls.get(i));
+            if (replica instanceof HikariDataSource source) {
+                source.setReadOnly(true);
+                source.setPoolName(source.getPoolName() + "-replica-" + i);
+            }
+            replicaDataSources.add(replica);
+        }
+        ReadReplicaDataSource readReplicas = new ReadReplicaDataSource(cluster.getUrl(), primary, replicaUrls,
+                replicaDataSources, replicas.getSelection(), replicas.getMaxLag());
+        readReplicas.setDefaultAutoCommit(hikariConfig.isAutoCommit());
+        String isolation = transactionIsolationOf(hikariConfig);
+        if (isolation.chars().allMatch(Character::isDigit)) {
+            readReplicas.setDefaultTransactionIsolation(Integer.parseInt(isolation));
+        } else {
+            readReplicas.setDefaultTransactionIsolationName(isolation);
+        }
+        readReplicas.afterPropertiesSet();
+        log.info("Read-only transactions of cluster (url): {} are routed to replicas: {}", cluster.getUrl(),
+                replicaUrls);
+        return readReplicas;
+    }
+
+    /**
+     * Get urls of replicas of the cluster, without blank ones.
+     *
+     * @param cluster DefaultPostgresCluster or AdditionalPostgresCluster
+     * @return list of urls; empty if the cluster has no replicas.
+     */
+    public static List<String> replicaUrlsOf(final DefaultPostgresCluster cluster) {
+        return cluster.getReplicaUrls() == null ? List.of() : cluster.getReplicaUrls().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+    }
+
+    private String poolNameOf(final DefaultPostgresCluster cluster) {
+        if (!(cluster instanceof AdditionalPostgresCluster)) {
+            return hikariConfig.getPoolName() != null
+                    ? hikariConfig.getPoolName()
+                    : POOL_NAME_PREFIX + ClusterEndpoints.DEFAULT_CLUSTER;
+        }
+        return POOL_NAME_PREFIX + ClusterEndpoints.clusterNameOf(cluster.getUrl()).replaceAll("[^A-Za-z0-9._-]", "-");
+    }
+
+    private void setHikariProperties(final HikariDataSource dataSource, final DefaultPostgresCluster cluster) {
+        dataSource.setMinimumIdle(hikariConfig.getMinimumIdle());
+        dataSource.setMaximumPoolSize(hikariConfig.getMaximumPoolSize());
+        dataSource.setIdleTimeout(hikariConfig.getIdleTimeout());
+        dataSource.setMaxLifetime(hikariConfig.getMaxLifetime());
+        dataSource.setConnectionTimeout(hikariConfig.getConnectionTimeout());
+        dataSource.setLeakDetectionThreshold(hikariConfig.getLeakDetectionThreshold());
+        dataSource.setAutoCommit(hikariConfig.isAutoCommit());
+        dataSource.setTransactionIsolation(transactionIsolationOf(hikariConfig));
+        if (metricsTrackerFactory != null) {
+            dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+        }
+        hikariConfig.getDataSourceProperties()
+                .forEach((name, value) -> dataSource.addDataSourceProperty(String.valueOf(name), value));
+        if (cluster instanceof AdditionalPostgresCluster additionalCluster) {
+            setPoolProperties(dataSource, additionalCluster.getPool());
+        }
+    }
+
+    private static String transactionIsolationOf(final HikariConfig hikariConfig) {
+        String isolation = hikariConfig.getTransactionIsolation();
+        return isolation == null || isolation.isBlank()
+                ? DEFAULT_TRANSACTION_ISOLATION
+                : isolation.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static void setPoolProperties(final HikariDataSource dataSource,
+                                          final AdditionalPostgresCluster.Pool pool) {
+        if (pool.getMaximumPoolSize() != null) {
+            dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        }
+        if (pool.getMinimumIdle() != null) {
+            dataSource.setMinimumIdle(pool.getMinimumIdle());
+        }
+        if (pool.getConnectionTimeout() != null) {
+            dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        }
+        if (pool.getIdleTimeout() != null) {
+            dataSource.setIdleTimeout(pool.getIdleTimeout().toMillis());
+        }
+        if (pool.getMaxLifetime() != null) {
+            dataSource.setMaxLifetime(pool.getMaxLifetime().toMillis());
+        }
+        if (pool.getLeakDetectionThreshold() != null) {
+            dataSource.setLeakDetectionThreshold(pool.getLeakDetectionThreshold().toMillis());
+        }
+        if (pool.getPoolName() != null) {
+            dataSource.setPoolName(pool.getPoolName());
+        }
+        pool.getDataSourceProperties().forEach(dataSource::addDataSourceProperty);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown instead of waiting for a connection when the circuit breaker of the cluster is open.
+ */
+public class ClusterUnavailableException extends SQLTransientConnectionException {
+
+    /**
+     * SQLState of the exception: SQL client unable to establish SQL connection.
+     */
+    private static final String SQL_STATE = "08001";
+
+    /**
+     * Url of the cluster.
+     */
+    private final String clusterUrl;
+
+    /**
+     * Constructor.
+     *
+     * @param clusterUrl String url of the cluster.
+     */
+    public ClusterUnavailableException(final String clusterUrl) {
+        super("Cluster (url): %s is unavailable, circuit breaker is open".formatted(clusterUrl), SQL_STATE);
+        this.clusterUrl = clusterUrl;
+    }
+
+    /**
+     * Get url of the unavailable cluster.
+     *
+     * @return String url.
+     */
+    public String getClusterUrl() {
+        return clusterUrl;
+    }
+}
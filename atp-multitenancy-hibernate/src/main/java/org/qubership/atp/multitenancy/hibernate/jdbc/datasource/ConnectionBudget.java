@@ -0,0 +1,86 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.util.List;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class ConnectionBudget {
+
+    /**
+     * Constructor.
+     */
+    private ConnectionBudget() {
+    }
+
+    /**
+     * Divide connection budget across pools proportionally to their demand.
+     * Each pool gets at least minPoolSize connections (so the sum can exceed the budget
+     * if the budget is less than minPoolSize per pool), and at most its cap.
+     * Idle pools are weighted as if they had demand of 1, so they keep a share of the spare budget.
+     *
+     * @param maxConnections total number of connections to be divided
+     * @param minPoolSize minimum size of each pool
+     * @param demands connection demand of each pool
+     * @param caps maximum size of each pool; 0 for no limit
+     * @return maximum size of each pool.
+     */
+    public static int[] divide(final int maxConnections, final int minPoolSize, final int[] demands,
+                               final int[] caps) {
+        int[] sizes = new int[demands.length];
+        long spare = Math.max(0, (long) maxConnections - (long) minPoolSize * demands.length);
+        long totalWeight = 0;
+        for (int demand : demands) {
+            totalWeight += Math.max(0, demand) + 1;
+        }
+        for (int i = 0; i < demands.length; i++) {
+            long share = totalWeight == 0 ? 0 : spare * (Math.max(0, demands[i]) + 1) / totalWeight;
+            int size = (int) Math.min(Integer.MAX_VALUE, minPoolSize + share);
+            sizes[i] = Math.max(1, caps[i] > 0 ? Math.min(size, caps[i]) : size);
+        }
+        return sizes;
+    }
+
+    /**
+     * Divide connection budget across the pools proportionally to their demand
+     * (active connections plus threads awaiting a connection), and set maximum sizes of the pools.
+     *
+     * @param maxConnections total number of connections to be divided
+     * @param minPoolSize minimum size of each pool
+     * @param pools list of started pools
+     * @param caps maximum size of each pool; 0 for no limit.
+     */
+    public static void rebalance(final int maxConnections, final int minPoolSize,
+                                 final List<HikariDataSource> pools, final int[] caps) {
+        int[] demands = new int[pools.size()];
+        for (int i = 0; i < pools.size(); i++) {
+            demands[i] = ClusterDataSources.getDemand(pools.get(i));
+        }
+        int[] sizes = divide(maxConnections, minPoolSize, demands, caps);
+        for (int i = 0; i < sizes.length; i++) {
+            HikariDataSource pool = pools.get(i);
+            if (pool.getMaximumPoolSize() != sizes[i]) {
+                log.debug("Maximum pool size of {} is changed: {} -> {} (demand: {})", pool.getPoolName(),
+                        pool.getMaximumPoolSize(), sizes[i], demands[i]);
+                pool.setMaximumPoolSize(sizes[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Preparation of a physical connection taken from a pool, e.g. setting search_path of the tenant schema.
+ */
+@FunctionalInterface
+public interface ConnectionInitializer {
+
+    /**
+     * Prepare the connection.
+     *
+     * @param connection Connection taken from a pool
+     * @throws SQLException if the connection can't be prepared.
+     */
+    void initialize(Connection connection) throws SQLException;
+
+    /**
+     * Get connection from the data source and prepare it; the connection is closed if it can't be prepared.
+     *
+     * @param dataSource DataSource to take connection from
+     * @return prepared Connection.
+     * @throws SQLException if the connection can't be got or prepared.
+     */
+    default Connection getConnection(final DataSource dataSource) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try {
+            initialize(connection);
+        } catch (SQLException | RuntimeException e) {
+            try {
+                connection.close();
+            } catch (SQLException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+        return connection;
+    }
+
+    /**
+     * Wrap the data source, so its connections are prepared.
+     *
+     * @param dataSource DataSource to be wrapped
+     * @return DataSource wrapper.
+     */
+    default DataSource wrap(final DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return ConnectionInitializer.this.getConnection(dataSource);
+            }
+        };
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.MultiTenantDataSourceProperties.Replicas.Selection;
+import org.qubership.atp.multitenancy.hibernate.metrics.ConnectionMetrics;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Data source of a cluster with read replicas.
+ * <p>Connections are taken lazily: a transaction marked as read-only before the first statement
+ * (e.g. {@code @Transactional(readOnly = true)}) gets a connection of a replica, other ones - of the primary.
+ * Replicas which failed to connect or lag more than maxLag are skipped until the next successful check;
+ * read-only transactions go to the primary if no replica is available.</p>
+ * <p>As physical connections are taken after checkout, their acquisitions are recorded by connection metrics
+ * here, with the tenant of the thread taking them.</p>
+ */
+@Slf4j
+public class ReadReplicaDataSource extends LazyConnectionDataSourceProxy {
+
+    /**
+     * Query of replication lag in milliseconds; 0 for the primary and for replicas which replayed all received WAL.
+     */
+    private static final String REPLICATION_LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+            + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    /**
+     * Url of the primary.
+     */
+    private final String clusterUrl;
+
+    /**
+     * DataSource of the primary.
+     */
+    private final DataSource primary;
+
+    /**
+     * Replicas of the cluster.
+     */
+    private final List<Replica> replicas;
+
+    /**
+     * Way a replica is selected.
+     */
+    private final Selection selection;
+
+    /**
+     * Maximum replication lag in milliseconds; 0 if lag isn't checked.
+     */
+    private final long maxLagMillis;
+
+    /**
+     * DataSource selecting a replica for read-only connections.
+     */
+    private final DataSource readOnlySelector;
+
+    /**
+     * Lazy proxies per initializer of physical connections; built on the first checkout with the initializer.
+     */
+    private final Map<ConnectionInitializer, LazyConnectionDataSourceProxy> initializedProxies =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Recorder of acquisitions of physical connections.
+     */
+    private volatile ConnectionMetrics connectionMetrics = ConnectionMetrics.NOOP;
+
+    /**
+     * Name of the cluster in connection metrics.
+     */
+    private volatile String clusterName;
+
+    /**
+     * Counter of round-robin selection.
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Number of read-only connections taken from replicas.
+     */
+    private final LongAdder replicaConnectionCount = new LongAdder();
+
+    /**
+     * Number of read-only connections taken from the primary because no replica was available.
+     */
+    private final LongAdder fallbackCount = new LongAdder();
+
+    /**
+     * Constructor.
+     * Default auto-commit and transaction isolation should be set before
+     * {@link #afterPropertiesSet()} is called, so no connection is taken to determine them.
+     *
+     * @param clusterUrl String url of the primary
+     * @param primary DataSource of the primary
+     * @param replicaUrls urls of replicas
+     * @param replicaDataSources DataSources of replicas, in the same order as urls
+     * @param selection way a replica is selected
+     * @param maxLag maximum replication lag; null if lag isn't checked.
+     */
+    public ReadReplicaDataSource(final String clusterUrl,
+                                 final DataSource primary,
+                                 final List<String> replicaUrls,
+                                 final List<DataSource> replicaDataSources,
+                                 final Selection selection,
+                                 final Duration maxLag) {
+        this.clusterUrl = clusterUrl;
+        this.primary = primary;
+        this.clusterName = ClusterEndpoints.clusterNameOf(clusterUrl);
+        this.selection = selection;
+        this.maxLagMillis = maxLag == null ? 0 : maxLag.toMillis();
+        List<Replica> list = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            list.add(new Replica(replicaUrls.get(i), replicaDataSources.get(i)));
+        }
+        this.replicas = List.copyOf(list);
+        this.readOnlySelector = recording(new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return getReadOnlyConnection();
+            }
+
+            @Override
+            public Connection getConnection(final String username, final String password) throws SQLException {
+                return getReadOnlyConnection();
+            }
+        });
+        setTargetDataSource(recording(primary));
+        setReadOnlyDataSource(readOnlySelector);
+    }
+
+    /**
+     * Set recorder of acquisitions of physical connections.
+     *
+     * @param connectionMetrics ConnectionMetrics object, or null to stop recording
+     * @param clusterName String name of the cluster in metrics.
+     */
+    public void setConnectionMetrics(final ConnectionMetrics connectionMetrics, final String clusterName) {
+        this.clusterName = clusterName;
+        this.connectionMetrics = connectionMetrics == null ? ConnectionMetrics.NOOP : connectionMetrics;
+    }
+
+    /**
+     * Get lazy connection which physical connection (of the primary or of a replica) is prepared
+     * by the initializer once it's taken.
+     * One proxy is built per initializer and reused by next checkouts with it,
+     * so initializers are expected to be reused too (see TenantSchemas#initializerOf).
+     *
+     * @param initializer ConnectionInitializer of physical connections
+     * @return Connection proxy.
+     * @throws SQLException if the connection can't be got.
+     */
+    public Connection getConnection(final ConnectionInitializer initializer) throws SQLException {
+        LazyConnectionDataSourceProxy proxy = initializedProxies.get(initializer);
+        if (proxy == null) {
+            proxy = initializedProxies.computeIfAbsent(initializer, this::createProxy);
+        }
+        return proxy.getConnection();
+    }
+
+    private LazyConnectionDataSourceProxy createProxy(final ConnectionInitializer initializer) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(initializer.wrap(obtainTargetDataSource()));
+        proxy.setReadOnlyDataSource(initializer.wrap(readOnlySelector));
+        proxy.setDefaultAutoCommit(defaultAutoCommit());
+        proxy.setDefaultTransactionIsolation(defaultTransactionIsolation());
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    private DataSource recording(final DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                ConnectionMetrics metrics = connectionMetrics;
+                if (metrics == ConnectionMetrics.NOOP) {
+                    return dataSource.getConnection();
+                }
+                long start = System.nanoTime();
+                boolean acquired = false;
+                try {
+                    Connection connection = dataSource.getConnection();
+                    acquired = true;
+                    return connection;
+                } finally {
+                    metrics.recordAcquisition(TenantContext.getTenantInfo(), clusterName,
+                            System.nanoTime() - start, acquired);
+                }
+            }
+        };
+    }
+
+    /**
+     * Get connection of an available replica, or of the primary if no replica is available.
+     *
+     * @return Connection object.
+     * @throws SQLException if the connection can't be got.
+     */
+    public Connection getReadOnlyConnection() throws SQLException {
+        Replica replica = select();
+        while (replica != null) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaConnectionCount.increment();
+                return connection;
+            } catch (SQLException e) {
+                if (!ClusterCircuitBreaker.isConnectionFailure(e)) {
+                    throw e;
+                }
+                replica.available = false;
+                log.warn("Replica (url): {} is unavailable, it's skipped until the next check: {}",
+                        replica.url, e.getMessage());
+            }
+            replica = select();
+        }
+        fallbackCount.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Check replicas: replicas with created pools and replicas which failed to connect are checked,
+     * replicas lagging more than maxLag or failed to connect are skipped until the next check.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            HikariDataSource pool = ClusterDataSources.getHikariDataSource(replica.dataSource);
+            if (replica.available && pool != null && pool.getHikariPoolMXBean() == null) {
+                continue;
+            }
+            boolean available;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+                replica.lagMillis = resultSet.next() ? resultSet.getLong(1) : 0;
+                available = maxLagMillis <= 0 || replica.lagMillis <= maxLagMillis;
+            } catch (SQLException | RuntimeException e) {
+                log.debug("Check of replica (url): {} failed", replica.url, e);
+                available = false;
+            }
+            if (available != replica.available) {
+                log.info("Replica (url): {} is {} (replication lag: {} ms)", replica.url,
+                        available ? "available" : "skipped", replica.lagMillis);
+            }
+            replica.available = available;
+        }
+    }
+
+    private Replica select() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        Replica selected = null;
+        int selectedDemand = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.available) {
+                continue;
+            }
+            if (selection == Selection.ROUND_ROBIN) {
+                return replica;
+            }
+            HikariDataSource pool = ClusterDataSources.getHikariDataSource(replica.dataSource);
+            int demand = pool == null ? 0 : ClusterDataSources.getDemand(pool);
+            if (demand < selectedDemand) {
+                selected = replica;
+                selectedDemand = demand;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Get url of the primary.
+     *
+     * @return String url.
+     */
+    public String getClusterUrl() {
+        return clusterUrl;
+    }
+
+    /**
+     * Get urls of replicas.
+     *
+     * @return list of urls.
+     */
+    public List<String> getReplicaUrls() {
+        return replicas.stream().map(replica -> replica.url).toList();
+    }
+
+    /**
+     * Get number of replicas which aren't skipped.
+     *
+     * @return number of available replicas.
+     */
+    public int getAvailableReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.available).count();
+    }
+
+    /**
+     * Get number of active connections of replicas pools.
+     *
+     * @return number of active connections.
+     */
+    public int getActiveConnections() {
+        return replicas.stream().mapToInt(replica -> ClusterDataSources.getActiveConnections(replica.dataSource))
+                .sum();
+    }
+
+    /**
+     * Get number of read-only connections taken from replicas.
+     *
+     * @return number of connections.
+     */
+    public long getReplicaConnectionCount() {
+        return replicaConnectionCount.sum();
+    }
+
+    /**
+     * Get number of read-only connections taken from the primary because no replica was available.
+     *
+     * @return number of connections.
+     */
+    public long getFallbackCount() {
+        return fallbackCount.sum();
+    }
+
+    /**
+     * Close pools of replicas; the primary isn't closed.
+     */
+    public void close() {
+        replicas.forEach(replica -> ClusterDataSources.close(replica.dataSource));
+    }
+
+    private static final class Replica {
+
+        /**
+         * Url of the replica.
+         */
+        private final String url;
+
+        /**
+         * DataSource of the replica.
+         */
+        private final DataSource dataSource;
+
+        /**
+         * Whether the replica is selected for read-only connections.
+         */
+        private volatile boolean available = true;
+
+        /**
+         * Replication lag measured by the last check, in milliseconds.
+         */
+        private volatile long lagMillis;
+
+        private Replica(final String url, final DataSource dataSource) {
+            this.url = url;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+/**
+ * Per-tenant limits of concurrently used connections (bulkheads), so one tenant can't take
+ * the whole pool of a cluster shared with other tenants.
+ * <p>A permit is acquired before a connection of the tenant is taken from the pool and released when
+ * the connection is returned. Limits are resolved on the first use of the tenant and can be updated later,
+ * e.g. when routing is refreshed; permits in use are kept on update.</p>
+ * <p>Only known tenants (e.g. routed or registered ones) get their own bulkheads, so the number of bulkheads
+ * doesn't grow with arbitrary tenant ids of requests; other tenants share the bulkhead of the default tenant.
+ * Bulkheads of tenants which aren't known anymore are removed on update. A permit is released to the bulkhead
+ * it's acquired from, even if the tenant has become known or unknown in the meantime.</p>
+ */
+public class TenantBulkheads {
+
+    /**
+     * Bulkheads by tenant identifier.
+     */
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * Bulkhead shared by tenants which aren't known; created on its first use.
+     */
+    private volatile Bulkhead sharedBulkhead;
+
+    /**
+     * Resolver of the tenant connection limit.
+     */
+    private final ToIntFunction<String> limitResolver;
+
+    /**
+     * Check of tenants which get their own bulkheads.
+     */
+    private final Predicate<String> knownTenants;
+
+    /**
+     * Maximum time to wait for a permit, in nanoseconds.
+     */
+    private final long acquireTimeoutNanos;
+
+    /**
+     * Number of permits not acquired within the timeout.
+     */
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Number of permits acquired after waiting.
+     */
+    private final LongAdder waitCount = new LongAdder();
+
+    /**
+     * Total time spent waiting for permits, in nanoseconds.
+     */
+    private final LongAdder waitTimeNanos = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param limitResolver resolver of the tenant connection limit
+     * @param knownTenants check of tenants which get their own bulkheads
+     * @param acquireTimeout maximum time to wait for a permit.
+     */
+    public TenantBulkheads(final ToIntFunction<String> limitResolver,
+                           final Predicate<String> knownTenants,
+                           final Duration acquireTimeout) {
+        this.limitResolver = limitResolver;
+        this.knownTenants = knownTenants;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    /**
+     * Acquire a permit of the tenant, waiting up to the acquire timeout if the tenant has reached its limit.
+     *
+     * @param tenantId String tenant identifier
+     * @return Permit to be released when the connection is returned.
+     * @throws TenantConnectionLimitException if the permit isn't acquired within the timeout
+     * @throws SQLTransientConnectionException if the thread is interrupted while waiting.
+     */
+    public Permit acquire(final String tenantId) throws SQLTransientConnectionException {
+        Bulkhead bulkhead = bulkheadOf(tenantId);
+        if (bulkhead.tryAcquire()) {
+            return bulkhead;
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection of tenant "
+                    + tenantId, e);
+        } finally {
+            waitTimeNanos.add(System.nanoTime() - start);
+        }
+        if (!acquired) {
+            rejectedCount.increment();
+            throw new TenantConnectionLimitException(tenantId, bulkhead.limit);
+        }
+        waitCount.increment();
+        return bulkhead;
+    }
+
+    /**
+     * Remove bulkheads of tenants which aren't known anymore, resolve limits of the rest again
+     * and apply changed ones.
+     */
+    public void updateLimits() {
+        bulkheads.keySet().removeIf(knownTenants.negate());
+        bulkheads.forEach((tenantId, bulkhead) -> bulkhead.resize(Math.max(1, limitResolver.applyAsInt(tenantId))));
+        Bulkhead shared = sharedBulkhead;
+        if (shared != null) {
+            shared.resize(Math.max(1, limitResolver.applyAsInt(TenantContext.DEFAULT_TENANT)));
+        }
+    }
+
+    /**
+     * Get connection limit of the tenant.
+     *
+     * @param tenantId String tenant identifier
+     * @return limit; 0 if the tenant (or tenants sharing the bulkhead) hasn't used connections yet.
+     */
+    public int getLimit(final String tenantId) {
+        Bulkhead bulkhead = findBulkhead(tenantId);
+        return bulkhead == null ? 0 : bulkhead.limit;
+    }
+
+    /**
+     * Get number of permits of the tenant in use; for tenants which aren't known, permits in use
+     * by all tenants sharing the bulkhead.
+     *
+     * @param tenantId String tenant identifier
+     * @return number of connections in use.
+     */
+    public int getActiveConnections(final String tenantId) {
+        Bulkhead bulkhead = findBulkhead(tenantId);
+        return bulkhead == null ? 0 : bulkhead.limit - bulkhead.availablePermits();
+    }
+
+    /**
+     * Get number of tenants with their own bulkheads.
+     *
+     * @return number of bulkheads.
+     */
+    public int getBulkheadCount() {
+        return bulkheads.size();
+    }
+
+    private Bulkhead bulkheadOf(final String tenantId) {
+        Bulkhead bulkhead = bulkheads.get(tenantId);
+        if (bulkhead != null) {
+            return bulkhead;
+        }
+        if (knownTenants.test(tenantId)) {
+            return bulkheads.computeIfAbsent(tenantId, id -> new Bulkhead(Math.max(1, limitResolver.applyAsInt(id))));
+        }
+        Bulkhead shared = sharedBulkhead;
+        if (shared == null) {
+            synchronized (this) {
+                shared = sharedBulkhead;
+                if (shared == null) {
+                    shared = new Bulkhead(Math.max(1, limitResolver.applyAsInt(TenantContext.DEFAULT_TENANT)));
+                    sharedBulkhead = shared;
+                }
+            }
+        }
+        return shared;
+    }
+
+    private Bulkhead findBulkhead(final String tenantId) {
+        Bulkhead bulkhead = bulkheads.get(tenantId);
+        return bulkhead != null || knownTenants.test(tenantId) ? bulkhead : sharedBulkhead;
+    }
+
+    /**
+     * Get number of permits not acquired within the timeout.
+     *
+     * @return number of rejections.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Get number of permits acquired after waiting.
+     *
+     * @return number of waits.
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * Get total time spent waiting for permits, including rejected attempts.
+     *
+     * @return Duration of waiting.
+     */
+    public Duration getWaitTime() {
+        return Duration.ofNanos(waitTimeNanos.sum());
+    }
+
+    /**
+     * Permit of a bulkhead.
+     */
+    public interface Permit {
+
+        /**
+         * Release the permit to the bulkhead it's acquired from.
+         */
+        void release();
+    }
+
+    /**
+     * Semaphore which number of permits can be changed while permits are in use.
+     */
+    private static final class Bulkhead extends Semaphore implements Permit {
+
+        /**
+         * Current limit.
+         */
+        private volatile int limit;
+
+        private Bulkhead(final int limit) {
+            super(limit);
+            this.limit = limit;
+        }
+
+        private synchronized void resize(final int newLimit) {
+            int delta = newLimit - limit;
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+            limit = newLimit;
+        }
+    }
+}
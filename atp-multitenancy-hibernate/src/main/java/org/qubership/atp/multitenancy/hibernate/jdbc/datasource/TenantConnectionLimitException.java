@@ -0,0 +1,50 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown when a tenant has reached its connection limit and no connection was returned within the acquire timeout.
+ */
+public class TenantConnectionLimitException extends SQLTransientConnectionException {
+
+    /**
+     * Tenant identifier.
+     */
+    private final String tenantId;
+
+    /**
+     * Constructor.
+     *
+     * @param tenantId String tenant identifier
+     * @param limit connection limit of the tenant.
+     */
+    public TenantConnectionLimitException(final String tenantId, final int limit) {
+        super("Tenant %s has reached its connection limit (%d)".formatted(tenantId, limit));
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Get identifier of the tenant which has reached its connection limit.
+     *
+     * @return String tenant identifier.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+}
@@ -16,46 +16,87 @@
 
 package org.qubership.atp.multitenancy.hibernate.jdbc.lookup;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.sql.DataSource;
 
 import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.atp.multitenancy.hibernate.jdbc.connections.TenantSchemas;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ClusterCircuitBreaker;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ClusterDataSource;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ClusterDataSources;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ClusterEndpoints;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ClusterPoolBuilder;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ConnectionBudget;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ConnectionInitializer;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ReadReplicaDataSource;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.TenantBulkheads;
+import org.qubership.atp.multitenancy.hibernate.jdbc.migration.ClusterMigrations;
 import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresCluster;
 import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresClusters;
 import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.DefaultPostgresCluster;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.MultiTenantDataSourceProperties;
+import org.qubership.atp.multitenancy.hibernate.metrics.ConnectionMetrics;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
-import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.util.Assert;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 import liquibase.exception.LiquibaseException;
 import liquibase.integration.spring.SpringLiquibase;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class TenantRoutingDataSource extends AbstractRoutingDataSource {
+public class TenantRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
 
     /**
-     * TenantIdentifierResolver object link.
+     * Interval of active connections checks while removed cluster is drained, in milliseconds.
      */
-    private final TenantIdentifierResolver tenantIdentifierResolver;
+    private static final long DRAIN_CHECK_INTERVAL_MILLIS = 100;
+
+    /**
+     * Interval of open circuit breakers checks, in milliseconds.
+     */
+    private static final long PROBE_CHECK_INTERVAL_MILLIS = 1000;
 
     /**
-     * DataSourceBuilder object link.
+     * Interval of pruning search_path tracking of closed connections, in milliseconds.
      */
-    private final DataSourceBuilder<? extends DataSource> dataSourceBuilder;
+    private static final long SCHEMA_PRUNE_INTERVAL_MILLIS = 60_000;
 
     /**
-     * ResourceLoader object link.
+     * Interval of migrating tenant schemas requested before they were migrated, in milliseconds.
      */
-    private final ResourceLoader resourceLoader;
+    private static final long SCHEMA_MIGRATION_INTERVAL_MILLIS = 1_000;
+
+    /**
+     * TenantIdentifierResolver object link.
+     */
+    private final TenantIdentifierResolver tenantIdentifierResolver;
 
     /**
      * SpringLiquibase object link.
@@ -68,12 +109,68 @@ public class TenantRoutingDataSource extends AbstractRoutingDataSource {
     private final HikariConfig hikariConfig;
 
     /**
-     * LiquibaseProperties object link.
+     * MultiTenantDataSourceProperties object link.
      */
-    private final LiquibaseProperties liquibaseProperties;
+    private final MultiTenantDataSourceProperties properties;
 
     /**
-     * Constructor.
+     * Schemas of tenants; null if schema-per-tenant mode is disabled.
+     */
+    private final TenantSchemas tenantSchemas;
+
+    /**
+     * Per-tenant connection limits; null if bulkhead is disabled.
+     */
+    private final TenantBulkheads tenantBulkheads;
+
+    /**
+     * Builder of pools of clusters and of their read replicas.
+     */
+    private final ClusterPoolBuilder poolBuilder;
+
+    /**
+     * Liquibase migrations of clusters and tenant schemas.
+     */
+    private final ClusterMigrations migrations;
+
+    /**
+     * Recorder of connection acquisitions.
+     */
+    private volatile ConnectionMetrics connectionMetrics = ConnectionMetrics.NOOP;
+
+    /**
+     * Lock serializing routing refreshes; the request path doesn't take it.
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * Current routing of projects to additional clusters; replaced as a whole on refresh.
+     */
+    private volatile Routing routing = new Routing(Map.of(), Map.of());
+
+    /**
+     * Default data source.
+     */
+    private DataSource defaultDataSource;
+
+    /**
+     * Read replicas of the default cluster; null if the default cluster has no replicas.
+     */
+    private ReadReplicaDataSource defaultReadReplicas;
+
+    /**
+     * Scheduler of idle pools eviction, connection budget rebalancing, probes of unavailable clusters
+     * and replicas checks; null if all of them are disabled.
+     */
+    private ScheduledExecutorService maintenanceScheduler;
+
+    /**
+     * Whether replicas checks are scheduled.
+     */
+    private boolean replicaChecksScheduled;
+
+    /**
+     * Constructor with default multi-tenant data source properties.
      *
      * @param tenantIdentifierResolver TenantIdentifierResolver bean
      * @param springLiquibase SpringLiquibase bean
@@ -91,17 +188,87 @@ public class TenantRoutingDataSource extends AbstractRoutingDataSource {
                                    final DefaultPostgresCluster defaultPostgresCluster,
                                    final HikariConfig hikariConfig,
                                    final LiquibaseProperties liquibaseProperties) throws LiquibaseException {
+        this(tenantIdentifierResolver, springLiquibase, resourceLoader, additionalPostgresClusters,
+                defaultPostgresCluster, hikariConfig, liquibaseProperties, new MultiTenantDataSourceProperties());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenantIdentifierResolver TenantIdentifierResolver bean
+     * @param springLiquibase SpringLiquibase bean
+     * @param resourceLoader ResourceLoader bean
+     * @param additionalPostgresClusters AdditionalPostgresClusters bean
+     * @param defaultPostgresCluster DefaultPostgresCluster bean
+     * @param hikariConfig HikariConfig bean
+     * @param liquibaseProperties LiquibaseProperties bean
+     * @param properties MultiTenantDataSourceProperties bean
+     * @throws LiquibaseException in case Liquibase errors occurred.
+     */
+    public TenantRoutingDataSource(final TenantIdentifierResolver tenantIdentifierResolver,
+                                   final SpringLiquibase springLiquibase,
+                                   final ResourceLoader resourceLoader,
+                                   final AdditionalPostgresClusters additionalPostgresClusters,
+                                   final DefaultPostgresCluster defaultPostgresCluster,
+                                   final HikariConfig hikariConfig,
+                                   final LiquibaseProperties liquibaseProperties,
+                                   final MultiTenantDataSourceProperties properties) throws LiquibaseException {
+        this(tenantIdentifierResolver, springLiquibase, resourceLoader, additionalPostgresClusters,
+                defaultPostgresCluster, hikariConfig, liquibaseProperties, properties, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenantIdentifierResolver TenantIdentifierResolver bean
+     * @param springLiquibase SpringLiquibase bean
+     * @param resourceLoader ResourceLoader bean
+     * @param additionalPostgresClusters AdditionalPostgresClusters bean
+     * @param defaultPostgresCluster DefaultPostgresCluster bean
+     * @param hikariConfig HikariConfig bean
+     * @param liquibaseProperties LiquibaseProperties bean
+     * @param properties MultiTenantDataSourceProperties bean
+     * @param metricsTrackerFactory MetricsTrackerFactory set to all pools, or null if pools aren't measured
+     * @throws LiquibaseException in case Liquibase errors occurred.
+     */
+    public TenantRoutingDataSource(final TenantIdentifierResolver tenantIdentifierResolver,
+                                   final SpringLiquibase springLiquibase,
+                                   final ResourceLoader resourceLoader,
+                                   final AdditionalPostgresClusters additionalPostgresClusters,
+                                   final DefaultPostgresCluster defaultPostgresCluster,
+                                   final HikariConfig hikariConfig,
+                                   final LiquibaseProperties liquibaseProperties,
+                                   final MultiTenantDataSourceProperties properties,
+                                   final MetricsTrackerFactory metricsTrackerFactory) throws LiquibaseException {
         this.tenantIdentifierResolver = tenantIdentifierResolver;
-        this.dataSourceBuilder = DataSourceBuilder.create();
         this.springLiquibase = springLiquibase;
         this.hikariConfig = hikariConfig;
-        this.resourceLoader = resourceLoader;
-        this.liquibaseProperties = liquibaseProperties;
-        DataSource defaultDataSource = createDefaultDataSource(defaultPostgresCluster);
+        this.properties = properties;
+        this.poolBuilder = new ClusterPoolBuilder(hikariConfig, properties.getReplicas(), metricsTrackerFactory);
+        this.migrations = new ClusterMigrations(resourceLoader, liquibaseProperties, properties.getMigration());
+        this.tenantSchemas = properties.getSchemaPerTenant().isEnabled()
+                ? new TenantSchemas(properties.getSchemaPerTenant().getSchemaPrefix(), migrations::migrateSchema)
+                : null;
+        this.tenantBulkheads = properties.getBulkhead().isEnabled()
+                ? new TenantBulkheads(this::getTenantConnectionLimit, this::isKnownTenant,
+                        properties.getBulkhead().getAcquireTimeout())
+                : null;
+        this.defaultDataSource = createDefaultDataSource(defaultPostgresCluster);
+        this.defaultReadReplicas = poolBuilder.buildReadReplicas(defaultPostgresCluster, defaultDataSource);
         setDefaultTargetDataSource(defaultDataSource);
+        if (tenantSchemas != null) {
+            TenantContext.addTenantRegistryListener(tenantSchemas);
+            tenantSchemas.onTenantsChanged(TenantContext.getTenantRegistry());
+        }
         Map<Object, Object> targetDataSources = new HashMap<>();
-        createTargetDataSources(additionalPostgresClusters, targetDataSources);
+        try {
+            createTargetDataSources(additionalPostgresClusters, targetDataSources);
+        } catch (LiquibaseException | RuntimeException e) {
+            destroy();
+            throw e;
+        }
         setTargetDataSources(targetDataSources);
+        startMaintenance();
     }
 
     /**
@@ -114,41 +281,234 @@ public class TenantRoutingDataSource extends AbstractRoutingDataSource {
         return tenantIdentifierResolver.resolveCurrentTenantIdentifier();
     }
 
-    private DataSource createDataSource(final String url,
-                                        final String user,
-                                        final String password,
-                                        final String driverClassName) throws LiquibaseException {
-        dataSourceBuilder.driverClassName(driverClassName);
-        dataSourceBuilder.username(user);
-        dataSourceBuilder.password(password);
-        dataSourceBuilder.url(url);
-        DataSource dataSource = dataSourceBuilder.build();
-        if (dataSource instanceof HikariDataSource source) {
-            setHikariProperties(source);
+    /**
+     * Determine DataSource of the current tenant from the current routing;
+     * the default data source is returned for unknown tenants.
+     *
+     * @return DataSource of the current tenant.
+     */
+    @Override
+    protected DataSource determineTargetDataSource() {
+        return determineDataSource(determineCurrentLookupKey());
+    }
+
+    /**
+     * Determine DataSource of the tenant given from the current routing, regardless of the current tenant;
+     * the default data source is returned for unknown tenants.
+     *
+     * @param lookupKey tenant identifier
+     * @return DataSource of the tenant.
+     */
+    public DataSource determineDataSource(final Object lookupKey) {
+        return determineDataSource(routing, lookupKey);
+    }
+
+    private DataSource determineDataSource(final Routing current, final Object lookupKey) {
+        DataSource dataSource = lookupKey == null ? null : current.dataSources().get(lookupKey);
+        if (dataSource != null) {
+            return dataSource;
         }
-        migrateDataSource(dataSource);
-        return dataSource;
+        Assert.state(defaultDataSource != null,
+                () -> "Cannot determine target DataSource for lookup key [%s]".formatted(lookupKey));
+        return defaultDataSource;
+    }
+
+    /**
+     * Get connection to the data source of the current tenant, through the circuit breaker of its cluster;
+     * read-only transactions get connections of replicas if the cluster has them.
+     * In schema-per-tenant mode, search_path of the connection is set to the tenant schema.
+     *
+     * @return Connection object.
+     * @throws SQLException if the connection can't be got or the cluster circuit breaker is open.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getTenantConnection(determineCurrentLookupKey());
+    }
+
+    /**
+     * Connections for other users aren't supported: pools of clusters are created with the credentials
+     * of the clusters, and such connections would bypass circuit breakers, replicas and tenant schemas.
+     *
+     * @param username String username
+     * @param password String password
+     * @return never returns normally.
+     * @throws SQLException always, {@link SQLFeatureNotSupportedException}.
+     */
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connections of tenants can't be got for another user");
+    }
+
+    /**
+     * Get connection to the data source of the tenant given, regardless of the current tenant,
+     * through the circuit breaker of its cluster; read-only transactions get connections of replicas
+     * if the cluster has them.
+     * In schema-per-tenant mode, search_path of the connection is set to the schema of a registered tenant;
+     * other tenants get default search_path. A tenant schema which isn't migrated yet is migrated in background,
+     * and its connections are refused until then.
+     * Acquisitions and routing of tenants to the default cluster are recorded by connection metrics if they are set;
+     * for clusters with replicas, acquisitions of physical connections are recorded by {@link ReadReplicaDataSource}.
+     *
+     * @param lookupKey tenant identifier
+     * @return Connection object.
+     * @throws SQLException if the connection can't be got or the cluster circuit breaker is open.
+     */
+    public Connection getTenantConnection(final Object lookupKey) throws SQLException {
+        Routing current = routing;
+        DataSource dataSource = determineDataSource(current, lookupKey);
+        ReadReplicaDataSource readReplicas = dataSource == defaultDataSource
+                ? defaultReadReplicas
+                : current.readReplicas().get(dataSource);
+        ConnectionMetrics metrics = connectionMetrics;
+        if (metrics == ConnectionMetrics.NOOP) {
+            return getTenantConnection(current, dataSource, readReplicas, lookupKey);
+        }
+        String tenantId = lookupKey == null ? null : lookupKey.toString();
+        if (dataSource == defaultDataSource && tenantId != null && !TenantContext.DEFAULT_TENANT.equals(tenantId)) {
+            metrics.recordDefaultFallback(tenantId);
+        }
+        if (readReplicas != null) {
+            return getTenantConnection(current, dataSource, readReplicas, lookupKey);
+        }
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            Connection connection = getTenantConnection(current, dataSource, null, lookupKey);
+            acquired = true;
+            return connection;
+        } finally {
+            metrics.recordAcquisition(tenantId,
+                    current.clusterNames().getOrDefault(dataSource, ClusterEndpoints.DEFAULT_CLUSTER),
+                    System.nanoTime() - start, acquired);
+        }
+    }
+
+    private Connection getTenantConnection(final Routing current,
+                                           final DataSource dataSource,
+                                           final ReadReplicaDataSource readReplicas,
+                                           final Object lookupKey) throws SQLException {
+        ClusterCircuitBreaker circuitBreaker = current.circuitBreakers().get(dataSource);
+        DataSource target = circuitBreaker == null ? dataSource : circuitBreaker.protect(dataSource);
+        if (tenantSchemas == null) {
+            return readReplicas != null ? readReplicas.getConnection() : target.getConnection();
+        }
+        ConnectionInitializer initializer = tenantSchemas.initializerOf(lookupKey, dataSource);
+        return readReplicas != null ? readReplicas.getConnection(initializer) : initializer.getConnection(target);
+    }
+
+    private void migrateSchemas(final Routing current) throws LiquibaseException {
+        if (tenantSchemas == null || properties.getBootstrap().isLazy()) {
+            return;
+        }
+        tenantSchemas.migrateAll(current.dataSources(), properties.getSchemaPerTenant().getMigrationConcurrency());
+    }
+
+    /**
+     * Set recorder of connection acquisitions, of this data source and of its read replicas.
+     *
+     * @param connectionMetrics ConnectionMetrics object, or null to stop recording.
+     */
+    public void setConnectionMetrics(final ConnectionMetrics connectionMetrics) {
+        this.connectionMetrics = connectionMetrics == null ? ConnectionMetrics.NOOP : connectionMetrics;
+        if (defaultReadReplicas != null) {
+            defaultReadReplicas.setConnectionMetrics(connectionMetrics, ClusterEndpoints.DEFAULT_CLUSTER);
+        }
+        Routing current = routing;
+        current.readReplicas().forEach((dataSource, readReplicas) ->
+                readReplicas.setConnectionMetrics(connectionMetrics, current.clusterNames().get(dataSource)));
+    }
+
+    /**
+     * Get per-tenant connection limits.
+     *
+     * @return TenantBulkheads object; null if bulkhead is disabled.
+     */
+    public TenantBulkheads getTenantBulkheads() {
+        return tenantBulkheads;
     }
 
-    private void migrateDataSource(final DataSource dataSource) throws LiquibaseException {
-        springLiquibase.setResourceLoader(resourceLoader);
-        springLiquibase.setDataSource(dataSource);
-        springLiquibase.setChangeLog(liquibaseProperties.getChangeLog());
-        if (this.springLiquibase.getContexts() != null && !this.springLiquibase.getContexts().isEmpty()) {
-            springLiquibase.setContexts(String.join(",", this.springLiquibase.getContexts()));
+    /**
+     * Get connection limit of the tenant: pool.max-tenant-connections of its cluster if set,
+     * otherwise bulkhead.pool-fraction of maximum pool size of the cluster.
+     *
+     * @param tenantId String tenant identifier
+     * @return connection limit.
+     */
+    public int getTenantConnectionLimit(final String tenantId) {
+        Routing current = routing;
+        DataSource dataSource = determineDataSource(current, tenantId);
+        AdditionalPostgresCluster.Pool pool = null;
+        for (Map.Entry<String, DataSource> cluster : current.clusters().entrySet()) {
+            if (cluster.getValue() == dataSource) {
+                pool = current.settings().get(cluster.getKey()).getPool();
+                break;
+            }
+        }
+        if (pool != null && pool.getMaxTenantConnections() != null) {
+            return pool.getMaxTenantConnections();
         }
-        springLiquibase.setDefaultSchema(liquibaseProperties.getDefaultSchema());
-        springLiquibase.setDropFirst(liquibaseProperties.isDropFirst());
-        springLiquibase.setShouldRun(liquibaseProperties.isEnabled());
-        springLiquibase.setLabels("");
-        springLiquibase.setChangeLogParameters(liquibaseProperties.getParameters());
-        springLiquibase.setRollbackFile(liquibaseProperties.getRollbackFile());
-        springLiquibase.afterPropertiesSet();
+        int maximumPoolSize = pool != null && pool.getMaximumPoolSize() != null
+                ? pool.getMaximumPoolSize()
+                : hikariConfig.getMaximumPoolSize();
+        return (int) Math.ceil(maximumPoolSize * properties.getBulkhead().getPoolFraction());
+    }
+
+    /**
+     * Check if the tenant is routed to an additional cluster or registered in TenantContext.
+     *
+     * @param tenantId String tenant identifier
+     * @return true if the tenant is known.
+     */
+    public boolean isKnownTenant(final String tenantId) {
+        return routing.dataSources().containsKey(tenantId) || TenantContext.containsTenantId(tenantId);
+    }
+
+    /**
+     * Get schemas of tenants.
+     *
+     * @return TenantSchemas object; null if schema-per-tenant mode is disabled.
+     */
+    public TenantSchemas getTenantSchemas() {
+        return tenantSchemas;
+    }
+
+    /**
+     * Get DataSources of the current routing.
+     *
+     * @return unmodifiable map, key - projectUuid, value - data source.
+     */
+    @Override
+    public Map<Object, DataSource> getResolvedDataSources() {
+        return routing.dataSources();
+    }
+
+    /**
+     * Get default DataSource.
+     *
+     * @return default data source.
+     */
+    @Override
+    public DataSource getResolvedDefaultDataSource() {
+        return defaultDataSource;
+    }
+
+    private DataSource createDataSource(final DefaultPostgresCluster cluster,
+                                        final SpringLiquibase liquibase) throws LiquibaseException {
+        DataSource dataSource = poolBuilder.build(cluster);
+        migrations.migrate(liquibase, dataSource);
+        return dataSource;
     }
 
     /**
      * Create TargetDataSources, migrate (Liquibase) and put them into targetDataSources map.
      * DataSource will be created only if cluster.url is not empty or cluster.url doesn't equal "".
+     * In case parallel bootstrap is enabled, clusters are created and migrated concurrently,
+     * each one by its own Liquibase runner.
+     * In case lazy bootstrap or eviction is enabled, {@link ClusterDataSource} objects are put into the map instead,
+     * so clusters are created and migrated on the first request to one of their projects,
+     * and idle pools can be closed and re-created.
+     * Pools of the clusters which are already routed are reused.
      *
      * @param clusters          {@link AdditionalPostgresClusters} objects that have {@link AdditionalPostgresCluster}.
      * @param targetDataSources map, key - projectUuid, value - data source.
@@ -156,19 +516,304 @@ public class TenantRoutingDataSource extends AbstractRoutingDataSource {
      */
     public void createTargetDataSources(final AdditionalPostgresClusters clusters,
                                         final Map<Object, Object> targetDataSources) throws LiquibaseException {
-        for (AdditionalPostgresCluster cluster : clusters.getClusters()) {
-            if (Objects.isNull(cluster.getUrl()) || cluster.getUrl().isEmpty() || cluster.getUrl().equals("\"\"")) {
+        refreshLock.lock();
+        try {
+            Routing current = createRouting(clusters, routing);
+            migrateSchemas(current);
+            publish(current);
+            rebalanceConnections();
+            scheduleReplicaChecks();
+            targetDataSources.putAll(current.dataSources());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Refresh routing of projects to additional clusters without restart.
+     * New clusters are created and migrated (Liquibase), pools of unchanged clusters are reused,
+     * routing is replaced atomically, and pools of removed clusters are closed
+     * after their active connections are returned (or drain timeout is expired).
+     *
+     * @param clusters {@link AdditionalPostgresClusters} new configuration of additional clusters.
+     * @throws LiquibaseException when migration of a new cluster is failed; current routing is kept in this case.
+     */
+    public void refresh(final AdditionalPostgresClusters clusters) throws LiquibaseException {
+        refreshLock.lock();
+        try {
+            Routing previous = routing;
+            Routing current = createRouting(clusters, previous);
+            try {
+                migrateSchemas(current);
+            } catch (LiquibaseException e) {
+                log.error("Failed to migrate tenant schemas; they will be migrated in background on their next use",
+                        e);
+            }
+            publish(current);
+            rebalanceConnections();
+            scheduleReplicaChecks();
+            if (tenantBulkheads != null) {
+                tenantBulkheads.updateLimits();
+            }
+            Set<DataSource> retained = Set.copyOf(current.clusters().values());
+            previous.clusters().forEach((endpoint, dataSource) -> {
+                if (!retained.contains(dataSource)) {
+                    if (tenantSchemas != null) {
+                        tenantSchemas.forgetMigrations(dataSource);
+                    }
+                    drain("Removed additional cluster (url): " + ClusterEndpoints.urlOf(endpoint), dataSource);
+                }
+            });
+            previous.readReplicas().forEach((dataSource, readReplicas) -> {
+                if (current.readReplicas().get(dataSource) != readReplicas) {
+                    drain("Replicas of additional cluster (url): " + readReplicas.getClusterUrl(), readReplicas);
+                }
+            });
+            log.info("Routing of additional clusters is refreshed: {} clusters, {} projects",
+                    current.clusters().size(), current.dataSources().size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Routing createRouting(final AdditionalPostgresClusters clusters,
+                                  final Routing previous) throws LiquibaseException {
+        List<AdditionalPostgresCluster> configuredClusters = clusters.getClusters().stream()
+                .filter(TenantRoutingDataSource::isConfigured)
+                .toList();
+        if (tenantSchemas != null) {
+            tenantSchemas.schemasOf(configuredClusters.stream()
+                    .flatMap(cluster -> cluster.getProjectsAsList().stream())
+                    .toList());
+        }
+        Map<String, AdditionalPostgresCluster> settings = new LinkedHashMap<>();
+        Map<String, Integer> entries = new HashMap<>();
+        for (AdditionalPostgresCluster cluster : configuredClusters) {
+            String endpoint = ClusterEndpoints.endpointOf(cluster);
+            AdditionalPostgresCluster first = settings.putIfAbsent(endpoint, cluster);
+            entries.merge(endpoint, 1, Integer::sum);
+            if (first != null && !Objects.equals(first.getPassword(), cluster.getPassword())) {
+                log.warn("Additional clusters (url): {} have the same url and username but different passwords;"
+                        + " the password of the first one is used", cluster.getUrl());
+            }
+        }
+        entries.forEach((endpoint, count) -> {
+            if (count > 1) {
+                log.info("Additional clusters (url): {} - {} entries share one pool and one migration",
+                        settings.get(endpoint).getUrl(), count);
+            }
+        });
+        Map<String, DataSource> endpoints = new LinkedHashMap<>();
+        List<AdditionalPostgresCluster> created = new ArrayList<>();
+        settings.forEach((endpoint, cluster) -> {
+            DataSource existing = previous.clusters().get(endpoint);
+            AdditionalPostgresCluster existingCluster = previous.settings().get(endpoint);
+            if (existing != null && (existingCluster == null
+                    || Objects.equals(existingCluster.getPassword(), cluster.getPassword()))) {
+                endpoints.put(endpoint, existing);
+            } else {
+                created.add(cluster);
+            }
+        });
+        List<DataSource> createdDataSources = createDataSources(created);
+        for (int i = 0; i < created.size(); i++) {
+            endpoints.put(ClusterEndpoints.endpointOf(created.get(i)), createdDataSources.get(i));
+        }
+        Map<Object, DataSource> dataSources = new HashMap<>();
+        Map<String, List<String>> tenantIds = new LinkedHashMap<>();
+        for (AdditionalPostgresCluster cluster : configuredClusters) {
+            String endpoint = ClusterEndpoints.endpointOf(cluster);
+            mapProjectsToDataSource(cluster.getProjectsAsList(), endpoints.get(endpoint), dataSources,
+                    tenantIds.computeIfAbsent(settings.get(endpoint).getUrl(), url -> new ArrayList<>()), cluster);
+        }
+        Map<DataSource, ClusterCircuitBreaker> circuitBreakers = createCircuitBreakers(endpoints, settings, previous);
+        Map<DataSource, String> clusterNames = new IdentityHashMap<>();
+        endpoints.forEach((endpoint, dataSource) ->
+                clusterNames.put(dataSource, ClusterEndpoints.clusterNameOf(settings.get(endpoint).getUrl())));
+        return new Routing(Map.copyOf(dataSources), Map.copyOf(endpoints), tenantIds, Map.copyOf(settings),
+                circuitBreakers, createReadReplicas(endpoints, settings, previous, circuitBreakers),
+                Collections.unmodifiableMap(clusterNames));
+    }
+
+    private Map<DataSource, ReadReplicaDataSource> createReadReplicas(
+            final Map<String, DataSource> endpoints,
+            final Map<String, AdditionalPostgresCluster> settings,
+            final Routing previous,
+            final Map<DataSource, ClusterCircuitBreaker> circuitBreakers) {
+        Map<DataSource, ReadReplicaDataSource> readReplicas = new IdentityHashMap<>();
+        endpoints.forEach((endpoint, dataSource) -> {
+            AdditionalPostgresCluster cluster = settings.get(endpoint);
+            ReadReplicaDataSource existing = previous.readReplicas().get(dataSource);
+            if (existing != null && existing.getReplicaUrls().equals(ClusterPoolBuilder.replicaUrlsOf(cluster))) {
+                readReplicas.put(dataSource, existing);
                 return;
             }
-            DataSource dataSource = createDataSource(cluster.getUrl(), cluster.getUsername(), cluster.getPassword(),
-                    cluster.getDriverClassName());
-            mapProjectsToDataSource(cluster.getProjectsAsList(), dataSource, targetDataSources, cluster);
+            ClusterCircuitBreaker circuitBreaker = circuitBreakers.get(dataSource);
+            ReadReplicaDataSource created = poolBuilder.buildReadReplicas(cluster,
+                    circuitBreaker == null ? dataSource : circuitBreaker.protect(dataSource));
+            if (created != null) {
+                created.setConnectionMetrics(connectionMetrics, ClusterEndpoints.clusterNameOf(cluster.getUrl()));
+                readReplicas.put(dataSource, created);
+            }
+        });
+        return readReplicas.isEmpty() ? Map.of() : Collections.unmodifiableMap(readReplicas);
+    }
+
+    private Map<DataSource, ClusterCircuitBreaker> createCircuitBreakers(
+            final Map<String, DataSource> endpoints,
+            final Map<String, AdditionalPostgresCluster> settings,
+            final Routing previous) {
+        MultiTenantDataSourceProperties.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+        if (!circuitBreaker.isEnabled()) {
+            return Map.of();
+        }
+        Map<DataSource, ClusterCircuitBreaker> circuitBreakers = new IdentityHashMap<>();
+        endpoints.forEach((endpoint, dataSource) -> {
+            ClusterCircuitBreaker existing = previous.circuitBreakers().get(dataSource);
+            circuitBreakers.put(dataSource, existing != null ? existing
+                    : new ClusterCircuitBreaker(settings.get(endpoint).getUrl(),
+                    circuitBreaker.getFailureThreshold(), circuitBreaker.getOpenDuration()));
+        });
+        return Collections.unmodifiableMap(circuitBreakers);
+    }
+
+    private void publish(final Routing current) {
+        Routing previous = routing;
+        routing = current;
+        TenantContext.replaceTenantIds(previous.tenantIds().keySet(), current.tenantIds());
+    }
+
+    private List<DataSource> createDataSources(final List<AdditionalPostgresCluster> clusters)
+            throws LiquibaseException {
+        MultiTenantDataSourceProperties.Bootstrap bootstrap = properties.getBootstrap();
+        if (bootstrap.isLazy()) {
+            return createDataSourcesLazily(clusters);
+        }
+        List<DataSource> dataSources = bootstrap.isParallel() && clusters.size() > 1
+                ? createDataSourcesInParallel(clusters)
+                : createDataSourcesSequentially(clusters);
+        return properties.getEviction().isEnabled() ? wrapDataSources(clusters, dataSources) : dataSources;
+    }
+
+    private void drain(final String name, final DataSource dataSource) {
+        long drainTimeoutNanos = properties.getRefresh().getDrainTimeout().toNanos();
+        Thread.ofVirtual().name("atp-multitenancy-drain").start(() -> {
+            long deadline = System.nanoTime() + drainTimeoutNanos;
+            try {
+                do {
+                    TimeUnit.MILLISECONDS.sleep(DRAIN_CHECK_INTERVAL_MILLIS);
+                } while (ClusterDataSources.getActiveConnections(dataSource) > 0 && System.nanoTime() < deadline);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ClusterDataSources.close(dataSource);
+            log.info("{} is closed", name);
+        });
+    }
+
+    private static boolean isConfigured(final AdditionalPostgresCluster cluster) {
+        return !(Objects.isNull(cluster.getUrl()) || cluster.getUrl().isEmpty() || cluster.getUrl().equals("\"\""));
+    }
+
+    private List<DataSource> createDataSourcesSequentially(final List<AdditionalPostgresCluster> clusters)
+            throws LiquibaseException {
+        List<DataSource> dataSources = new ArrayList<>(clusters.size());
+        try {
+            for (AdditionalPostgresCluster cluster : clusters) {
+                dataSources.add(createDataSource(cluster, springLiquibase));
+            }
+        } catch (LiquibaseException | RuntimeException e) {
+            dataSources.forEach(ClusterDataSources::close);
+            throw e;
+        }
+        return dataSources;
+    }
+
+    private List<DataSource> createDataSourcesLazily(final List<AdditionalPostgresCluster> clusters) {
+        log.info("Additional clusters ({}) will be initialized on first use", clusters.size());
+        return clusters.stream()
+                .<DataSource>map(cluster -> new ClusterDataSource(cluster, this::createClusterDataSource))
+                .toList();
+    }
+
+    private List<DataSource> wrapDataSources(final List<AdditionalPostgresCluster> clusters,
+                                             final List<DataSource> dataSources) {
+        List<DataSource> wrapped = new ArrayList<>(dataSources.size());
+        for (int i = 0; i < clusters.size(); i++) {
+            wrapped.add(new ClusterDataSource(clusters.get(i), this::createClusterDataSource, dataSources.get(i)));
+        }
+        return wrapped;
+    }
+
+    private List<DataSource> createDataSourcesInParallel(final List<AdditionalPostgresCluster> clusters)
+            throws LiquibaseException {
+        MultiTenantDataSourceProperties.Bootstrap bootstrap = properties.getBootstrap();
+        int threads = Math.min(Math.max(1, bootstrap.getConcurrency()), clusters.size());
+        log.info("Bootstrapping {} additional clusters in parallel, concurrency: {}", clusters.size(), threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("atp-multitenancy-bootstrap-", 0).daemon(true).factory());
+        ExecutorCompletionService<DataSource> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<DataSource>> futures = new ArrayList<>(clusters.size());
+        try {
+            for (AdditionalPostgresCluster cluster : clusters) {
+                futures.add(completionService.submit(() -> createClusterDataSource(cluster, true)));
+            }
+            LiquibaseException failure = awaitDataSources(completionService, clusters.size(),
+                    bootstrap.isFailFast());
+            if (failure != null) {
+                futures.forEach(future -> future.cancel(true));
+                futures.stream()
+                        .filter(future -> future.state() == Future.State.SUCCESS)
+                        .forEach(future -> ClusterDataSources.close(future.resultNow()));
+                throw failure;
+            }
+            return futures.stream().map(Future::resultNow).toList();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private DataSource createClusterDataSource(final AdditionalPostgresCluster cluster,
+                                               final boolean migrate) throws LiquibaseException {
+        try {
+            return migrate
+                    ? createDataSource(cluster, migrations.createSpringLiquibase())
+                    : poolBuilder.build(cluster);
+        } catch (LiquibaseException | RuntimeException e) {
+            throw new LiquibaseException("Failed to initialize additional cluster (url): %s"
+                    .formatted(cluster.getUrl()), e);
+        }
+    }
+
+    private LiquibaseException awaitDataSources(final ExecutorCompletionService<DataSource> completionService,
+                                                final int count,
+                                                final boolean failFast) {
+        LiquibaseException failure = null;
+        for (int i = 0; i < count; i++) {
+            try {
+                completionService.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new LiquibaseException("Bootstrap of additional clusters was interrupted", e);
+            } catch (ExecutionException e) {
+                log.error("Additional cluster bootstrap failed", e.getCause());
+                if (failure == null) {
+                    failure = new LiquibaseException("Bootstrap of additional clusters failed", e.getCause());
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+                if (failFast) {
+                    return failure;
+                }
+            }
         }
+        return failure;
     }
 
     private void mapProjectsToDataSource(final List<String> projectUuids,
                                          final DataSource dataSource,
-                                         final Map<Object, Object> targetDataSources,
+                                         final Map<Object, DataSource> targetDataSources,
+                                         final List<String> clusterTenantIds,
                                          final AdditionalPostgresCluster cluster) {
         Assert.notNull(projectUuids,
                 "projectUuids property is null for additional cluster (url): %s".formatted(cluster.getUrl()));
@@ -176,7 +821,7 @@ public class TenantRoutingDataSource extends AbstractRoutingDataSource {
                 "projectUuids property is empty for additional cluster (url): %s".formatted(cluster.getUrl()));
         for (String projectUuid : projectUuids) {
             targetDataSources.put(projectUuid, dataSource);
-            TenantContext.addTenantId(cluster.getUrl(), projectUuid);
+            clusterTenantIds.add(projectUuid);
         }
     }
 
@@ -190,16 +835,201 @@ public class TenantRoutingDataSource extends AbstractRoutingDataSource {
      */
     public DataSource createDefaultDataSource(final DefaultPostgresCluster defaultPostgresCluster)
             throws LiquibaseException {
-        return createDataSource(defaultPostgresCluster.getUrl(), defaultPostgresCluster.getUsername(),
-                defaultPostgresCluster.getPassword(),
-                defaultPostgresCluster.getDriverClassName());
+        return createDataSource(defaultPostgresCluster, springLiquibase);
+    }
+
+    /**
+     * Get data sources of additional clusters managed by the routing data source,
+     * i.e. lazy initialized and/or evicted when idle.
+     *
+     * @return list of {@link ClusterDataSource}; empty if neither lazy bootstrap nor eviction is enabled.
+     */
+    public List<ClusterDataSource> getClusterDataSources() {
+        return routing.clusters().values().stream()
+                .filter(ClusterDataSource.class::isInstance)
+                .map(ClusterDataSource.class::cast)
+                .toList();
     }
 
-    private void setHikariProperties(final HikariDataSource dataSource) {
-        dataSource.setMinimumIdle(hikariConfig.getMinimumIdle());
-        dataSource.setMaximumPoolSize(hikariConfig.getMaximumPoolSize());
-        dataSource.setIdleTimeout(hikariConfig.getIdleTimeout());
-        dataSource.setMaxLifetime(hikariConfig.getMaxLifetime());
+    /**
+     * Close pools of additional clusters which are idle longer than configured idle timeout.
+     */
+    public void evictIdleDataSources() {
+        Duration idleTimeout = properties.getEviction().getIdleTimeout();
+        for (ClusterDataSource clusterDataSource : getClusterDataSources()) {
+            try {
+                clusterDataSource.evictIfIdle(idleTimeout);
+            } catch (RuntimeException e) {
+                log.error("Failed to evict additional cluster (url): {}", clusterDataSource.getCluster().getUrl(), e);
+            }
+        }
+    }
+
+    /**
+     * Get circuit breakers of additional clusters.
+     *
+     * @return list of {@link ClusterCircuitBreaker}; empty if circuit breaker is disabled.
+     */
+    public List<ClusterCircuitBreaker> getCircuitBreakers() {
+        return List.copyOf(routing.circuitBreakers().values());
+    }
+
+    /**
+     * Probe additional clusters which circuit breakers are open longer than configured open duration.
+     * Each cluster is probed on its own virtual thread, so probes don't block each other.
+     */
+    public void probeUnavailableClusters() {
+        routing.circuitBreakers().forEach((dataSource, circuitBreaker) ->
+                circuitBreaker.probeInBackgroundIfDue(dataSource));
+    }
+
+    /**
+     * Get read replicas of the default and additional clusters.
+     *
+     * @return list of {@link ReadReplicaDataSource}; empty if no cluster has replicas.
+     */
+    public List<ReadReplicaDataSource> getReadReplicas() {
+        List<ReadReplicaDataSource> readReplicas = new ArrayList<>(routing.readReplicas().values());
+        if (defaultReadReplicas != null) {
+            readReplicas.add(0, defaultReadReplicas);
+        }
+        return readReplicas;
+    }
+
+    /**
+     * Check replicas of all clusters: replication lag and availability of replicas which failed to connect.
+     */
+    public void checkReadReplicas() {
+        for (ReadReplicaDataSource readReplicas : getReadReplicas()) {
+            try {
+                readReplicas.checkReplicas();
+            } catch (RuntimeException e) {
+                log.error("Failed to check replicas of cluster (url): {}", readReplicas.getClusterUrl(), e);
+            }
+        }
+    }
+
+    /**
+     * Divide connection budget across created pools of additional clusters proportionally to their demand
+     * (active connections plus threads awaiting a connection). Does nothing if the budget isn't set.
+     */
+    public void rebalanceConnections() {
+        MultiTenantDataSourceProperties.Budget budget = properties.getBudget();
+        if (budget.getMaxConnections() <= 0) {
+            return;
+        }
+        Routing current = routing;
+        List<HikariDataSource> pools = new ArrayList<>();
+        List<Integer> caps = new ArrayList<>();
+        current.clusters().forEach((endpoint, dataSource) -> {
+            HikariDataSource pool = ClusterDataSources.getHikariDataSource(dataSource);
+            if (pool != null) {
+                AdditionalPostgresCluster cluster = current.settings().get(endpoint);
+                Integer maximumPoolSize = cluster == null ? null : cluster.getPool().getMaximumPoolSize();
+                pools.add(pool);
+                caps.add(maximumPoolSize == null ? 0 : maximumPoolSize);
+            }
+        });
+        ConnectionBudget.rebalance(budget.getMaxConnections(), budget.getMinPoolSize(), pools,
+                caps.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private void startMaintenance() {
+        MultiTenantDataSourceProperties.Eviction eviction = properties.getEviction();
+        MultiTenantDataSourceProperties.Budget budget = properties.getBudget();
+        if (eviction.isEnabled()) {
+            long interval = eviction.getCheckInterval().toMillis();
+            getMaintenanceScheduler().scheduleWithFixedDelay(this::evictIdleDataSources, interval, interval,
+                    TimeUnit.MILLISECONDS);
+            log.info("Idle additional clusters eviction is started, idle timeout: {}", eviction.getIdleTimeout());
+        }
+        if (budget.getMaxConnections() > 0) {
+            long interval = budget.getRebalanceInterval().toMillis();
+            getMaintenanceScheduler().scheduleWithFixedDelay(this::rebalanceConnectionsSafely, interval, interval,
+                    TimeUnit.MILLISECONDS);
+            log.info("Connection budget of additional clusters is {}, rebalance interval: {}",
+                    budget.getMaxConnections(), budget.getRebalanceInterval());
+        }
+        if (properties.getCircuitBreaker().isEnabled()) {
+            getMaintenanceScheduler().scheduleWithFixedDelay(this::probeUnavailableClusters,
+                    PROBE_CHECK_INTERVAL_MILLIS, PROBE_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        if (tenantSchemas != null) {
+            getMaintenanceScheduler().scheduleWithFixedDelay(tenantSchemas::pruneClosedConnections,
+                    SCHEMA_PRUNE_INTERVAL_MILLIS, SCHEMA_PRUNE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            getMaintenanceScheduler().scheduleWithFixedDelay(tenantSchemas::migratePending,
+                    SCHEMA_MIGRATION_INTERVAL_MILLIS, SCHEMA_MIGRATION_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        scheduleReplicaChecks();
+    }
+
+    private void scheduleReplicaChecks() {
+        if (replicaChecksScheduled || getReadReplicas().isEmpty()) {
+            return;
+        }
+        replicaChecksScheduled = true;
+        long interval = properties.getReplicas().getCheckInterval().toMillis();
+        getMaintenanceScheduler().scheduleWithFixedDelay(this::checkReadReplicas, interval, interval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private ScheduledExecutorService getMaintenanceScheduler() {
+        if (maintenanceScheduler == null) {
+            maintenanceScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("atp-multitenancy-maintenance").daemon(true).factory());
+        }
+        return maintenanceScheduler;
+    }
+
+    private void rebalanceConnectionsSafely() {
+        try {
+            rebalanceConnections();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebalance connection budget of additional clusters", e);
+        }
+    }
+
+    /**
+     * Stop idle pools eviction, connection budget rebalancing, probes of unavailable clusters and replicas checks,
+     * and stop tracking registered tenants.
+     */
+    @Override
+    public void destroy() {
+        if (maintenanceScheduler != null) {
+            maintenanceScheduler.shutdownNow();
+        }
+        if (tenantSchemas != null) {
+            TenantContext.removeTenantRegistryListener(tenantSchemas);
+        }
     }
-}
 
+    /**
+     * Routing of projects to additional clusters.
+     *
+     * @param dataSources map, key - projectUuid, value - data source of the cluster
+     * @param clusters map, key - cluster endpoint, value - data source of the cluster
+     * @param tenantIds map, key - cluster url, value - projectUuids of the cluster
+     * @param settings map, key - cluster endpoint, value - settings of the cluster
+     * @param circuitBreakers identity map, key - data source of the cluster, value - circuit breaker of the cluster
+     * @param readReplicas identity map, key - data source of the cluster, value - read replicas of the cluster
+     * @param clusterNames identity map, key - data source of the cluster, value - name of the cluster in metrics
+     */
+    private record Routing(Map<Object, DataSource> dataSources,
+                           Map<String, DataSource> clusters,
+                           Map<String, List<String>> tenantIds,
+                           Map<String, AdditionalPostgresCluster> settings,
+                           Map<DataSource, ClusterCircuitBreaker> circuitBreakers,
+                           Map<DataSource, ReadReplicaDataSource> readReplicas,
+                           Map<DataSource, String> clusterNames) {
+
+        /**
+         * Constructor of routing without tenants.
+         *
+         * @param dataSources map, key - projectUuid, value - data source of the cluster
+         * @param clusters map, key - cluster endpoint, value - data source of the cluster.
+         */
+        Routing(final Map<Object, DataSource> dataSources, final Map<String, DataSource> clusters) {
+            this(dataSources, clusters, Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+        }
+    }
+}
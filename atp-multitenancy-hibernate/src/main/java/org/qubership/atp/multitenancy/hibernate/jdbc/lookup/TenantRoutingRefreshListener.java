@@ -0,0 +1,80 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.lookup;
+
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresClusters;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+
+import liquibase.exception.LiquibaseException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refreshes routing of {@link TenantRoutingDataSource} when additional clusters configuration is changed.
+ */
+@Slf4j
+public class TenantRoutingRefreshListener implements ApplicationListener<EnvironmentChangeEvent> {
+
+    /**
+     * Prefix of additional clusters properties.
+     */
+    private static final String CLUSTERS_PREFIX = "atp.multi-tenancy.additional.postgres";
+
+    /**
+     * TenantRoutingDataSource object link.
+     */
+    private final TenantRoutingDataSource tenantRoutingDataSource;
+
+    /**
+     * Environment object link.
+     */
+    private final Environment environment;
+
+    /**
+     * Constructor.
+     *
+     * @param tenantRoutingDataSource TenantRoutingDataSource to be refreshed
+     * @param environment Environment to read additional clusters configuration from.
+     */
+    public TenantRoutingRefreshListener(final TenantRoutingDataSource tenantRoutingDataSource,
+                                        final Environment environment) {
+        this.tenantRoutingDataSource = tenantRoutingDataSource;
+        this.environment = environment;
+    }
+
+    /**
+     * Refresh routing in case additional clusters properties are changed.
+     *
+     * @param event EnvironmentChangeEvent with keys of changed properties.
+     */
+    @Override
+    public void onApplicationEvent(final EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(key -> key.startsWith(CLUSTERS_PREFIX))) {
+            return;
+        }
+        AdditionalPostgresClusters clusters = Binder.get(environment)
+                .bind(CLUSTERS_PREFIX, AdditionalPostgresClusters.class)
+                .orElseGet(AdditionalPostgresClusters::new);
+        try {
+            tenantRoutingDataSource.refresh(clusters);
+        } catch (LiquibaseException | RuntimeException e) {
+            log.error("Failed to refresh routing of additional clusters; current routing is kept", e);
+        }
+    }
+}
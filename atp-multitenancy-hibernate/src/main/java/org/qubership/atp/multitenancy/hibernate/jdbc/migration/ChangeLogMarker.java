@@ -0,0 +1,215 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.io.ResourceLoader;
+
+import liquibase.ChecksumVersion;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringResourceAccessor;
+import liquibase.parser.ChangeLogParser;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.precondition.core.PreconditionContainer;
+import liquibase.resource.ResourceAccessor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Marker of the changelog applied to a cluster.
+ * <p>The digest of the resolved changelog (checksums of all its change sets, contexts, labels and parameters)
+ * is stored in {@value #TABLE} table of the cluster after successful migration; when the digest stored is equal
+ * to the digest of the current changelog, Liquibase run (and its changelog lock) can be skipped.</p>
+ * <p>Change sets with runOnChange are covered by their checksums. Changelogs which Liquibase would run differently
+ * on an unchanged cluster have no digest, so they are always migrated: change sets with runAlways,
+ * change sets with preconditions which are re-evaluated on each run (onFail or onError CONTINUE)
+ * and changelog preconditions.</p>
+ */
+@Slf4j
+public final class ChangeLogMarker {
+
+    /**
+     * Name of the marker table.
+     */
+    public static final String TABLE = "atp_multitenancy_changelog";
+
+    /**
+     * Id of the marker row.
+     */
+    private static final String MARKER_ID = "changelog";
+
+    /**
+     * Constructor.
+     */
+    private ChangeLogMarker() {
+    }
+
+    /**
+     * Compute digest of the resolved changelog.
+     *
+     * @param resourceLoader ResourceLoader to read the changelog and its includes
+     * @param changeLog String changelog location
+     * @param contexts String contexts of the migration, may be null
+     * @param labels String labels of the migration, may be null
+     * @param parameters Map of changelog parameters, may be null
+     * @return hex String SHA-256 digest; null if the changelog must be run on each migration.
+     * @throws LiquibaseException in case the changelog can't be parsed.
+     */
+    public static String computeDigest(final ResourceLoader resourceLoader,
+                                       final String changeLog,
+                                       final String contexts,
+                                       final String labels,
+                                       final Map<String, String> parameters) throws LiquibaseException {
+        ChangeLogParameters changeLogParameters = new ChangeLogParameters();
+        if (parameters != null) {
+            parameters.forEach(changeLogParameters::set);
+        }
+        MessageDigest digest = newDigest();
+        update(digest, changeLog);
+        update(digest, contexts);
+        update(digest, labels);
+        if (parameters != null) {
+            new TreeMap<>(parameters).forEach((name, value) -> {
+                update(digest, name);
+                update(digest, value);
+            });
+        }
+        try (ResourceAccessor resourceAccessor = new SpringResourceAccessor(resourceLoader)) {
+            ChangeLogParser parser = ChangeLogParserFactory.getInstance().getParser(changeLog, resourceAccessor);
+            DatabaseChangeLog databaseChangeLog = parser.parse(changeLog, changeLogParameters, resourceAccessor);
+            if (hasPreconditions(databaseChangeLog.getPreconditions())) {
+                log.info("Changelog {} has preconditions; it's run on each migration", changeLog);
+                return null;
+            }
+            for (ChangeSet changeSet : databaseChangeLog.getChangeSets()) {
+                if (changeSet.isAlwaysRun() || isReevaluated(changeSet.getPreconditions())) {
+                    log.info("Change set {} of changelog {} is run on each migration; so is the changelog",
+                            changeSet.getId(), changeLog);
+                    return null;
+                }
+                update(digest, changeSet.getFilePath());
+                update(digest, changeSet.getId());
+                update(digest, changeSet.getAuthor());
+                update(digest, changeSet.generateCheckSum(ChecksumVersion.latest()).toString());
+            }
+        } catch (LiquibaseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new LiquibaseException("Failed to compute digest of changelog: %s".formatted(changeLog), e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Check if the changelog with the digest given is applied to the cluster.
+     *
+     * @param dataSource DataSource of the cluster
+     * @param schema String schema of the marker table, null for default one
+     * @param digest String digest of the changelog
+     * @return true if the digest stored in the cluster is equal to the digest given;
+     *     false if it differs or the marker can't be read.
+     */
+    public static boolean isApplied(final DataSource dataSource, final String schema, final String digest) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT digest FROM %s WHERE id = ?".formatted(tableOf(schema)))) {
+            statement.setString(1, MARKER_ID);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && digest.equals(resultSet.getString(1));
+            }
+        } catch (SQLException e) {
+            log.debug("Changelog marker can't be read, migration will be run", e);
+            return false;
+        }
+    }
+
+    /**
+     * Store digest of the changelog applied to the cluster.
+     *
+     * @param dataSource DataSource of the cluster
+     * @param schema String schema of the marker table, null for default one
+     * @param digest String digest of the changelog.
+     */
+    public static void markApplied(final DataSource dataSource, final String schema, final String digest) {
+        String table = tableOf(schema);
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(("CREATE TABLE IF NOT EXISTS %s (id VARCHAR(64) PRIMARY KEY,"
+                        + " digest VARCHAR(128) NOT NULL, applied_at TIMESTAMP NOT NULL)").formatted(table));
+            }
+            int updated;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE %s SET digest = ?, applied_at = CURRENT_TIMESTAMP WHERE id = ?".formatted(table))) {
+                statement.setString(1, digest);
+                statement.setString(2, MARKER_ID);
+                updated = statement.executeUpdate();
+            }
+            if (updated == 0) {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "INSERT INTO %s (id, digest, applied_at) VALUES (?, ?, CURRENT_TIMESTAMP)".formatted(table))) {
+                    statement.setString(1, MARKER_ID);
+                    statement.setString(2, digest);
+                    statement.executeUpdate();
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Changelog marker can't be stored, migration will be run on the next start", e);
+        }
+    }
+
+    private static boolean hasPreconditions(final PreconditionContainer preconditions) {
+        return preconditions != null && !preconditions.getNestedPreconditions().isEmpty();
+    }
+
+    private static boolean isReevaluated(final PreconditionContainer preconditions) {
+        return hasPreconditions(preconditions)
+                && (preconditions.getOnFail() == PreconditionContainer.FailOption.CONTINUE
+                || preconditions.getOnError() == PreconditionContainer.ErrorOption.CONTINUE);
+    }
+
+    private static String tableOf(final String schema) {
+        return schema == null || schema.isEmpty() ? TABLE : schema + "." + TABLE;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
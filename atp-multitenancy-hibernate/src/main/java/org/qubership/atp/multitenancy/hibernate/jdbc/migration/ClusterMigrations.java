@@ -0,0 +1,205 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.migration;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.MultiTenantDataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import liquibase.UpdateSummaryEnum;
+import liquibase.UpdateSummaryOutputEnum;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import liquibase.ui.UIServiceEnum;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Liquibase migrations of clusters and tenant schemas, configured by spring.liquibase properties.
+ * <p>If skipping of unchanged migrations is enabled, the changelog digest is computed once,
+ * and a migration is skipped when the digest is already applied to the database (see {@link ChangeLogMarker}).</p>
+ */
+@Slf4j
+public class ClusterMigrations {
+
+    /**
+     * ResourceLoader object link.
+     */
+    private final ResourceLoader resourceLoader;
+
+    /**
+     * LiquibaseProperties object link.
+     */
+    private final LiquibaseProperties liquibaseProperties;
+
+    /**
+     * Settings of migrations.
+     */
+    private final MultiTenantDataSourceProperties.Migration migration;
+
+    /**
+     * Lock guarding computation of the changelog digest.
+     */
+    private final ReentrantLock changeLogDigestLock = new ReentrantLock();
+
+    /**
+     * Digest of the resolved changelog; computed once, on the first migration.
+     * Empty if the changelog must be run on each migration.
+     */
+    private volatile String changeLogDigest;
+
+    /**
+     * Constructor.
+     *
+     * @param resourceLoader ResourceLoader of changelogs
+     * @param liquibaseProperties LiquibaseProperties (spring.liquibase)
+     * @param migration settings of migrations.
+     */
+    public ClusterMigrations(final ResourceLoader resourceLoader,
+                             final LiquibaseProperties liquibaseProperties,
+                             final MultiTenantDataSourceProperties.Migration migration) {
+        this.resourceLoader = resourceLoader;
+        this.liquibaseProperties = liquibaseProperties;
+        this.migration = migration;
+    }
+
+    /**
+     * Configure the Liquibase runner by spring.liquibase properties and migrate the data source with it.
+     *
+     * @param liquibase SpringLiquibase runner, e.g. the application one
+     * @param dataSource DataSource to be migrated
+     * @throws LiquibaseException when migration is failed.
+     */
+    public void migrate(final SpringLiquibase liquibase, final DataSource dataSource) throws LiquibaseException {
+        configure(liquibase);
+        migrate(liquibase, dataSource, liquibaseProperties.getDefaultSchema());
+    }
+
+    /**
+     * Migrate the tenant schema; Liquibase tables of the tenant are kept in its schema.
+     *
+     * @param dataSource DataSource of the cluster
+     * @param schema String schema of the tenant
+     * @throws LiquibaseException when migration is failed.
+     */
+    public void migrateSchema(final DataSource dataSource, final String schema) throws LiquibaseException {
+        SpringLiquibase liquibase = createSpringLiquibase();
+        liquibase.setDefaultSchema(schema);
+        liquibase.setLiquibaseSchema(schema);
+        migrate(liquibase, dataSource, schema);
+    }
+
+    private void migrate(final SpringLiquibase liquibase,
+                         final DataSource dataSource,
+                         final String schema) throws LiquibaseException {
+        liquibase.setDataSource(dataSource);
+        String digest = migration.isSkipUnchanged() && liquibaseProperties.isEnabled()
+                && !liquibaseProperties.isDropFirst() && !liquibaseProperties.isClearChecksums()
+                ? getChangeLogDigest(liquibase) : null;
+        if (digest != null && ChangeLogMarker.isApplied(dataSource, schema, digest)) {
+            log.info("Liquibase migration is skipped: changelog {} is already applied", liquibase.getChangeLog());
+            return;
+        }
+        liquibase.afterPropertiesSet();
+        if (digest != null) {
+            ChangeLogMarker.markApplied(dataSource, schema, digest);
+        }
+    }
+
+    /**
+     * Create Liquibase runner of additional clusters and tenant schemas, configured by spring.liquibase properties.
+     *
+     * @return SpringLiquibase object without data source.
+     */
+    public SpringLiquibase createSpringLiquibase() {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        configure(liquibase);
+        return liquibase;
+    }
+
+    /**
+     * Configure Liquibase runner by spring.liquibase properties, the same way as Spring Boot configures its own one.
+     *
+     * @param liquibase SpringLiquibase to be configured.
+     */
+    private void configure(final SpringLiquibase liquibase) {
+        liquibase.setResourceLoader(resourceLoader);
+        liquibase.setChangeLog(liquibaseProperties.getChangeLog());
+        liquibase.setClearCheckSums(liquibaseProperties.isClearChecksums());
+        if (!CollectionUtils.isEmpty(liquibaseProperties.getContexts())) {
+            liquibase.setContexts(StringUtils.collectionToCommaDelimitedString(liquibaseProperties.getContexts()));
+        }
+        liquibase.setDefaultSchema(liquibaseProperties.getDefaultSchema());
+        liquibase.setLiquibaseSchema(liquibaseProperties.getLiquibaseSchema());
+        liquibase.setLiquibaseTablespace(liquibaseProperties.getLiquibaseTablespace());
+        liquibase.setDatabaseChangeLogTable(liquibaseProperties.getDatabaseChangeLogTable());
+        liquibase.setDatabaseChangeLogLockTable(liquibaseProperties.getDatabaseChangeLogLockTable());
+        liquibase.setDropFirst(liquibaseProperties.isDropFirst());
+        liquibase.setShouldRun(liquibaseProperties.isEnabled());
+        if (!CollectionUtils.isEmpty(liquibaseProperties.getLabelFilter())) {
+            liquibase.setLabelFilter(
+                    StringUtils.collectionToCommaDelimitedString(liquibaseProperties.getLabelFilter()));
+        }
+        liquibase.setChangeLogParameters(liquibaseProperties.getParameters());
+        liquibase.setRollbackFile(liquibaseProperties.getRollbackFile());
+        liquibase.setTestRollbackOnUpdate(liquibaseProperties.isTestRollbackOnUpdate());
+        liquibase.setTag(liquibaseProperties.getTag());
+        if (liquibaseProperties.getShowSummary() != null) {
+            liquibase.setShowSummary(UpdateSummaryEnum.valueOf(liquibaseProperties.getShowSummary().name()));
+        }
+        if (liquibaseProperties.getShowSummaryOutput() != null) {
+            liquibase.setShowSummaryOutput(
+                    UpdateSummaryOutputEnum.valueOf(liquibaseProperties.getShowSummaryOutput().name()));
+        }
+        if (liquibaseProperties.getUiService() != null) {
+            liquibase.setUiService(UIServiceEnum.valueOf(liquibaseProperties.getUiService().name()));
+        }
+        if (liquibaseProperties.getAnalyticsEnabled() != null) {
+            liquibase.setAnalyticsEnabled(liquibaseProperties.getAnalyticsEnabled());
+        }
+        if (liquibaseProperties.getLicenseKey() != null) {
+            liquibase.setLicenseKey(liquibaseProperties.getLicenseKey());
+        }
+    }
+
+    private String getChangeLogDigest(final SpringLiquibase liquibase) {
+        String digest = changeLogDigest;
+        if (digest != null) {
+            return digest.isEmpty() ? null : digest;
+        }
+        changeLogDigestLock.lock();
+        try {
+            if (changeLogDigest == null) {
+                String computed = ChangeLogMarker.computeDigest(resourceLoader, liquibase.getChangeLog(),
+                        liquibase.getContexts(), liquibase.getLabelFilter(), liquibaseProperties.getParameters());
+                changeLogDigest = computed == null ? "" : computed;
+            }
+            return changeLogDigest.isEmpty() ? null : changeLogDigest;
+        } catch (LiquibaseException | RuntimeException e) {
+            log.warn("Failed to compute digest of changelog {}; migrations won't be skipped",
+                    liquibase.getChangeLog(), e);
+            return null;
+        } finally {
+            changeLogDigestLock.unlock();
+        }
+    }
+}
@@ -16,11 +16,15 @@
 
 package org.qubership.atp.multitenancy.hibernate.jdbc.pojo;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
+import lombok.Getter;
 import lombok.Setter;
 
 @Component
@@ -32,6 +36,12 @@ public class AdditionalPostgresCluster extends DefaultPostgresCluster {
      */
     private String projects;
 
+    /**
+     * Connection pool settings of the cluster overriding spring.datasource.hikari ones.
+     */
+    @Getter
+    private Pool pool = new Pool();
+
     /**
      * Splits projects by comma.
      *
@@ -45,4 +55,57 @@ public class AdditionalPostgresCluster extends DefaultPostgresCluster {
         }
         return formatted;
     }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * Maximum size of the pool; null to use spring.datasource.hikari.maximum-pool-size.
+         * In case connection budget is enabled, it's the upper limit of the pool share.
+         */
+        private Integer maximumPoolSize;
+
+        /**
+         * Minimum number of idle connections; null to use spring.datasource.hikari.minimum-idle.
+         */
+        private Integer minimumIdle;
+
+        /**
+         * Maximum time to wait for a connection; null to use spring.datasource.hikari.connection-timeout.
+         */
+        private Duration connectionTimeout;
+
+        /**
+         * Maximum idle time of a connection; null to use spring.datasource.hikari.idle-timeout.
+         */
+        private Duration idleTimeout;
+
+        /**
+         * Maximum lifetime of a connection; null to use spring.datasource.hikari.max-lifetime.
+         */
+        private Duration maxLifetime;
+
+        /**
+         * Time a connection can be out of the pool before leak is reported;
+         * null to use spring.datasource.hikari.leak-detection-threshold.
+         */
+        private Duration leakDetectionThreshold;
+
+        /**
+         * Maximum number of connections used by one tenant of the cluster at the same time, in case bulkhead
+         * is enabled; null to use atp.multi-tenancy.datasource.bulkhead.pool-fraction of maximum pool size.
+         */
+        private Integer maxTenantConnections;
+
+        /**
+         * Name of the pool (in logs and metrics); null for generated name.
+         */
+        private String poolName;
+
+        /**
+         * JDBC driver properties, added to spring.datasource.hikari.data-source-properties.
+         */
+        private Map<String, String> dataSourceProperties = new HashMap<>();
+    }
 }
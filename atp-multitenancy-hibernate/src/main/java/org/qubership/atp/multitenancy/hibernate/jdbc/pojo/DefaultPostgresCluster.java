@@ -16,6 +16,9 @@
 
 package org.qubership.atp.multitenancy.hibernate.jdbc.pojo;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -47,4 +50,10 @@ public class DefaultPostgresCluster {
      * String class name of database driver.
      */
     private String driverClassName;
+
+    /**
+     * JDBC urls of read replicas of the cluster; read-only transactions are routed to them.
+     * Username, password and driver of the cluster are used for replicas.
+     */
+    private List<String> replicaUrls = new ArrayList<>();
 }
@@ -0,0 +1,281 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.pojo;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "atp.multi-tenancy.datasource")
+@Getter
+@Setter
+public class MultiTenantDataSourceProperties {
+
+    /**
+     * Startup (bootstrap) settings of additional clusters.
+     */
+    private Bootstrap bootstrap = new Bootstrap();
+
+    /**
+     * Idle pools eviction settings of additional clusters.
+     */
+    private Eviction eviction = new Eviction();
+
+    /**
+     * Routing refresh settings of additional clusters.
+     */
+    private Refresh refresh = new Refresh();
+
+    /**
+     * Connection budget settings of additional clusters.
+     */
+    private Budget budget = new Budget();
+
+    /**
+     * Liquibase migration settings of clusters.
+     */
+    private Migration migration = new Migration();
+
+    /**
+     * Circuit breaker settings of additional clusters.
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Read replicas routing settings of clusters.
+     */
+    private Replicas replicas = new Replicas();
+
+    /**
+     * Schema-per-tenant settings.
+     */
+    private SchemaPerTenant schemaPerTenant = new SchemaPerTenant();
+
+    /**
+     * Per-tenant connection limits settings.
+     */
+    private Bulkhead bulkhead = new Bulkhead();
+
+    @Getter
+    @Setter
+    public static class Bootstrap {
+
+        /**
+         * Create pools and run Liquibase migrations of additional clusters concurrently (true),
+         * or one after another (false, default).
+         */
+        private boolean parallel;
+
+        /**
+         * Maximum number of additional clusters bootstrapped at the same time in parallel mode.
+         */
+        private int concurrency = 4;
+
+        /**
+         * Stop parallel bootstrap on the first failed cluster (true, default),
+         * or bootstrap all clusters and report all failures together (false).
+         */
+        private boolean failFast = true;
+
+        /**
+         * Create pools and run Liquibase migrations of additional clusters on the first request
+         * to one of their projects (true), or during startup (false, default).
+         * Parallel bootstrap settings are ignored in lazy mode.
+         */
+        private boolean lazy;
+    }
+
+    @Getter
+    @Setter
+    public static class Eviction {
+
+        /**
+         * Close pools of additional clusters which aren't used longer than idle-timeout (true),
+         * or keep them open for the life of the service (false, default).
+         * Evicted pool is re-created on the next request to one of the cluster projects.
+         */
+        private boolean enabled;
+
+        /**
+         * Duration of inactivity after which the pool of additional cluster is closed.
+         */
+        private Duration idleTimeout = Duration.ofMinutes(30);
+
+        /**
+         * Interval of idle pools checks.
+         */
+        private Duration checkInterval = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Refresh {
+
+        /**
+         * Refresh routing of projects to additional clusters on environment change events (true),
+         * or only via TenantRoutingDataSource.refresh(...) API (false, default).
+         * Environment change events are published by Spring Cloud Context, e.g. on /actuator/refresh.
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum time to wait for active connections of a removed cluster before its pool is closed.
+         */
+        private Duration drainTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Budget {
+
+        /**
+         * Total maximum number of connections of additional clusters pools; 0 (default) disables the budget.
+         * The budget is divided across created pools proportionally to their demand
+         * (active connections plus threads awaiting a connection) and is rebalanced periodically.
+         */
+        private int maxConnections;
+
+        /**
+         * Minimum maximum-pool-size of each pool, regardless of its demand.
+         */
+        private int minPoolSize = 2;
+
+        /**
+         * Interval of the budget rebalancing.
+         */
+        private Duration rebalanceInterval = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Migration {
+
+        /**
+         * Skip Liquibase run for the cluster when the digest of the resolved changelog is equal to the one
+         * stored in the cluster after the last successful migration (true), or always run Liquibase (false, default).
+         */
+        private boolean skipUnchanged;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * Fail connection requests to an additional cluster immediately after consecutive connection failures (true),
+         * or always wait for connection timeout (false, default).
+         */
+        private boolean enabled;
+
+        /**
+         * Number of consecutive connection failures opening the circuit.
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * Time the circuit stays open before the cluster is probed in the background.
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Replicas {
+
+        /**
+         * Way a replica is selected for a read-only transaction.
+         */
+        private Selection selection = Selection.ROUND_ROBIN;
+
+        /**
+         * Maximum replication lag of a replica; replicas lagging more are skipped until they catch up,
+         * and read-only transactions go to the primary if no replica is available.
+         * Null (default) - replication lag isn't checked.
+         */
+        private Duration maxLag;
+
+        /**
+         * Interval of replicas checks: replication lag and availability of replicas which failed to connect.
+         */
+        private Duration checkInterval = Duration.ofSeconds(5);
+
+        public enum Selection {
+
+            /**
+             * Replicas are used one after another.
+             */
+            ROUND_ROBIN,
+
+            /**
+             * Replica with the least number of active and awaited connections is used.
+             */
+            LEAST_PENDING
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class SchemaPerTenant {
+
+        /**
+         * Keep each tenant in its own schema of the cluster (true),
+         * or keep all tenants of the cluster in the same schema (false, default).
+         * Schema of the tenant is set as search_path of connections on checkout,
+         * and is migrated by Liquibase on startup, on routing refresh, or in background after the first use
+         * of the tenant; connections of the tenant are refused until its schema is migrated.
+         */
+        private boolean enabled;
+
+        /**
+         * Prefix of tenant schema names; the rest of the name is the tenant id in lower case
+         * with characters other than letters, digits and underscore replaced by underscore.
+         */
+        private String schemaPrefix = "tenant_";
+
+        /**
+         * Maximum number of tenant schemas migrated at the same time on startup.
+         */
+        private int migrationConcurrency = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        /**
+         * Limit number of connections used by each tenant at the same time (true),
+         * or let a tenant take the whole pool of its cluster (false, default).
+         */
+        private boolean enabled;
+
+        /**
+         * Default connection limit of a tenant as a fraction of maximum pool size of its cluster;
+         * overridden by pool.max-tenant-connections of the cluster.
+         */
+        private double poolFraction = 0.5;
+
+        /**
+         * Maximum time to wait for a connection when the tenant has reached its limit.
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.metrics;
+
+/**
+ * Recorder of connections acquired by {@link
+ * org.qubership.atp.multitenancy.hibernate.jdbc.lookup.TenantRoutingDataSource}.
+ * <p>It's implemented by {@link MicrometerConnectionMetrics} if metrics are enabled;
+ * the routing data source doesn't depend on Micrometer itself.</p>
+ */
+public interface ConnectionMetrics {
+
+    /**
+     * Recorder doing nothing.
+     */
+    ConnectionMetrics NOOP = new ConnectionMetrics() {
+    };
+
+    /**
+     * Record acquisition of a connection.
+     *
+     * @param tenantId String tenant identifier, or null if there is no tenant
+     * @param cluster String name of the cluster the connection is acquired from
+     * @param nanos duration of the acquisition, in nanoseconds
+     * @param acquired whether the connection is acquired or the acquisition is failed.
+     */
+    default void recordAcquisition(final String tenantId, final String cluster, final long nanos,
+                                   final boolean acquired) {
+    }
+
+    /**
+     * Record routing of the tenant to the default cluster because it isn't routed to any additional cluster.
+     *
+     * @param tenantId String tenant identifier.
+     */
+    default void recordDefaultFallback(final String tenantId) {
+    }
+}
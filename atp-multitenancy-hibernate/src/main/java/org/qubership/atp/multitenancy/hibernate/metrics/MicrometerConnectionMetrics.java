@@ -0,0 +1,99 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantTags;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer implementation of {@link ConnectionMetrics}.
+ * <p>Meters:</p>
+ * <ul>
+ *     <li>atp.multitenancy.connections.acquire - timer, tags: tenant, cluster, outcome (acquired/failed);</li>
+ *     <li>atp.multitenancy.routing.fallbacks - counter, tags: tenant.</li>
+ * </ul>
+ * <p>Values of the tenant tag are bounded by {@link TenantTags}; the cluster tag is bounded by configuration.</p>
+ */
+public class MicrometerConnectionMetrics implements ConnectionMetrics {
+
+    /**
+     * Name of the tenant tag.
+     */
+    private static final String TENANT_TAG = "tenant";
+
+    /**
+     * Provider of connection acquisition timers.
+     */
+    private final Meter.MeterProvider<Timer> acquisitions;
+
+    /**
+     * Provider of default cluster fallback counters.
+     */
+    private final Meter.MeterProvider<Counter> fallbacks;
+
+    /**
+     * Values of the tenant tag.
+     */
+    private final TenantTags tenantTags;
+
+    /**
+     * Constructor.
+     *
+     * @param registry MeterRegistry to register meters in
+     * @param tenantTags TenantTags object.
+     */
+    public MicrometerConnectionMetrics(final MeterRegistry registry, final TenantTags tenantTags) {
+        this.tenantTags = tenantTags;
+        this.acquisitions = Timer.builder("atp.multitenancy.connections.acquire")
+                .description("Acquisitions of connections by tenants")
+                .withRegistry(registry);
+        this.fallbacks = Counter.builder("atp.multitenancy.routing.fallbacks")
+                .description("Connections of tenants routed to the default cluster")
+                .withRegistry(registry);
+    }
+
+    /**
+     * Record acquisition of a connection.
+     *
+     * @param tenantId String tenant identifier, or null if there is no tenant
+     * @param cluster String name of the cluster the connection is acquired from
+     * @param nanos duration of the acquisition, in nanoseconds
+     * @param acquired whether the connection is acquired or the acquisition is failed.
+     */
+    @Override
+    public void recordAcquisition(final String tenantId, final String cluster, final long nanos,
+                                  final boolean acquired) {
+        acquisitions.withTags(TENANT_TAG, tenantTags.tagOf(tenantId), "cluster", cluster,
+                "outcome", acquired ? "acquired" : "failed").record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record routing of the tenant to the default cluster because it isn't routed to any additional cluster.
+     *
+     * @param tenantId String tenant identifier.
+     */
+    @Override
+    public void recordDefaultFallback(final String tenantId) {
+        fallbacks.withTags(TENANT_TAG, tenantTags.tagOf(tenantId)).increment();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.metrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import org.qubership.atp.multitenancy.hibernate.jdbc.connections.TenantSchemas;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ClusterCircuitBreaker;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ClusterDataSource;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ReadReplicaDataSource;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.TenantBulkheads;
+import org.qubership.atp.multitenancy.hibernate.jdbc.lookup.TenantRoutingDataSource;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantTags;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Binds metrics of {@link TenantRoutingDataSource} to the registry:
+ * connection acquisitions and default cluster fallbacks (see {@link MicrometerConnectionMetrics}),
+ * and routing, eviction, circuit breakers, bulkheads, replicas and tenant schemas state.
+ * <p>Meters of the state are aggregated over clusters, so their number doesn't depend on the number of clusters.
+ * Pools themselves are measured by Hikari (hikaricp.* meters tagged by pool name, which is named after the cluster).
+ * Counters of clusters removed on refresh are dropped from the sums.</p>
+ */
+public class TenantRoutingMeterBinder implements MeterBinder {
+
+    /**
+     * Prefix of meter names.
+     */
+    private static final String PREFIX = "atp.multitenancy.";
+
+    /**
+     * TenantRoutingDataSource to be measured.
+     */
+    private final TenantRoutingDataSource dataSource;
+
+    /**
+     * Values of the tenant tag.
+     */
+    private final TenantTags tenantTags;
+
+    /**
+     * Constructor.
+     *
+     * @param dataSource TenantRoutingDataSource to be measured
+     * @param tenantTags TenantTags object.
+     */
+    public TenantRoutingMeterBinder(final TenantRoutingDataSource dataSource, final TenantTags tenantTags) {
+        this.dataSource = dataSource;
+        this.tenantTags = tenantTags;
+    }
+
+    /**
+     * Register meters in the registry and start recording of connection acquisitions.
+     *
+     * @param registry MeterRegistry to register meters in.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        dataSource.setConnectionMetrics(new MicrometerConnectionMetrics(registry, tenantTags));
+        Gauge.builder(PREFIX + "routing.tenants", dataSource, source -> source.getResolvedDataSources().size())
+                .description("Tenants routed to additional clusters")
+                .register(registry);
+        Gauge.builder(PREFIX + "pools.initialized", dataSource, source -> source.getClusterDataSources().stream()
+                        .filter(cluster -> cluster.getTargetIfInitialized() != null)
+                        .count())
+                .description("Initialized pools of lazy or evictable additional clusters")
+                .register(registry);
+        counter(registry, "pools.evictions", "Pools of additional clusters closed as idle",
+                source -> sum(source.getClusterDataSources(), ClusterDataSource::getEvictionCount));
+        FunctionTimer.builder(PREFIX + "pools.rewarms", dataSource,
+                        source -> sum(source.getClusterDataSources(), ClusterDataSource::getRewarmCount),
+                        source -> sum(source.getClusterDataSources(),
+                                cluster -> cluster.getRewarmTime().toNanos()),
+                        TimeUnit.NANOSECONDS)
+                .description("Re-creations of evicted pools of additional clusters")
+                .register(registry);
+        Gauge.builder(PREFIX + "circuit.breakers.open", dataSource, source -> source.getCircuitBreakers().stream()
+                        .filter(breaker -> breaker.getState() != ClusterCircuitBreaker.State.CLOSED)
+                        .count())
+                .description("Circuit breakers of additional clusters which are open or half-open")
+                .register(registry);
+        counter(registry, "circuit.breakers.rejected", "Connections rejected by open circuit breakers",
+                source -> sum(source.getCircuitBreakers(), ClusterCircuitBreaker::getRejectedCount));
+        Gauge.builder(PREFIX + "replicas.available", dataSource,
+                        source -> sum(source.getReadReplicas(), ReadReplicaDataSource::getAvailableReplicas))
+                .description("Replicas available for read-only transactions")
+                .register(registry);
+        counter(registry, "replicas.connections", "Connections of read-only transactions got from replicas",
+                source -> sum(source.getReadReplicas(), ReadReplicaDataSource::getReplicaConnectionCount));
+        counter(registry, "replicas.fallbacks", "Connections of read-only transactions got from primaries",
+                source -> sum(source.getReadReplicas(), ReadReplicaDataSource::getFallbackCount));
+        bindBulkheads(registry, dataSource.getTenantBulkheads());
+        bindTenantSchemas(registry, dataSource.getTenantSchemas());
+    }
+
+    private void counter(final MeterRegistry registry, final String name, final String description,
+                         final ToDoubleFunction<TenantRoutingDataSource> count) {
+        FunctionCounter.builder(PREFIX + name, dataSource, count)
+                .description(description)
+                .register(registry);
+    }
+
+    private static void bindBulkheads(final MeterRegistry registry, final TenantBulkheads bulkheads) {
+        if (bulkheads == null) {
+            return;
+        }
+        FunctionCounter.builder(PREFIX + "bulkhead.rejected", bulkheads, TenantBulkheads::getRejectedCount)
+                .description("Connections rejected by tenant connection limits")
+                .register(registry);
+        FunctionTimer.builder(PREFIX + "bulkhead.waits", bulkheads, TenantBulkheads::getWaitCount,
+                        source -> source.getWaitTime().toNanos(), TimeUnit.NANOSECONDS)
+                .description("Waits for tenant connection limits")
+                .register(registry);
+    }
+
+    private static void bindTenantSchemas(final MeterRegistry registry, final TenantSchemas tenantSchemas) {
+        if (tenantSchemas == null) {
+            return;
+        }
+        FunctionCounter.builder(PREFIX + "schemas.search.path", tenantSchemas,
+                        TenantSchemas::getSearchPathChangeCount)
+                .description("Checkouts of connections by tenant schemas")
+                .tag("result", "changed")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "schemas.search.path", tenantSchemas, TenantSchemas::getSearchPathHitCount)
+                .description("Checkouts of connections by tenant schemas")
+                .tag("result", "reused")
+                .register(registry);
+    }
+
+    private static <T> long sum(final List<T> items, final ToLongFunction<T> value) {
+        long sum = 0;
+        for (T item : items) {
+            sum += value.applyAsLong(item);
+        }
+        return sum;
+    }
+}
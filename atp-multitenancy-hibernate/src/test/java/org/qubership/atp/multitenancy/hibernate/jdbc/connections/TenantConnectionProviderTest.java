@@ -0,0 +1,117 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.connections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.TenantBulkheads;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.TenantConnectionLimitException;
+import org.qubership.atp.multitenancy.hibernate.jdbc.lookup.TenantRoutingDataSource;
+
+public class TenantConnectionProviderTest {
+
+    /**
+     * Clear TenantContext after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        TenantContext.clear();
+    }
+
+    /**
+     * Test that connection is taken from the data source of the tenant passed by Hibernate,
+     * not of the tenant of TenantContext.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetConnectionShouldRouteByTenantIdentifierGivenWhenTenantContextHasAnotherTenant()
+            throws SQLException {
+        TenantRoutingDataSource routingDataSource = mock(TenantRoutingDataSource.class);
+        Connection connection = mock(Connection.class);
+        when(routingDataSource.getTenantConnection("tenant1")).thenReturn(connection);
+        TenantContext.setTenantInfo("tenant2");
+        TenantConnectionProvider provider = new TenantConnectionProvider(routingDataSource);
+        assertSame(connection, provider.getConnection("tenant1"));
+    }
+
+    /**
+     * Test that connection is taken from the data source itself when it isn't a TenantRoutingDataSource.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetConnectionShouldUseDataSourceGivenWhenItIsNotTenantRoutingDataSource() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        TenantConnectionProvider provider = new TenantConnectionProvider(dataSource);
+        assertSame(connection, provider.getConnection("tenant1"));
+    }
+
+    /**
+     * Test that a tenant can't take more connections than its limit,
+     * while connections of other tenants aren't affected.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetConnectionShouldRejectConnectionWhenTenantHasReachedItsLimit() throws SQLException {
+        TenantRoutingDataSource routingDataSource = mock(TenantRoutingDataSource.class);
+        TenantBulkheads tenantBulkheads = new TenantBulkheads(tenantId -> 1, tenantId -> true, Duration.ZERO);
+        Connection connection = mock(Connection.class);
+        when(routingDataSource.getTenantBulkheads()).thenReturn(tenantBulkheads);
+        when(routingDataSource.getTenantConnection("tenant1")).thenReturn(connection);
+        when(routingDataSource.getTenantConnection("tenant2")).thenReturn(connection);
+        TenantConnectionProvider provider = new TenantConnectionProvider(routingDataSource);
+        Connection tenant1Connection = provider.getConnection("tenant1");
+        assertThrows(TenantConnectionLimitException.class, () -> provider.getConnection("tenant1"));
+        assertSame(connection, provider.getConnection("tenant2"));
+        provider.releaseConnection("tenant1", tenant1Connection);
+        assertSame(connection, provider.getConnection("tenant1"));
+        assertEquals(1, tenantBulkheads.getRejectedCount());
+    }
+
+    /**
+     * Test that the permit of the tenant is released when the connection can't be got.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetConnectionShouldReleasePermitWhenConnectionFails() throws SQLException {
+        TenantRoutingDataSource routingDataSource = mock(TenantRoutingDataSource.class);
+        TenantBulkheads tenantBulkheads = new TenantBulkheads(tenantId -> 1, tenantId -> true, Duration.ZERO);
+        when(routingDataSource.getTenantBulkheads()).thenReturn(tenantBulkheads);
+        when(routingDataSource.getTenantConnection("tenant1")).thenThrow(new SQLException("Connection refused"));
+        TenantConnectionProvider provider = new TenantConnectionProvider(routingDataSource);
+        assertThrows(SQLException.class, () -> provider.getConnection("tenant1"));
+        assertEquals(0, tenantBulkheads.getActiveConnections("tenant1"));
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.connections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.atp.multitenancy.core.context.TenantRegistry;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ConnectionInitializer;
+
+import liquibase.exception.LiquibaseException;
+
+public class TenantSchemasTest {
+
+    /**
+     * Test that registered tenant id is mapped to a prefixed schema, and unregistered and default tenants
+     * aren't mapped to schemas, so they use default search_path.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testSchemaOfShouldMapOnlyRegisteredTenantsToPrefixedSchemas() throws SQLException {
+        TenantSchemas tenantSchemas = new TenantSchemas("tenant_");
+        try {
+            TenantContext.replaceTenantIds(Map.of("cluster", List.of("8d3b1c2e-0f4a-4b7e-9c1d-2a5e6f7b8c9d")));
+            tenantSchemas.onTenantsChanged(TenantContext.getTenantRegistry());
+            assertEquals("tenant_8d3b1c2e_0f4a_4b7e_9c1d_2a5e6f7b8c9d",
+                    tenantSchemas.schemaOf("8d3b1c2e-0f4a-4b7e-9c1d-2a5e6f7b8c9d"));
+            assertNull(tenantSchemas.schemaOf("11111111-2222-3333-4444-555555555555"));
+            assertNull(tenantSchemas.schemaOf(TenantContext.DEFAULT_TENANT));
+            assertNull(tenantSchemas.schemaOf(null));
+        } finally {
+            TenantContext.replaceTenantIds(Map.of());
+        }
+    }
+
+    /**
+     * Test that stale registry snapshot doesn't replace schemas of a newer one.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testOnTenantsChangedShouldIgnoreRegistryWhenItIsOlderThanProcessedOne() throws SQLException {
+        TenantSchemas tenantSchemas = new TenantSchemas("tenant_");
+        try {
+            TenantContext.replaceTenantIds(Map.of("cluster", List.of("a")));
+            TenantRegistry stale = TenantContext.getTenantRegistry();
+            TenantContext.replaceTenantIds(Map.of("cluster", List.of("b")));
+            tenantSchemas.onTenantsChanged(TenantContext.getTenantRegistry());
+            tenantSchemas.onTenantsChanged(stale);
+            assertNull(tenantSchemas.schemaOf("a"));
+            assertEquals("tenant_b", tenantSchemas.schemaOf("b"));
+        } finally {
+            TenantContext.replaceTenantIds(Map.of());
+        }
+    }
+
+    /**
+     * Test that tenant ids which differ only in case or separators are mapped to different schemas.
+     */
+    @Test
+    public void testToSchemaNameShouldMapDifferentTenantIdsToDifferentSchemas() {
+        TenantSchemas tenantSchemas = new TenantSchemas("tenant_");
+        List<String> tenantIds = List.of("a-b", "a_b", "A.B", "A-B", "a--b", "a-b-", "ab");
+        Set<String> schemas = new HashSet<>();
+        for (String tenantId : tenantIds) {
+            String schema = tenantSchemas.toSchemaName(tenantId);
+            assertTrue(schema.matches("tenant_[a-z0-9_]+") && schema.length() <= 63, schema);
+            schemas.add(schema);
+        }
+        assertEquals(tenantIds.size(), schemas.size());
+        assertEquals("tenant_a_b", tenantSchemas.toSchemaName("a-b"));
+        assertTrue(tenantSchemas.toSchemaName("a_b").startsWith("tenant_a_b__"));
+    }
+
+    /**
+     * Test that tenant ids starting with a digit and too long tenant ids are mapped to valid schemas
+     * even without schema prefix.
+     */
+    @Test
+    public void testToSchemaNameShouldReturnValidIdentifierWhenPrefixIsEmpty() {
+        TenantSchemas tenantSchemas = new TenantSchemas("");
+        String uuidSchema = tenantSchemas.toSchemaName("8d3b1c2e-0f4a-4b7e-9c1d-2a5e6f7b8c9d");
+        String longSchema = tenantSchemas.toSchemaName("x".repeat(100));
+        assertTrue(uuidSchema.matches("_8d3b1c2e_[a-z0-9_]+") && uuidSchema.length() <= 63, uuidSchema);
+        assertTrue(longSchema.matches("x+__[0-9a-f]{16}") && longSchema.length() == 63, longSchema);
+        assertNotEquals(longSchema, tenantSchemas.toSchemaName("x".repeat(101)));
+    }
+
+    /**
+     * Test that schemas of tenants given are returned for the tenants only, without the default tenant.
+     */
+    @Test
+    public void testSchemasOfShouldReturnSchemasOfTenantsGiven() {
+        TenantSchemas tenantSchemas = new TenantSchemas("tenant_");
+        assertEquals(Map.of("a", "tenant_a", "b", "tenant_b"),
+                tenantSchemas.schemasOf(List.of("a", "b", TenantContext.DEFAULT_TENANT)));
+    }
+
+    /**
+     * Test that schema prefix which leaves no room for the hash suffix is rejected.
+     */
+    @Test
+    public void testConstructorShouldRejectPrefixWhenItIsTooLong() {
+        assertThrows(IllegalArgumentException.class, () -> new TenantSchemas("t".repeat(45)));
+    }
+
+    /**
+     * Test that schema is created and migrated once, and the failed migration is retried on the next call.
+     *
+     * @throws Exception in case errors.
+     */
+    @Test
+    public void testMigrateShouldMigrateSchemaOnceAndRetryWhenMigrationFailed() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        SchemaMigrator migrator = mock(SchemaMigrator.class);
+        doThrow(new LiquibaseException("failed")).doNothing().when(migrator).migrate(dataSource, "tenant_a");
+        TenantSchemas tenantSchemas = new TenantSchemas("tenant_", migrator);
+        assertThrows(SQLException.class, () -> tenantSchemas.migrate(dataSource, "tenant_a"));
+        tenantSchemas.migrate(dataSource, "tenant_a");
+        tenantSchemas.migrate(dataSource, "tenant_a");
+        verify(statement, times(2)).execute("CREATE SCHEMA IF NOT EXISTS \"tenant_a\"");
+        verify(migrator, times(2)).migrate(dataSource, "tenant_a");
+    }
+
+    /**
+     * Test that search_path tracking of closed physical connections is removed.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testPruneClosedConnectionsShouldRemoveClosedConnections() throws SQLException {
+        Connection open = mock(Connection.class);
+        Connection closed = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(open.createStatement()).thenReturn(statement);
+        when(closed.createStatement()).thenReturn(statement);
+        when(closed.isClosed()).thenReturn(true);
+        TenantSchemas tenantSchemas = new TenantSchemas("tenant_");
+        tenantSchemas.applySearchPath(open, "tenant_a");
+        tenantSchemas.applySearchPath(closed, "tenant_a");
+        tenantSchemas.pruneClosedConnections();
+        assertEquals(1, tenantSchemas.getTrackedConnectionCount());
+    }
+
+    /**
+     * Test that invalid schema prefix is rejected.
+     */
+    @Test
+    public void testConstructorShouldRejectPrefixWhenItIsNotValidIdentifier() {
+        assertThrows(IllegalArgumentException.class, () -> new TenantSchemas("tenant-\""));
+    }
+
+    /**
+     * Test that search_path is set once per physical connection while the schema is the same,
+     * and is set again when the schema is changed.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testApplySearchPathShouldSkipSetWhenConnectionAlreadyHasSchema() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        TenantSchemas tenantSchemas = new TenantSchemas("tenant_");
+        tenantSchemas.applySearchPath(connection, "tenant_a");
+        tenantSchemas.applySearchPath(connection, "tenant_a");
+        tenantSchemas.applySearchPath(connection, "tenant_b");
+        tenantSchemas.applySearchPath(connection, null);
+        tenantSchemas.applySearchPath(connection, null);
+        verify(statement, times(1)).execute("SET search_path TO \"tenant_a\", public");
+        verify(statement, times(1)).execute("SET search_path TO \"tenant_b\", public");
+        verify(statement, times(1)).execute("SET search_path TO DEFAULT");
+        assertEquals(3, tenantSchemas.getSearchPathChangeCount());
+        assertEquals(2, tenantSchemas.getSearchPathHitCount());
+    }
+
+    /**
+     * Test that search_path set on checkout of a connection with auto-commit off isn't undone
+     * by a rollback of the transaction, so the connection has the tenant schema when the tenant takes it again.
+     * The connection models PostgreSQL: SET inside a transaction is applied on commit and discarded on rollback.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testApplySearchPathShouldKeepSchemaWhenTransactionIsRolledBack() throws SQLException {
+        AtomicBoolean autoCommit = new AtomicBoolean(false);
+        AtomicReference<String> committed = new AtomicReference<>();
+        AtomicReference<String> pending = new AtomicReference<>();
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.getAutoCommit()).thenAnswer(invocation -> autoCommit.get());
+        doAnswer(invocation -> {
+            boolean enabled = invocation.getArgument(0);
+            if (enabled && pending.get() != null) {
+                committed.set(pending.getAndSet(null));
+            }
+            autoCommit.set(enabled);
+            return null;
+        }).when(connection).setAutoCommit(anyBoolean());
+        doAnswer(invocation -> {
+            pending.set(null);
+            return null;
+        }).when(connection).rollback();
+        when(statement.execute(anyString())).thenAnswer(invocation -> {
+            (autoCommit.get() ? committed : pending).set(invocation.getArgument(0));
+            return false;
+        });
+        TenantSchemas tenantSchemas = new TenantSchemas("tenant_");
+        tenantSchemas.applySearchPath(connection, "tenant_a");
+        connection.rollback();
+        tenantSchemas.applySearchPath(connection, "tenant_a");
+        assertEquals("SET search_path TO \"tenant_a\", public", committed.get());
+        assertFalse(autoCommit.get());
+        assertEquals(1, tenantSchemas.getSearchPathHitCount());
+    }
+
+    /**
+     * Test that checkout of a tenant which schema isn't migrated yet doesn't run the migration,
+     * but is refused and queues the schema, and the tenant gets its initializer after pending migrations.
+     *
+     * @throws Exception in case errors.
+     */
+    @Test
+    public void testInitializerOfShouldQueueMigrationWhenSchemaIsNotMigrated() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        SchemaMigrator migrator = mock(SchemaMigrator.class);
+        TenantSchemas tenantSchemas = new TenantSchemas("tenant_", migrator);
+        try {
+            TenantContext.replaceTenantIds(Map.of("cluster", List.of("a")));
+            tenantSchemas.onTenantsChanged(TenantContext.getTenantRegistry());
+            assertThrows(SQLTransientConnectionException.class, () -> tenantSchemas.initializerOf("a", dataSource));
+            verify(migrator, never()).migrate(dataSource, "tenant_a");
+            assertEquals(1, tenantSchemas.getPendingMigrationCount());
+            tenantSchemas.migratePending();
+            verify(migrator, times(1)).migrate(dataSource, "tenant_a");
+            assertEquals(0, tenantSchemas.getPendingMigrationCount());
+            ConnectionInitializer initializer = tenantSchemas.initializerOf("a", dataSource);
+            assertNotSame(tenantSchemas.initializerOf(TenantContext.DEFAULT_TENANT, dataSource), initializer);
+        } finally {
+            TenantContext.replaceTenantIds(Map.of());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+public class ClusterCircuitBreakerTest {
+
+    /**
+     * Url of the cluster.
+     */
+    private static final String URL = "jdbc:postgresql://localhost:5432/cluster0";
+
+    /**
+     * Test that the circuit is opened after consecutive connection failures
+     * and further connection requests fail without reaching the data source.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetConnectionShouldFailFastWhenConsecutiveFailuresReachThreshold() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused", "08001"));
+        ClusterCircuitBreaker circuitBreaker = new ClusterCircuitBreaker(URL, 2, Duration.ofMinutes(1));
+        assertThrows(SQLException.class, () -> circuitBreaker.getConnection(dataSource));
+        assertEquals(ClusterCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertThrows(SQLException.class, () -> circuitBreaker.getConnection(dataSource));
+        assertEquals(ClusterCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        ClusterUnavailableException exception = assertThrows(ClusterUnavailableException.class,
+                () -> circuitBreaker.getConnection(dataSource));
+        assertEquals(URL, exception.getClusterUrl());
+        assertEquals(1, circuitBreaker.getRejectedCount());
+        assertFalse(circuitBreaker.isProbeDue());
+        verify(dataSource, times(2)).getConnection();
+    }
+
+    /**
+     * Test that pool exhaustion isn't counted as cluster failure.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetConnectionShouldKeepCircuitClosedWhenPoolIsExhausted() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+        ClusterCircuitBreaker circuitBreaker = new ClusterCircuitBreaker(URL, 1, Duration.ofMinutes(1));
+        assertThrows(SQLException.class, () -> circuitBreaker.getConnection(dataSource));
+        assertEquals(ClusterCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getConsecutiveFailures());
+    }
+
+    /**
+     * Test that the circuit is closed by a successful probe after open duration.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testProbeIfDueShouldCloseCircuitWhenClusterIsAvailableAgain() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused", "08001"))
+                .thenReturn(connection);
+        ClusterCircuitBreaker circuitBreaker = new ClusterCircuitBreaker(URL, 1, Duration.ZERO);
+        assertThrows(SQLException.class, () -> circuitBreaker.getConnection(dataSource));
+        assertTrue(circuitBreaker.isProbeDue());
+        assertTrue(circuitBreaker.probeIfDue(dataSource));
+        assertEquals(ClusterCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        verify(connection).close();
+        assertSame(connection, circuitBreaker.getConnection(dataSource));
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresCluster;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+public class ClusterDataSourceTest {
+
+    /**
+     * Values of 'migrate' flag passed to the factory.
+     */
+    private final List<Boolean> migrations = new ArrayList<>();
+
+    /**
+     * ClusterDataSource object for tests.
+     */
+    private ClusterDataSource clusterDataSource;
+
+    /**
+     * Init clusterDataSource with the factory creating mock pools.
+     */
+    @BeforeEach
+    public void setUp() {
+        AdditionalPostgresCluster cluster = new AdditionalPostgresCluster();
+        cluster.setUrl("jdbc:postgresql://localhost:5432/cluster0");
+        clusterDataSource = new ClusterDataSource(cluster, (created, migrate) -> {
+            migrations.add(migrate);
+            return mock(DataSource.class);
+        });
+    }
+
+    /**
+     * Test that the pool is created and migrated only once on first use.
+     *
+     * @throws SQLException in case database errors occurred.
+     */
+    @Test
+    public void testGetTargetShouldCreateAndMigratePoolOnceWhenCalledTwice() throws SQLException {
+        assertFalse(clusterDataSource.isInitialized());
+        DataSource first = clusterDataSource.getTarget();
+        assertSame(first, clusterDataSource.getTarget());
+        assertTrue(clusterDataSource.isInitialized());
+        assertEquals(List.of(true), migrations);
+    }
+
+    /**
+     * Test that evicted pool is re-created without migration.
+     *
+     * @throws SQLException in case database errors occurred.
+     */
+    @Test
+    public void testGetTargetShouldRecreatePoolWithoutMigrationWhenPoolEvicted() throws SQLException {
+        clusterDataSource.getTarget();
+        assertTrue(clusterDataSource.evictIfIdle(Duration.ZERO));
+        assertFalse(clusterDataSource.isInitialized());
+        clusterDataSource.getTarget();
+        assertEquals(List.of(true, false), migrations);
+        assertEquals(1, clusterDataSource.getEvictionCount());
+        assertEquals(1, clusterDataSource.getRewarmCount());
+    }
+
+    /**
+     * Test that recently used pool isn't evicted.
+     *
+     * @throws SQLException in case database errors occurred.
+     */
+    @Test
+    public void testEvictIfIdleShouldReturnFalseWhenPoolUsedRecently() throws SQLException {
+        clusterDataSource.getTarget();
+        assertFalse(clusterDataSource.evictIfIdle(Duration.ofMinutes(1)));
+        assertTrue(clusterDataSource.isInitialized());
+    }
+
+    /**
+     * Test that the pool isn't evicted while a connection is being acquired from it.
+     *
+     * @throws Exception in case of test errors.
+     */
+    @Test
+    public void testEvictIfIdleShouldReturnFalseWhenConnectionIsBeingAcquired() throws Exception {
+        CountDownLatch acquiring = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ClusterDataSource dataSource = new ClusterDataSource(clusterOf("cluster1"), (created, migrate) ->
+                new FakePool(() -> {
+                    acquiring.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                }));
+        dataSource.getTarget();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Connection> connection = executor.submit(() -> dataSource.getConnection());
+            assertTrue(acquiring.await(10, TimeUnit.SECONDS));
+
+            assertFalse(dataSource.evictIfIdle(Duration.ZERO));
+            assertTrue(dataSource.isInitialized());
+
+            release.countDown();
+            connection.get(10, TimeUnit.SECONDS);
+            assertTrue(dataSource.evictIfIdle(Duration.ZERO));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that concurrent eviction never closes the pool a connection is being acquired from:
+     * the fake pool fails acquisition if it's closed before the acquisition is finished.
+     *
+     * @throws Exception in case of test errors.
+     */
+    @Test
+    public void testGetConnectionShouldNotFailWhenPoolIsEvictedConcurrently() throws Exception {
+        ClusterDataSource dataSource = new ClusterDataSource(clusterOf("cluster1"),
+                (created, migrate) -> new FakePool(Thread::yield));
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicInteger evictions = new AtomicInteger();
+        try {
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                readers.add(executor.submit(() -> {
+                    int count = 0;
+                    while (!stop.get()) {
+                        dataSource.getConnection();
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+            Future<?> evictor = executor.submit(() -> {
+                while (!stop.get()) {
+                    if (dataSource.evictIfIdle(Duration.ZERO)) {
+                        evictions.incrementAndGet();
+                    }
+                }
+            });
+            Thread.sleep(500);
+            stop.set(true);
+            evictor.get(10, TimeUnit.SECONDS);
+            for (Future<Integer> reader : readers) {
+                assertTrue(reader.get(10, TimeUnit.SECONDS) > 0);
+            }
+            assertEquals(evictions.get(), dataSource.getEvictionCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AdditionalPostgresCluster clusterOf(final String name) {
+        AdditionalPostgresCluster cluster = new AdditionalPostgresCluster();
+        cluster.setUrl("jdbc:postgresql://localhost:5432/" + name);
+        return cluster;
+    }
+
+    /**
+     * Step of a connection acquisition which may block.
+     */
+    @FunctionalInterface
+    private interface AcquisitionStep {
+
+        /**
+         * Perform the step.
+         *
+         * @throws InterruptedException if the step is interrupted.
+         */
+        void run() throws InterruptedException;
+    }
+
+    /**
+     * Pool failing connection acquisition if it's closed before the acquisition is finished.
+     */
+    private static final class FakePool extends HikariDataSource {
+
+        /**
+         * Step run in the middle of an acquisition.
+         */
+        private final AcquisitionStep step;
+
+        /**
+         * Connection returned by the pool.
+         */
+        private final Connection connection = mock(Connection.class);
+
+        /**
+         * Flag if the pool is closed.
+         */
+        private volatile boolean closed;
+
+        private FakePool(final AcquisitionStep step) {
+            this.step = step;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            checkOpen();
+            try {
+                step.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+            checkOpen();
+            return connection;
+        }
+
+        @Override
+        public Connection getConnection(final String username, final String password) throws SQLException {
+            return getConnection();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        private void checkOpen() throws SQLException {
+            if (closed) {
+                throw new SQLException("Pool is closed");
+            }
+        }
+    }
+
+    /**
+     * Test that unwrapping doesn't create and migrate the pool which isn't created yet.
+     *
+     * @throws SQLException in case database errors occurred.
+     */
+    @Test
+    public void testUnwrapShouldNotCreatePoolWhenItIsNotCreated() throws SQLException {
+        assertSame(clusterDataSource, clusterDataSource.unwrap(ClusterDataSource.class));
+        assertFalse(clusterDataSource.isWrapperFor(HikariDataSource.class));
+        assertThrows(SQLException.class, () -> clusterDataSource.unwrap(HikariDataSource.class));
+        assertFalse(clusterDataSource.isInitialized());
+        assertTrue(migrations.isEmpty());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresCluster;
+
+public class ClusterEndpointsTest {
+
+    /**
+     * Test that clusters with equivalent urls and the same username have the same endpoint (so share one pool).
+     */
+    @Test
+    public void testEndpointOfShouldBeEqualWhenUrlsDifferByCaseDefaultPortAndTrailingSlashAndNotEqualForOtherUser() {
+        AdditionalPostgresCluster first = new AdditionalPostgresCluster();
+        first.setUrl("jdbc:postgresql://LocalHost/cluster0/");
+        first.setUsername("admin");
+        AdditionalPostgresCluster second = new AdditionalPostgresCluster();
+        second.setUrl(" jdbc:postgresql://localhost:5432/cluster0");
+        second.setUsername("admin");
+        second.setDriverClassName("org.postgresql.Driver");
+        assertEquals(ClusterEndpoints.endpointOf(first), ClusterEndpoints.endpointOf(second));
+        second.setUsername("reader");
+        assertNotEquals(ClusterEndpoints.endpointOf(first), ClusterEndpoints.endpointOf(second));
+    }
+
+    /**
+     * Test that cluster name (used in pool names and metrics) has host, port and database but no query parameters.
+     */
+    @Test
+    public void testClusterNameOfShouldReturnNormalizedHostPortAndDatabaseWithoutQuery() {
+        assertEquals("localhost:5432/cluster0",
+                ClusterEndpoints.clusterNameOf("jdbc:postgresql://LocalHost/cluster0/?ssl=true&password=x"));
+    }
+
+    /**
+     * Test that url of an endpoint is the normalized url without the username.
+     */
+    @Test
+    public void testUrlOfShouldReturnNormalizedUrlWhenEndpointIsBuiltFromCluster() {
+        AdditionalPostgresCluster cluster = new AdditionalPostgresCluster();
+        cluster.setUrl("jdbc:postgresql://LocalHost/cluster0/");
+        cluster.setUsername("admin");
+        assertEquals("jdbc:postgresql://localhost:5432/cluster0",
+                ClusterEndpoints.urlOf(ClusterEndpoints.endpointOf(cluster)));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.DefaultPostgresCluster;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.MultiTenantDataSourceProperties;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+public class ClusterPoolBuilderTest {
+
+    /**
+     * Test that pools of the primary and of replicas get auto-commit and isolation of spring.datasource.hikari,
+     * and connections of read replicas routing, which aren't taken from a pool yet, report the same values.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testBuildReadReplicasShouldUseTransactionSettingsOfPoolsWhenTheyAreNotDefault() throws SQLException {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setAutoCommit(false);
+        hikariConfig.setTransactionIsolation("transaction_serializable");
+        DefaultPostgresCluster cluster = new DefaultPostgresCluster();
+        cluster.setUrl("jdbc:h2:mem:primary");
+        cluster.setDriverClassName("org.h2.Driver");
+        cluster.setReplicaUrls(List.of("jdbc:h2:mem:replica"));
+        ClusterPoolBuilder poolBuilder = new ClusterPoolBuilder(hikariConfig,
+                new MultiTenantDataSourceProperties.Replicas(), null);
+        try (HikariDataSource primary = (HikariDataSource) poolBuilder.build(cluster);
+             HikariDataSource replica = (HikariDataSource) poolBuilder.build(cluster, "jdbc:h2:mem:replica")) {
+            ReadReplicaDataSource readReplicas = poolBuilder.buildReadReplicas(cluster, primary);
+            try (Connection connection = readReplicas.getConnection()) {
+                for (HikariDataSource pool : List.of(primary, replica)) {
+                    assertFalse(pool.isAutoCommit());
+                    assertEquals("TRANSACTION_SERIALIZABLE", pool.getTransactionIsolation());
+                }
+                assertFalse(connection.getAutoCommit());
+                assertEquals(Connection.TRANSACTION_SERIALIZABLE, connection.getTransactionIsolation());
+            } finally {
+                readReplicas.close();
+            }
+        }
+    }
+}
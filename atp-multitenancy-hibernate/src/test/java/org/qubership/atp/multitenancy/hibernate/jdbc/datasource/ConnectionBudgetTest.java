@@ -0,0 +1,54 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class ConnectionBudgetTest {
+
+    /**
+     * Test that the budget is divided proportionally to demand and isn't exceeded.
+     */
+    @Test
+    public void testDivideShouldGiveLargerShareToPoolWithHigherDemandWithinBudget() {
+        int[] sizes = ConnectionBudget.divide(100, 2, new int[]{97, 0, 0}, new int[]{0, 0, 0});
+        assertArrayEquals(new int[]{94, 2, 2}, sizes);
+        assertTrue(Arrays.stream(sizes).sum() <= 100);
+    }
+
+    /**
+     * Test that idle pools share the budget equally and pool cap is respected.
+     */
+    @Test
+    public void testDivideShouldSplitEquallyWhenNoDemandAndLimitPoolByItsCap() {
+        assertArrayEquals(new int[]{10, 10}, ConnectionBudget.divide(20, 2, new int[]{0, 0}, new int[]{0, 0}));
+        assertArrayEquals(new int[]{5, 10}, ConnectionBudget.divide(20, 2, new int[]{0, 0}, new int[]{5, 0}));
+    }
+
+    /**
+     * Test that each pool gets minimum size when the budget is too small.
+     */
+    @Test
+    public void testDivideShouldGiveMinimumPoolSizeWhenBudgetIsLessThanMinimumPerPool() {
+        assertArrayEquals(new int[]{2, 2, 2}, ConnectionBudget.divide(4, 2, new int[]{5, 1, 0}, new int[]{0, 0, 0}));
+    }
+}
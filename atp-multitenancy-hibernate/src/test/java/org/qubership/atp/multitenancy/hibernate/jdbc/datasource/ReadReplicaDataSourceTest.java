@@ -0,0 +1,207 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.MultiTenantDataSourceProperties.Replicas.Selection;
+import org.qubership.atp.multitenancy.hibernate.metrics.ConnectionMetrics;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+public class ReadReplicaDataSourceTest {
+
+    /**
+     * DataSource of the primary.
+     */
+    private DataSource primary;
+
+    /**
+     * DataSource of the first replica.
+     */
+    private DataSource replica0;
+
+    /**
+     * DataSource of the second replica.
+     */
+    private DataSource replica1;
+
+    /**
+     * Init mock data sources.
+     */
+    @BeforeEach
+    public void setUp() {
+        primary = mock(DataSource.class);
+        replica0 = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+    }
+
+    /**
+     * Test that read-only connections are taken from replicas one after another in round-robin mode.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetReadOnlyConnectionShouldAlternateReplicasWhenSelectionIsRoundRobin() throws SQLException {
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        when(replica0.getConnection()).thenReturn(connection0);
+        when(replica1.getConnection()).thenReturn(connection1);
+        ReadReplicaDataSource dataSource = create(null);
+        assertSame(connection0, dataSource.getReadOnlyConnection());
+        assertSame(connection1, dataSource.getReadOnlyConnection());
+        assertSame(connection0, dataSource.getReadOnlyConnection());
+        assertEquals(3, dataSource.getReplicaConnectionCount());
+        verify(primary, never()).getConnection();
+    }
+
+    /**
+     * Test that a replica which failed to connect is skipped and the primary is used when no replica is available.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetReadOnlyConnectionShouldFallBackToPrimaryWhenReplicasFailToConnect() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(replica0.getConnection()).thenThrow(new SQLException("Connection refused", "08001"));
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused", "08001"));
+        when(primary.getConnection()).thenReturn(connection);
+        ReadReplicaDataSource dataSource = create(null);
+        assertSame(connection, dataSource.getReadOnlyConnection());
+        assertEquals(0, dataSource.getAvailableReplicas());
+        assertEquals(1, dataSource.getFallbackCount());
+    }
+
+    /**
+     * Test that a replica lagging more than maxLag is skipped after the check.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testCheckReplicasShouldSkipReplicaWhenReplicationLagExceedsMaxLag() throws SQLException {
+        mockReplicationLag(replica0, 5000);
+        Connection connection = mockReplicationLag(replica1, 10);
+        ReadReplicaDataSource dataSource = create(Duration.ofSeconds(1));
+        dataSource.checkReplicas();
+        assertEquals(1, dataSource.getAvailableReplicas());
+        assertSame(connection, dataSource.getReadOnlyConnection());
+        assertSame(connection, dataSource.getReadOnlyConnection());
+    }
+
+    /**
+     * Test that checkouts with the same initializer reuse one lazy proxy, and the physical connection
+     * is prepared by the initializer once it's taken.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetConnectionWithInitializerShouldWrapTargetsOnceWhenCheckedOutSeveralTimes() throws SQLException {
+        Connection physical = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(physical);
+        List<Connection> initialized = new ArrayList<>();
+        AtomicInteger wrapCount = new AtomicInteger();
+        ConnectionInitializer initializer = new ConnectionInitializer() {
+            @Override
+            public void initialize(final Connection connection) {
+                initialized.add(connection);
+            }
+
+            @Override
+            public DataSource wrap(final DataSource dataSource) {
+                wrapCount.incrementAndGet();
+                return ConnectionInitializer.super.wrap(dataSource);
+            }
+        };
+        ReadReplicaDataSource dataSource = create(null);
+        dataSource.getConnection(initializer);
+        Connection connection = dataSource.getConnection(initializer);
+        assertEquals(2, wrapCount.get());
+        assertSame(physical, ((ConnectionProxy) connection).getTargetConnection());
+        assertEquals(List.of(physical), initialized);
+    }
+
+    /**
+     * Test that acquisitions are recorded when physical connections are taken, with the tenant of the thread
+     * taking them, and not when lazy connections are checked out.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testGetConnectionShouldRecordAcquisitionWhenPhysicalConnectionIsTaken() throws SQLException {
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        List<String> recorded = new ArrayList<>();
+        ReadReplicaDataSource dataSource = create(null);
+        dataSource.setConnectionMetrics(new ConnectionMetrics() {
+            @Override
+            public void recordAcquisition(final String tenantId, final String cluster, final long nanos,
+                                          final boolean acquired) {
+                recorded.add(tenantId + "@" + cluster + ":" + acquired);
+            }
+        }, "primary:5432/db");
+        TenantContext.setTenantInfo("tenant");
+        try {
+            Connection connection = dataSource.getConnection(physical -> { });
+            assertEquals(List.of(), recorded);
+            ((ConnectionProxy) connection).getTargetConnection();
+            assertEquals(List.of("tenant@primary:5432/db:true"), recorded);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private ReadReplicaDataSource create(final Duration maxLag) {
+        ReadReplicaDataSource dataSource = new ReadReplicaDataSource("jdbc:postgresql://primary:5432/db", primary,
+                List.of("jdbc:postgresql://replica0:5432/db", "jdbc:postgresql://replica1:5432/db"),
+                List.of(replica0, replica1), Selection.ROUND_ROBIN, maxLag);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private static Connection mockReplicationLag(final DataSource replica, final long lagMillis)
+            throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(lagMillis);
+        return connection;
+    }
+}
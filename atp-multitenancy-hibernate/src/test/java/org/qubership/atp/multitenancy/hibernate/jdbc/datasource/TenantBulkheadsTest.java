@@ -0,0 +1,68 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TenantBulkheadsTest {
+
+    /**
+     * Test that tenants which aren't known share one bulkhead, so arbitrary tenant ids don't create bulkheads.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testAcquireShouldShareBulkheadWhenTenantsAreNotKnown() throws SQLException {
+        TenantBulkheads tenantBulkheads = new TenantBulkheads(tenantId -> 2, "known"::equals, Duration.ZERO);
+        tenantBulkheads.acquire("unknown1");
+        tenantBulkheads.acquire("unknown2");
+        assertThrows(TenantConnectionLimitException.class, () -> tenantBulkheads.acquire("unknown3"));
+        tenantBulkheads.acquire("known");
+        assertEquals(1, tenantBulkheads.getBulkheadCount());
+        assertEquals(1, tenantBulkheads.getActiveConnections("known"));
+        assertEquals(2, tenantBulkheads.getActiveConnections("unknown4"));
+    }
+
+    /**
+     * Test that bulkheads of tenants removed from routing are dropped on update, and the permit acquired
+     * before is released to the bulkhead it's acquired from.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testUpdateLimitsShouldRemoveBulkheadsWhenTenantsAreNotKnownAnymore() throws SQLException {
+        Set<String> knownTenants = new HashSet<>(Set.of("a", "b"));
+        TenantBulkheads tenantBulkheads = new TenantBulkheads(tenantId -> 1, knownTenants::contains, Duration.ZERO);
+        TenantBulkheads.Permit permit = tenantBulkheads.acquire("a");
+        tenantBulkheads.acquire("b");
+        knownTenants.remove("a");
+        tenantBulkheads.updateLimits();
+        assertEquals(1, tenantBulkheads.getBulkheadCount());
+        permit.release();
+        assertEquals(0, tenantBulkheads.getActiveConnections("a"));
+        tenantBulkheads.acquire("a");
+        assertThrows(TenantConnectionLimitException.class, () -> tenantBulkheads.acquire("c"));
+    }
+}
@@ -17,8 +17,12 @@
 package org.qubership.atp.multitenancy.hibernate.jdbc.lookup;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -33,9 +37,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.qubership.atp.multitenancy.core.context.TenantContext;
 import org.qubership.atp.multitenancy.hibernate.config.HikariConfiguration;
+import org.qubership.atp.multitenancy.hibernate.jdbc.datasource.ClusterDataSource;
 import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresCluster;
 import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.AdditionalPostgresClusters;
 import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.DefaultPostgresCluster;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.MultiTenantDataSourceProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
@@ -210,4 +216,83 @@ public class TenantRoutingDataSourceTest {
         DataSource defaultDataSource = tenantRoutingDataSource.createDefaultDataSource(defaultPgCluster);
         assertEquals(55000, ((HikariDataSource) defaultDataSource).getIdleTimeout());
     }
+
+    /**
+     * Test that parallel bootstrap maps projects to the same clusters as sequential one.
+     *
+     * @throws LiquibaseException in case Liquibase errors occurred.
+     */
+    @Test
+    public void testCreateTargetDataSourcesInParallelShouldReturnDataSourceJdbcUrlForProjectIdsFromDataSourcesMapWhenParallelBootstrapEnabled()
+            throws LiquibaseException {
+        MultiTenantDataSourceProperties properties = new MultiTenantDataSourceProperties();
+        properties.getBootstrap().setParallel(true);
+        properties.getBootstrap().setConcurrency(2);
+        TenantRoutingDataSource parallelDataSource = new TenantRoutingDataSource(tenantIdentifierResolverMock,
+                springLiquibaseMock, resourceLoaderMock, additionalPostgresClusters, defaultPgCluster, hikariConfig,
+                liquibasePropertiesMock, properties);
+        try {
+            Map<Object, DataSource> parallelDataSources = parallelDataSource.getResolvedDataSources();
+            assertEquals("jdbc:postgresql://localhost:5432/cluster0", ((HikariDataSource) parallelDataSources
+                    .get("cc4055cc-48e6-4375-97a8-307fbf71c2b1")).getJdbcUrl());
+            assertEquals("jdbc:postgresql://localhost:5432/cluster1", ((HikariDataSource) parallelDataSources
+                    .get("2d5e2d09-25e7-4801-b559-86da63a0bdcf")).getJdbcUrl());
+            assertEquals(5, parallelDataSources.size());
+        } finally {
+            parallelDataSource.destroy();
+        }
+    }
+
+    /**
+     * Test that lazy bootstrap maps projects of a cluster to the same not initialized cluster data source.
+     *
+     * @throws LiquibaseException in case Liquibase errors occurred.
+     */
+    @Test
+    public void testCreateTargetDataSourcesLazilyShouldReturnNotInitializedClusterDataSourceSharedByClusterProjectsWhenLazyBootstrapEnabled()
+            throws LiquibaseException {
+        MultiTenantDataSourceProperties properties = new MultiTenantDataSourceProperties();
+        properties.getBootstrap().setLazy(true);
+        TenantRoutingDataSource lazyDataSource = new TenantRoutingDataSource(tenantIdentifierResolverMock,
+                springLiquibaseMock, resourceLoaderMock, additionalPostgresClusters, defaultPgCluster, hikariConfig,
+                liquibasePropertiesMock, properties);
+        try {
+            Map<Object, DataSource> lazyDataSources = lazyDataSource.getResolvedDataSources();
+            ClusterDataSource clusterDataSource =
+                    (ClusterDataSource) lazyDataSources.get("3d6a138d-057b-4e35-8348-17aee2f2b0f8");
+            assertFalse(clusterDataSource.isInitialized());
+            assertEquals("jdbc:postgresql://localhost:5432/cluster1", clusterDataSource.getCluster().getUrl());
+            assertSame(clusterDataSource, lazyDataSources.get("46709694-b495-446b-a372-65cfc86a7b5d"));
+        } finally {
+            lazyDataSource.destroy();
+        }
+    }
+
+    /**
+     * Test that refresh reuses pool of unchanged cluster and removes projects of deleted cluster from routing.
+     *
+     * @throws LiquibaseException in case Liquibase errors occurred.
+     */
+    @Test
+    public void testRefreshShouldReuseUnchangedClusterDataSourceAndRemoveDeletedClusterProjectsWhenRoutingRefreshed()
+            throws LiquibaseException {
+        DataSource cluster0DataSource =
+                tenantRoutingDataSource.getResolvedDataSources().get("ab70725d-318c-4d06-976a-e2c843d999e6");
+        AdditionalPostgresClusters refreshedClusters = new AdditionalPostgresClusters();
+        refreshedClusters.setClusters(List.of(additionalPostgresClusters.getClusters().get(0)));
+        tenantRoutingDataSource.refresh(refreshedClusters);
+        assertSame(cluster0DataSource,
+                tenantRoutingDataSource.getResolvedDataSources().get("ab70725d-318c-4d06-976a-e2c843d999e6"));
+        assertFalse(tenantRoutingDataSource.getResolvedDataSources().containsKey("3d6a138d-057b-4e35-8348-17aee2f2b0f8"));
+        assertEquals(1, TenantContext.getTenantIds(true).size());
+    }
+
+    /**
+     * Test that connections for another user are rejected, as pools of clusters can't provide them.
+     */
+    @Test
+    public void testGetConnectionForAnotherUserShouldThrowSqlFeatureNotSupportedException() {
+        assertThrows(SQLFeatureNotSupportedException.class,
+                () -> tenantRoutingDataSource.getConnection("reader", "secret"));
+    }
 }
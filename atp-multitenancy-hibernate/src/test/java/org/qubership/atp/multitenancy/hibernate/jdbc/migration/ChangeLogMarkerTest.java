@@ -0,0 +1,166 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import liquibase.exception.LiquibaseException;
+
+public class ChangeLogMarkerTest {
+
+    /**
+     * Changelog of tests.
+     */
+    private static final String CHANGE_LOG = "classpath:db/changelog/changelog.xml";
+
+    /**
+     * Changelog parameters.
+     */
+    private static final Map<String, String> PARAMETERS = Map.of("table.name", "projects");
+
+    /**
+     * ResourceLoader of test resources.
+     */
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+    /**
+     * Embedded database.
+     */
+    private EmbeddedDatabase database;
+
+    /**
+     * Start embedded database.
+     */
+    @BeforeEach
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+    }
+
+    /**
+     * Stop embedded database.
+     */
+    @AfterEach
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    /**
+     * Test that digest of the same changelog, contexts, labels and parameters is the same.
+     *
+     * @throws LiquibaseException in case the changelog can't be parsed.
+     */
+    @Test
+    public void testComputeDigestShouldReturnSameDigestWhenChangeLogIsNotChanged() throws LiquibaseException {
+        String digest = ChangeLogMarker.computeDigest(resourceLoader, CHANGE_LOG, "test", "tenant", PARAMETERS);
+        assertTrue(digest.matches("[0-9a-f]{64}"), digest);
+        assertEquals(digest,
+                ChangeLogMarker.computeDigest(resourceLoader, CHANGE_LOG, "test", "tenant", Map.copyOf(PARAMETERS)));
+    }
+
+    /**
+     * Test that digest is changed when contexts, labels or parameters of the migration are changed.
+     *
+     * @throws LiquibaseException in case the changelog can't be parsed.
+     */
+    @Test
+    public void testComputeDigestShouldChangeDigestWhenContextsLabelsOrParametersAreChanged()
+            throws LiquibaseException {
+        String digest = ChangeLogMarker.computeDigest(resourceLoader, CHANGE_LOG, "test", "tenant", PARAMETERS);
+        assertNotEquals(digest,
+                ChangeLogMarker.computeDigest(resourceLoader, CHANGE_LOG, "prod", "tenant", PARAMETERS));
+        assertNotEquals(digest,
+                ChangeLogMarker.computeDigest(resourceLoader, CHANGE_LOG, "test", null, PARAMETERS));
+        assertNotEquals(digest, ChangeLogMarker.computeDigest(resourceLoader, CHANGE_LOG, "test", "tenant",
+                Map.of("table.name", "tenants")));
+        assertNotEquals(digest, ChangeLogMarker.computeDigest(resourceLoader, CHANGE_LOG, "test", "tenant",
+                Map.of("table.name", "projects", "unused", "value")));
+    }
+
+    /**
+     * Test that changelog with runAlways change set has no digest, so it's never skipped.
+     *
+     * @throws LiquibaseException in case the changelog can't be parsed.
+     */
+    @Test
+    public void testComputeDigestShouldReturnNullWhenChangeLogHasRunAlwaysChangeSet() throws LiquibaseException {
+        assertNull(ChangeLogMarker.computeDigest(resourceLoader, "classpath:db/changelog/changelog-run-always.xml",
+                null, null, null));
+    }
+
+    /**
+     * Test that changelog with change set which preconditions are re-evaluated on each run has no digest.
+     *
+     * @throws LiquibaseException in case the changelog can't be parsed.
+     */
+    @Test
+    public void testComputeDigestShouldReturnNullWhenChangeSetPreconditionsAreReevaluated()
+            throws LiquibaseException {
+        assertNull(ChangeLogMarker.computeDigest(resourceLoader,
+                "classpath:db/changelog/changelog-precondition.xml", null, null, null));
+    }
+
+    /**
+     * Test that stored digest is read back, and it's replaced when another digest is stored.
+     */
+    @Test
+    public void testIsAppliedShouldReturnTrueOnlyForLastMarkedDigest() {
+        assertFalse(ChangeLogMarker.isApplied(database, null, "a"));
+        ChangeLogMarker.markApplied(database, null, "a");
+        assertTrue(ChangeLogMarker.isApplied(database, null, "a"));
+        assertFalse(ChangeLogMarker.isApplied(database, null, "b"));
+        ChangeLogMarker.markApplied(database, null, "b");
+        assertFalse(ChangeLogMarker.isApplied(database, null, "a"));
+        assertTrue(ChangeLogMarker.isApplied(database, null, "b"));
+    }
+
+    /**
+     * Test that marker of a schema is independent of the marker of the default schema.
+     *
+     * @throws SQLException in case database errors.
+     */
+    @Test
+    public void testIsAppliedShouldReadMarkerOfSchemaGiven() throws SQLException {
+        try (Connection connection = database.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA tenant_a");
+        }
+        ChangeLogMarker.markApplied(database, "tenant_a", "a");
+        assertTrue(ChangeLogMarker.isApplied(database, "tenant_a", "a"));
+        assertFalse(ChangeLogMarker.isApplied(database, null, "a"));
+    }
+}
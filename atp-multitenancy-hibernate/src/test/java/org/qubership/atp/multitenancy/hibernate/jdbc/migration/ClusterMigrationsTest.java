@@ -0,0 +1,66 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.hibernate.jdbc.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.multitenancy.hibernate.jdbc.pojo.MultiTenantDataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import liquibase.integration.spring.SpringLiquibase;
+
+public class ClusterMigrationsTest {
+
+    /**
+     * Test that Liquibase runners of additional clusters get all spring.liquibase settings, as Spring Boot does.
+     */
+    @Test
+    public void testCreateSpringLiquibaseShouldCopyAllLiquibasePropertiesWhenRunnerIsCreatedForAdditionalCluster() {
+        LiquibaseProperties liquibaseProperties = new LiquibaseProperties();
+        liquibaseProperties.setEnabled(false);
+        liquibaseProperties.setChangeLog("classpath:db/changelog/changelog.xml");
+        liquibaseProperties.setContexts(List.of("dev", "test"));
+        liquibaseProperties.setLabelFilter(List.of("tenant"));
+        liquibaseProperties.setDefaultSchema("app");
+        liquibaseProperties.setLiquibaseSchema("liquibase");
+        liquibaseProperties.setDatabaseChangeLogTable("app_changelog");
+        liquibaseProperties.setDatabaseChangeLogLockTable("app_changelog_lock");
+        liquibaseProperties.setTag("v1");
+        liquibaseProperties.setClearChecksums(true);
+        liquibaseProperties.setTestRollbackOnUpdate(true);
+        ClusterMigrations migrations = new ClusterMigrations(new DefaultResourceLoader(), liquibaseProperties,
+                new MultiTenantDataSourceProperties().getMigration());
+        SpringLiquibase liquibase = migrations.createSpringLiquibase();
+        assertEquals("classpath:db/changelog/changelog.xml", liquibase.getChangeLog());
+        assertEquals("dev,test", liquibase.getContexts());
+        assertEquals("tenant", liquibase.getLabelFilter());
+        assertEquals("app", liquibase.getDefaultSchema());
+        assertEquals("liquibase", liquibase.getLiquibaseSchema());
+        assertEquals("app_changelog", liquibase.getDatabaseChangeLogTable());
+        assertEquals("app_changelog_lock", liquibase.getDatabaseChangeLogLockTable());
+        assertEquals("v1", liquibase.getTag());
+        assertTrue(liquibase.isClearCheckSums());
+        assertTrue(liquibase.isTestRollbackOnUpdate());
+        assertFalse(liquibase.isDropFirst());
+    }
+}
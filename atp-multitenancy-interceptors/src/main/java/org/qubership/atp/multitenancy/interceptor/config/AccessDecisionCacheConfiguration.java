@@ -0,0 +1,53 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.config;
+
+import org.qubership.atp.multitenancy.interceptor.http.AccessDecisionCache;
+import org.qubership.atp.multitenancy.interceptor.http.LocalAccessDecisionCache;
+import org.qubership.atp.multitenancy.interceptor.pojo.AccessDecisionCacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(value = {"atp.multi-tenancy.enabled", "atp.multi-tenancy.access-cache.enabled"})
+public class AccessDecisionCacheConfiguration {
+
+    /**
+     * Create accessDecisionCacheProperties bean.
+     *
+     * @return new AccessDecisionCacheProperties object.
+     */
+    @Bean
+    public AccessDecisionCacheProperties accessDecisionCacheProperties() {
+        return new AccessDecisionCacheProperties();
+    }
+
+    /**
+     * Create accessDecisionCache bean unless another implementation is provided by the service.
+     *
+     * @param properties AccessDecisionCacheProperties object
+     * @return new LocalAccessDecisionCache object.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public AccessDecisionCache accessDecisionCache(final AccessDecisionCacheProperties properties) {
+        return new LocalAccessDecisionCache(properties.getMaximumSize(), properties.getTtl(),
+                properties.getNegativeTtl());
+    }
+}
@@ -17,8 +17,12 @@
 package org.qubership.atp.multitenancy.interceptor.config;
 
 import org.qubership.atp.auth.springbootstarter.security.permissions.PolicyEnforcement;
+import org.qubership.atp.multitenancy.interceptor.http.AccessDecisionCache;
 import org.qubership.atp.multitenancy.interceptor.http.MultiTenantHttpRequestInterceptor;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -26,6 +30,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @ConditionalOnProperty(value = {"atp.multi-tenancy.enabled"})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class MultiTenantHttpRequestInterceptorConfiguration implements WebMvcConfigurer {
 
     /**
@@ -33,14 +38,31 @@ public class MultiTenantHttpRequestInterceptorConfiguration implements WebMvcCon
      */
     private final PolicyEnforcement entityAccess;
 
+    /**
+     * Provider of AccessDecisionCache; it's empty unless access decisions caching is enabled.
+     */
+    private final ObjectProvider<AccessDecisionCache> accessDecisionCache;
+
+    /**
+     * Provider of TenantMetrics; it's empty unless metrics are enabled.
+     */
+    private final ObjectProvider<TenantMetrics> metrics;
+
     /**
      * Constructor.
      *
-     * @param entityAccess Policy Enforcement object.
+     * @param entityAccess Policy Enforcement object
+     * @param accessDecisionCache Provider of AccessDecisionCache object
+     * @param metrics Provider of TenantMetrics object.
      */
     @SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection"})
-    public MultiTenantHttpRequestInterceptorConfiguration(@Lazy final PolicyEnforcement entityAccess) {
+    public MultiTenantHttpRequestInterceptorConfiguration(@Lazy final PolicyEnforcement entityAccess,
+                                                          final ObjectProvider<AccessDecisionCache>
+                                                                  accessDecisionCache,
+                                                          final ObjectProvider<TenantMetrics> metrics) {
         this.entityAccess = entityAccess;
+        this.accessDecisionCache = accessDecisionCache;
+        this.metrics = metrics;
     }
 
     /**
@@ -50,6 +72,7 @@ public class MultiTenantHttpRequestInterceptorConfiguration implements WebMvcCon
      */
     @Override
     public void addInterceptors(final InterceptorRegistry registry) {
-        registry.addInterceptor(new MultiTenantHttpRequestInterceptor(entityAccess));
+        registry.addInterceptor(new MultiTenantHttpRequestInterceptor(entityAccess,
+                accessDecisionCache.getIfAvailable(), metrics.getIfAvailable(() -> TenantMetrics.NOOP)));
     }
 }
@@ -17,6 +17,9 @@
 package org.qubership.atp.multitenancy.interceptor.config;
 
 import org.qubership.atp.multitenancy.interceptor.jms.MultiTenantJmsRequestInterceptor;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantMetrics;
+import org.qubership.atp.multitenancy.interceptor.pojo.TenantJmsProperties;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jms.annotation.EnableJms;
@@ -26,13 +29,31 @@ import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
 @EnableJms
 public class MultiTenantJmsListenerContainerFactoryInstanceConfiguration {
 
+    /**
+     * Create tenantJmsProperties bean.
+     *
+     * @return new TenantJmsProperties object.
+     */
+    @Bean
+    public TenantJmsProperties tenantJmsProperties() {
+        return new TenantJmsProperties();
+    }
+
     /**
      * Create multiTenantQueueJmsListenerContainerFactory bean.
      *
-     * @return DefaultJmsListenerContainerFactory initialized from the just created MultiTenantJmsRequestInterceptor.
+     * @param metrics Provider of TenantMetrics object; it's empty unless metrics are enabled
+     * @param properties TenantJmsProperties object
+     * @return DefaultJmsListenerContainerFactory initialized from the just created MultiTenantJmsRequestInterceptor;
+     *     tenant-sharded if tenant lanes are configured.
      */
     @Bean
-    public DefaultJmsListenerContainerFactory multiTenantQueueJmsListenerContainerFactory() {
-        return new MultiTenantJmsRequestInterceptor().initDefaultJmsListenerContainerFactory();
+    public DefaultJmsListenerContainerFactory multiTenantQueueJmsListenerContainerFactory(
+            final ObjectProvider<TenantMetrics> metrics, final TenantJmsProperties properties) {
+        MultiTenantJmsRequestInterceptor interceptor =
+                new MultiTenantJmsRequestInterceptor(metrics.getIfAvailable(() -> TenantMetrics.NOOP));
+        return properties.getTenantLanes() > 0
+                ? interceptor.initTenantShardedJmsListenerContainerFactory(properties.getTenantLanes())
+                : interceptor.initDefaultJmsListenerContainerFactory();
     }
 }
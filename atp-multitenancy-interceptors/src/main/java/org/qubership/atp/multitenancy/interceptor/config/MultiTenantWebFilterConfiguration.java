@@ -0,0 +1,52 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.config;
+
+import org.qubership.atp.auth.springbootstarter.security.permissions.PolicyEnforcement;
+import org.qubership.atp.multitenancy.interceptor.http.AccessDecisionCache;
+import org.qubership.atp.multitenancy.interceptor.http.TenantAccessChecker;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantMetrics;
+import org.qubership.atp.multitenancy.interceptor.reactive.MultiTenantWebFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+@Configuration
+@ConditionalOnProperty(value = {"atp.multi-tenancy.enabled"})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class MultiTenantWebFilterConfiguration {
+
+    /**
+     * Create multiTenantWebFilter bean.
+     *
+     * @param entityAccess Policy Enforcement object
+     * @param accessDecisionCache Provider of AccessDecisionCache object
+     * @param metrics Provider of TenantMetrics object
+     * @return new MultiTenantWebFilter object.
+     */
+    @Bean
+    @SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection"})
+    public MultiTenantWebFilter multiTenantWebFilter(@Lazy final PolicyEnforcement entityAccess,
+                                                     final ObjectProvider<AccessDecisionCache> accessDecisionCache,
+                                                     final ObjectProvider<TenantMetrics> metrics) {
+        return new MultiTenantWebFilter(new TenantAccessChecker(entityAccess, accessDecisionCache.getIfAvailable(),
+                metrics.getIfAvailable(() -> TenantMetrics.NOOP)));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.config;
+
+import org.qubership.atp.multitenancy.interceptor.metrics.MicrometerTenantMetrics;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantMetrics;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantTags;
+import org.qubership.atp.multitenancy.interceptor.pojo.TenantMetricsProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+@Configuration
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(value = {"atp.multi-tenancy.enabled", "atp.multi-tenancy.metrics.enabled"})
+public class TenantMetricsConfiguration {
+
+    /**
+     * Create tenantMetricsProperties bean.
+     *
+     * @return new TenantMetricsProperties object.
+     */
+    @Bean
+    public TenantMetricsProperties tenantMetricsProperties() {
+        return new TenantMetricsProperties();
+    }
+
+    /**
+     * Create tenantTags bean.
+     *
+     * @param properties TenantMetricsProperties object
+     * @return new TenantTags object.
+     */
+    @Bean
+    public TenantTags tenantTags(final TenantMetricsProperties properties) {
+        return new TenantTags(properties.getMaxTenantTags(), properties.getTenantTags());
+    }
+
+    /**
+     * Create tenantMetrics bean; meters are registered in the global registry if there is no MeterRegistry bean.
+     *
+     * @param meterRegistry Provider of MeterRegistry object
+     * @param tenantTags TenantTags object
+     * @return new MicrometerTenantMetrics object.
+     */
+    @Bean
+    public TenantMetrics tenantMetrics(final ObjectProvider<MeterRegistry> meterRegistry,
+                                       final TenantTags tenantTags) {
+        return new MicrometerTenantMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), tenantTags);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.http;
+
+/**
+ * Cache of access decisions made by PolicyEnforcement.
+ */
+public interface AccessDecisionCache {
+
+    /**
+     * Get cached decision.
+     *
+     * @param key AccessDecisionKey
+     * @return true/false if decision is cached and not expired; null otherwise.
+     */
+    Boolean get(AccessDecisionKey key);
+
+    /**
+     * Cache decision.
+     *
+     * @param key AccessDecisionKey
+     * @param permitted decision made.
+     */
+    void put(AccessDecisionKey key, boolean permitted);
+
+    /**
+     * Invalidate decision.
+     *
+     * @param key AccessDecisionKey.
+     */
+    void invalidate(AccessDecisionKey key);
+
+    /**
+     * Invalidate all decisions of the tenant, e.g. when project permissions are changed.
+     *
+     * @param tenantId String tenantId.
+     */
+    void invalidateTenant(String tenantId);
+
+    /**
+     * Invalidate all decisions of the user, e.g. when user roles are changed.
+     *
+     * @param principal name of the user.
+     */
+    void invalidatePrincipal(String principal);
+
+    /**
+     * Invalidate all decisions.
+     */
+    void invalidateAll();
+
+    /**
+     * Get number of cache hits.
+     *
+     * @return number of hits.
+     */
+    long getHitCount();
+
+    /**
+     * Get number of cache misses.
+     *
+     * @return number of misses.
+     */
+    long getMissCount();
+}
@@ -0,0 +1,235 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.http;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * In-memory AccessDecisionCache of bounded size.
+ * <p>Permitted decisions expire after ttl, denied ones after negativeTtl (usually shorter,
+ * so that just granted access takes effect quickly). When the cache is full, expired entries are removed first,
+ * then arbitrary ones, down to 90% of maximum size.</p>
+ */
+public class LocalAccessDecisionCache implements AccessDecisionCache {
+
+    /**
+     * Cached decisions.
+     */
+    private final Map<AccessDecisionKey, Decision> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of cached decisions.
+     */
+    private final int maximumSize;
+
+    /**
+     * Time to live of permitted decisions, in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * Time to live of denied decisions, in nanoseconds.
+     */
+    private final long negativeTtlNanos;
+
+    /**
+     * Number of cache hits.
+     */
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * Number of cache misses.
+     */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Number of decisions evicted due to size limit.
+     */
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize maximum number of cached decisions
+     * @param ttl time to live of permitted decisions
+     * @param negativeTtl time to live of denied decisions.
+     */
+    public LocalAccessDecisionCache(final int maximumSize, final Duration ttl, final Duration negativeTtl) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    /**
+     * Get cached decision.
+     *
+     * @param key AccessDecisionKey
+     * @return true/false if decision is cached and not expired; null otherwise.
+     */
+    @Override
+    public Boolean get(final AccessDecisionKey key) {
+        Decision decision = decisions.get(key);
+        if (decision == null) {
+            missCount.increment();
+            return null;
+        }
+        if (decision.isExpired(System.nanoTime())) {
+            decisions.remove(key, decision);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return decision.permitted();
+    }
+
+    /**
+     * Cache decision.
+     *
+     * @param key AccessDecisionKey
+     * @param permitted decision made.
+     */
+    @Override
+    public void put(final AccessDecisionKey key, final boolean permitted) {
+        long ttl = permitted ? ttlNanos : negativeTtlNanos;
+        if (ttl <= 0) {
+            return;
+        }
+        decisions.put(key, new Decision(permitted, System.nanoTime() + ttl));
+        if (decisions.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Invalidate decision.
+     *
+     * @param key AccessDecisionKey.
+     */
+    @Override
+    public void invalidate(final AccessDecisionKey key) {
+        decisions.remove(key);
+    }
+
+    /**
+     * Invalidate all decisions of the tenant.
+     *
+     * @param tenantId String tenantId.
+     */
+    @Override
+    public void invalidateTenant(final String tenantId) {
+        invalidateIf(key -> key.tenantId().equals(tenantId));
+    }
+
+    /**
+     * Invalidate all decisions of the user.
+     *
+     * @param principal name of the user.
+     */
+    @Override
+    public void invalidatePrincipal(final String principal) {
+        invalidateIf(key -> key.principal().equals(principal));
+    }
+
+    /**
+     * Invalidate all decisions.
+     */
+    @Override
+    public void invalidateAll() {
+        decisions.clear();
+    }
+
+    /**
+     * Get number of cache hits.
+     *
+     * @return number of hits.
+     */
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Get number of cache misses.
+     *
+     * @return number of misses.
+     */
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Get number of decisions evicted due to size limit.
+     *
+     * @return number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Get number of cached decisions, including expired ones not removed yet.
+     *
+     * @return number of cached decisions.
+     */
+    public int size() {
+        return decisions.size();
+    }
+
+    private void invalidateIf(final Predicate<AccessDecisionKey> predicate) {
+        decisions.keySet().removeIf(predicate);
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        decisions.values().removeIf(decision -> decision.isExpired(now));
+        int target = maximumSize - maximumSize / 10;
+        Iterator<AccessDecisionKey> iterator = decisions.keySet().iterator();
+        while (decisions.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * Cached decision.
+     *
+     * @param permitted decision made
+     * @param expiresAtNanos System.nanoTime() when the decision expires.
+     */
+    private record Decision(boolean permitted, long expiresAtNanos) {
+
+        /**
+         * Check if the decision is expired.
+         *
+         * @param now current System.nanoTime()
+         * @return true if expired.
+         */
+        boolean isExpired(final long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
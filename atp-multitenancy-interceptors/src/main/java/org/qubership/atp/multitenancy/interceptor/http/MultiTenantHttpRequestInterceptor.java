@@ -17,11 +17,13 @@
 package org.qubership.atp.multitenancy.interceptor.http;
 
 import java.io.IOException;
+import java.security.Principal;
 
 import org.qubership.atp.auth.springbootstarter.entities.Operation;
 import org.qubership.atp.auth.springbootstarter.security.permissions.PolicyEnforcement;
 import org.qubership.atp.multitenancy.core.context.TenantContext;
 import org.qubership.atp.multitenancy.core.header.CustomHeader;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantMetrics;
 import org.springframework.lang.Nullable;
 import org.springframework.security.web.util.TextEscapeUtils;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -33,9 +35,9 @@ import jakarta.servlet.http.HttpServletResponse;
 public class MultiTenantHttpRequestInterceptor implements HandlerInterceptor {
 
     /**
-     * Policy Enforcement object.
+     * Checker of access to tenants.
      */
-    private final PolicyEnforcement policyEnforcement;
+    private final TenantAccessChecker accessChecker;
 
     /**
      * Constructor.
@@ -43,7 +45,31 @@ public class MultiTenantHttpRequestInterceptor implements HandlerInterceptor {
      * @param policyEnforcement Policy Enforcement object.
      */
     public MultiTenantHttpRequestInterceptor(final PolicyEnforcement policyEnforcement) {
-        this.policyEnforcement = policyEnforcement;
+        this(policyEnforcement, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policyEnforcement Policy Enforcement object
+     * @param accessDecisionCache AccessDecisionCache object, or null to check access on each request.
+     */
+    public MultiTenantHttpRequestInterceptor(final PolicyEnforcement policyEnforcement,
+                                             @Nullable final AccessDecisionCache accessDecisionCache) {
+        this(policyEnforcement, accessDecisionCache, TenantMetrics.NOOP);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policyEnforcement Policy Enforcement object
+     * @param accessDecisionCache AccessDecisionCache object, or null to check access on each request
+     * @param metrics TenantMetrics recorder of access checks.
+     */
+    public MultiTenantHttpRequestInterceptor(final PolicyEnforcement policyEnforcement,
+                                             @Nullable final AccessDecisionCache accessDecisionCache,
+                                             final TenantMetrics metrics) {
+        this.accessChecker = new TenantAccessChecker(policyEnforcement, accessDecisionCache, metrics);
     }
 
     /**
@@ -64,7 +90,9 @@ public class MultiTenantHttpRequestInterceptor implements HandlerInterceptor {
             TenantContext.setDefaultTenantInfo();
             return true;
         }
-        boolean permitted = policyEnforcement.checkAccess(tenantId, Operation.READ.toString());
+        Principal principal = request.getUserPrincipal();
+        boolean permitted = accessChecker.checkAccess(principal == null ? null : principal.getName(), tenantId,
+                Operation.READ.toString());
         if (!permitted) {
             response.getWriter().write("Access denied to %s".formatted(TextEscapeUtils.escapeEntities(tenantId)));
             response.setStatus(403);
@@ -89,4 +117,13 @@ public class MultiTenantHttpRequestInterceptor implements HandlerInterceptor {
                            @Nullable final ModelAndView modelAndView) {
         TenantContext.clear();
     }
+
+    /**
+     * Get access checks in progress.
+     *
+     * @return SingleFlightAccessChecks object.
+     */
+    public SingleFlightAccessChecks getAccessChecks() {
+        return accessChecker.getAccessChecks();
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.http;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Coalesces concurrent identical access checks: while a check is in progress,
+ * other threads checking the same key wait for its result instead of making their own check.
+ */
+public class SingleFlightAccessChecks {
+
+    /**
+     * Checks in progress.
+     */
+    private final Map<AccessDecisionKey, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Number of checks which got result of another check in progress.
+     */
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Check access, or wait for result of the same check in progress.
+     *
+     * @param key AccessDecisionKey of the check
+     * @param check BooleanSupplier making the check
+     * @return true if access is permitted.
+     */
+    public boolean checkAccess(final AccessDecisionKey key, final BooleanSupplier check) {
+        CompletableFuture<Boolean> own = new CompletableFuture<>();
+        CompletableFuture<Boolean> pending = inFlight.putIfAbsent(key, own);
+        if (pending != null) {
+            coalescedCount.increment();
+            return await(pending);
+        }
+        try {
+            boolean permitted = check.getAsBoolean();
+            own.complete(permitted);
+            return permitted;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Get number of checks which got result of another check in progress.
+     *
+     * @return number of coalesced checks.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    private static boolean await(final CompletableFuture<Boolean> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
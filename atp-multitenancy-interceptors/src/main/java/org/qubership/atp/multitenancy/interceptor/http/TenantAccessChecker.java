@@ -0,0 +1,149 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.http;
+
+import org.qubership.atp.auth.springbootstarter.security.permissions.PolicyEnforcement;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantMetrics;
+import org.springframework.lang.Nullable;
+
+/**
+ * Checks access of users to tenants via PolicyEnforcement.
+ * <p>Decisions are taken from AccessDecisionCache if it's set, and concurrent identical checks are made once.
+ * Checks without authenticated user are always made by PolicyEnforcement.
+ * Each check is recorded once, whether it's taken from the cache or made by PolicyEnforcement.</p>
+ */
+public class TenantAccessChecker {
+
+    /**
+     * Policy Enforcement object.
+     */
+    private final PolicyEnforcement policyEnforcement;
+
+    /**
+     * Cache of access decisions; null if decisions aren't cached.
+     */
+    private final AccessDecisionCache accessDecisionCache;
+
+    /**
+     * Access checks in progress, shared by concurrent checks of the same user to the same tenant.
+     */
+    private final SingleFlightAccessChecks accessChecks = new SingleFlightAccessChecks();
+
+    /**
+     * Recorder of access checks.
+     */
+    private final TenantMetrics metrics;
+
+    /**
+     * Constructor.
+     *
+     * @param policyEnforcement Policy Enforcement object
+     * @param accessDecisionCache AccessDecisionCache object, or null to check access each time.
+     */
+    public TenantAccessChecker(final PolicyEnforcement policyEnforcement,
+                               @Nullable final AccessDecisionCache accessDecisionCache) {
+        this(policyEnforcement, accessDecisionCache, TenantMetrics.NOOP);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policyEnforcement Policy Enforcement object
+     * @param accessDecisionCache AccessDecisionCache object, or null to check access each time
+     * @param metrics TenantMetrics recorder of access checks.
+     */
+    public TenantAccessChecker(final PolicyEnforcement policyEnforcement,
+                               @Nullable final AccessDecisionCache accessDecisionCache,
+                               final TenantMetrics metrics) {
+        this.policyEnforcement = policyEnforcement;
+        this.accessDecisionCache = accessDecisionCache;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Check access of the user to the tenant.
+     *
+     * @param principal name of the user, or null if the user isn't authenticated
+     * @param tenantId String tenantId
+     * @param operation String operation to check
+     * @return true if access is permitted.
+     */
+    public boolean checkAccess(@Nullable final String principal, final String tenantId, final String operation) {
+        Boolean cached = getCachedDecision(principal, tenantId, operation);
+        return cached != null ? cached : loadDecision(principal, tenantId, operation);
+    }
+
+    /**
+     * Get cached decision; it never calls PolicyEnforcement, so it's safe to be called from event loop threads.
+     *
+     * @param principal name of the user, or null if the user isn't authenticated
+     * @param tenantId String tenantId
+     * @param operation String operation to check
+     * @return true/false if decision is cached; null otherwise.
+     */
+    public Boolean getCachedDecision(@Nullable final String principal, final String tenantId,
+                                     final String operation) {
+        if (principal == null || accessDecisionCache == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Boolean cached = accessDecisionCache.get(new AccessDecisionKey(principal, tenantId, operation));
+        if (cached != null) {
+            metrics.recordAccessCheck(tenantId, cached, System.nanoTime() - start);
+        }
+        return cached;
+    }
+
+    /**
+     * Check access by PolicyEnforcement, bypassing the cache; the decision made is cached.
+     *
+     * @param principal name of the user, or null if the user isn't authenticated
+     * @param tenantId String tenantId
+     * @param operation String operation to check
+     * @return true if access is permitted.
+     */
+    public boolean loadDecision(@Nullable final String principal, final String tenantId, final String operation) {
+        long start = System.nanoTime();
+        boolean permitted = checkAccessByPolicy(principal, tenantId, operation);
+        metrics.recordAccessCheck(tenantId, permitted, System.nanoTime() - start);
+        return permitted;
+    }
+
+    private boolean checkAccessByPolicy(@Nullable final String principal, final String tenantId,
+                                        final String operation) {
+        if (principal == null) {
+            return policyEnforcement.checkAccess(tenantId, operation);
+        }
+        AccessDecisionKey key = new AccessDecisionKey(principal, tenantId, operation);
+        return accessChecks.checkAccess(key, () -> {
+            boolean permitted = policyEnforcement.checkAccess(tenantId, operation);
+            if (accessDecisionCache != null) {
+                accessDecisionCache.put(key, permitted);
+            }
+            return permitted;
+        });
+    }
+
+    /**
+     * Get access checks in progress.
+     *
+     * @return SingleFlightAccessChecks object.
+     */
+    public SingleFlightAccessChecks getAccessChecks() {
+        return accessChecks;
+    }
+}
@@ -16,7 +16,9 @@
 
 package org.qubership.atp.multitenancy.interceptor.jms;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.jms.JmsException;
 import org.springframework.jms.core.JmsOperations;
@@ -39,6 +41,49 @@ public interface AtpJmsTemplate extends JmsOperations {
                         Object message,
                         Map<String, Object> properties) throws JmsException;
 
+    /**
+     * Convert and send messages on one session and producer.
+     * <p>Messages are committed together if the template is session transacted.</p>
+     *
+     * @param destination String Jms Destination
+     * @param messages Collection of messages to be sent
+     * @param properties Map of properties set to each message
+     * @throws JmsException in case JMS errors occurred.
+     */
+    void convertAndSendBatch(String destination,
+                             Collection<?> messages,
+                             Map<String, Object> properties) throws JmsException;
+
+    /**
+     * Convert and send messages on one session and producer.
+     *
+     * @param destination String Jms Destination
+     * @param messages Collection of messages to be sent
+     * @param properties Map of properties set to each message
+     * @param transacted true to send all messages in one local transaction: all of them or none are sent;
+     *     false to commit each message on its own, also if the template is session transacted
+     * @throws JmsException in case JMS errors occurred.
+     */
+    void convertAndSendBatch(String destination,
+                             Collection<?> messages,
+                             Map<String, Object> properties,
+                             boolean transacted) throws JmsException;
+
+    /**
+     * Convert and send message asynchronously, without waiting for the broker acknowledgement.
+     * <p>It requires a connection factory caching sessions and producers, e.g. CachingConnectionFactory
+     * (the default of Spring Boot): otherwise the producer is closed after the send, and closing it waits
+     * for the acknowledgement, so the call is as slow as a synchronous send.</p>
+     *
+     * @param destination String Jms Destination
+     * @param message Object message to be sent
+     * @param properties Map of properties
+     * @return CompletableFuture completed when the message is acknowledged by the broker.
+     */
+    CompletableFuture<Void> convertAndSendAsync(String destination,
+                                                Object message,
+                                                Map<String, Object> properties);
+
     /**
      * Setter for messageConverter.
      *
@@ -20,6 +20,7 @@ import java.util.Objects;
 
 import org.qubership.atp.multitenancy.core.context.TenantContext;
 import org.qubership.atp.multitenancy.core.header.CustomHeader;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantMetrics;
 import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
 import org.springframework.jms.listener.DefaultMessageListenerContainer;
 import org.springframework.lang.NonNull;
@@ -30,6 +31,27 @@ import jakarta.jms.MessageConsumer;
 
 public class MultiTenantJmsRequestInterceptor {
 
+    /**
+     * Recorder of received messages.
+     */
+    private final TenantMetrics metrics;
+
+    /**
+     * Constructor.
+     */
+    public MultiTenantJmsRequestInterceptor() {
+        this(TenantMetrics.NOOP);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param metrics TenantMetrics recorder of received messages.
+     */
+    public MultiTenantJmsRequestInterceptor(final TenantMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Return DefaultJmsListenerContainerFactory instance with request interceptor, that receive jms message, set
      * x-project-id StringProperty value from jakarta.jms.Message to TenantContext (will use to getTenantInfo to get
@@ -54,6 +76,7 @@ public class MultiTenantJmsRequestInterceptor {
                             } else {
                                 TenantContext.setDefaultTenantInfo();
                             }
+                            metrics.recordJmsReceive(tenantId);
                         }
                         return message;
                     }
@@ -61,4 +84,25 @@ public class MultiTenantJmsRequestInterceptor {
             }
         };
     }
+
+    /**
+     * Return DefaultJmsListenerContainerFactory instance with request interceptor, consuming messages in lanes:
+     * the given number of concurrent consumers, each keeping its JMS consumer for its whole life.
+     * <p>Messages sent with JMSXGroupID of their tenant (see {@link MultiTenantJmsTemplate#setTenantGrouping(boolean)})
+     * are delivered by the broker to one consumer per tenant, so messages of a tenant are processed in order,
+     * while different tenants are processed in parallel. It applies to queues: each consumer of a non-shared
+     * topic subscription receives all messages.</p>
+     *
+     * @param lanes number of concurrent consumers
+     * @return {@link DefaultJmsListenerContainerFactory} with multi-tenant jms message interceptor.
+     */
+    public DefaultJmsListenerContainerFactory initTenantShardedJmsListenerContainerFactory(final int lanes) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("Number of lanes must be positive: " + lanes);
+        }
+        DefaultJmsListenerContainerFactory factory = initDefaultJmsListenerContainerFactory();
+        factory.setConcurrency(lanes + "-" + lanes);
+        factory.setCacheLevel(DefaultMessageListenerContainer.CACHE_CONSUMER);
+        return factory;
+    }
 }
@@ -16,24 +16,156 @@
 
 package org.qubership.atp.multitenancy.interceptor.jms;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.qubership.atp.multitenancy.core.context.TenantContext;
 import org.qubership.atp.multitenancy.core.header.CustomHeader;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantMetrics;
 import org.springframework.jms.JmsException;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.connection.ConnectionFactoryUtils;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.SessionCallback;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
 
 /**
  * This class overrides convertAndSend method that can hook jms message before sending and set properties to
  * jakarta.jms.Message that provided from input parameters.
- * <p>At this moment we set property to jakarta.jms.Message - x-project-id as StringProperty, if input properties isn't
- * contains x-project-id, will set "default" tenantId to Message</p>
+ * <p>Properties given are set to jakarta.jms.Message as StringProperties. Messages sent by any send/convertAndSend
+ * method without x-project-id property are stamped with the tenant of {@link TenantContext}
+ * (the default tenant if none is set), unless it's switched off by {@link #setTenantStamping(boolean)}.</p>
  */
 public class MultiTenantJmsTemplate extends JmsTemplate implements AtpJmsTemplate {
 
+    /**
+     * Default maximum number of asynchronous sends awaiting completion.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_SENDS = 1000;
+
+    /**
+     * JMS property of the message group.
+     */
+    public static final String JMSX_GROUP_ID = "JMSXGroupID";
+
+    /**
+     * Recorder of sent messages.
+     */
+    private TenantMetrics metrics = TenantMetrics.NOOP;
+
+    /**
+     * Permits of asynchronous sends awaiting completion.
+     */
+    private final InFlightSends inFlightSends = new InFlightSends(DEFAULT_MAX_IN_FLIGHT_SENDS);
+
+    /**
+     * Whether messages without x-project-id property are stamped with the tenant of TenantContext.
+     */
+    private boolean tenantStamping = true;
+
+    /**
+     * Whether messages are sent in the message group (JMSXGroupID) of their tenant.
+     */
+    private boolean tenantGrouping = false;
+
+    /**
+     * Whether the warning about producers which aren't cached is logged; it's not initialized explicitly,
+     * as JmsTemplate(ConnectionFactory) constructor calls afterPropertiesSet before fields of this class are set.
+     */
+    private volatile boolean uncachedProducersReported;
+
+    /**
+     * Whether the warning about the JMS provider not supporting CompletionListener is logged.
+     */
+    private volatile boolean synchronousSendsReported;
+
+    /**
+     * Set recorder of sent messages.
+     *
+     * @param metrics TenantMetrics object.
+     */
+    public void setMetrics(final TenantMetrics metrics) {
+        this.metrics = metrics == null ? TenantMetrics.NOOP : metrics;
+    }
+
+    /**
+     * Set whether messages without x-project-id property are stamped with the tenant of TenantContext.
+     *
+     * @param tenantStamping true to stamp messages (default), false to send them as they are.
+     */
+    public void setTenantStamping(final boolean tenantStamping) {
+        this.tenantStamping = tenantStamping;
+    }
+
+    /**
+     * Set whether messages are sent in the message group (JMSXGroupID) of their tenant, if they have no group.
+     * The broker delivers messages of a group to one consumer, in order; see
+     * {@link MultiTenantJmsRequestInterceptor#initTenantShardedJmsListenerContainerFactory(int)}.
+     *
+     * @param tenantGrouping true to set JMSXGroupID to the tenant, false to send messages as they are (default).
+     */
+    public void setTenantGrouping(final boolean tenantGrouping) {
+        this.tenantGrouping = tenantGrouping;
+    }
+
+    /**
+     * Set maximum number of asynchronous sends awaiting completion; when it's reached,
+     * {@link #convertAndSendAsync(String, Object, Map)} blocks until one of them is completed.
+     * The limit is changed in place, so sends in flight keep counting against it; if it's reduced below
+     * the number of sends in flight, new sends wait until enough of them are completed.
+     * A warning is logged if the connection factory doesn't cache producers, see {@link #afterPropertiesSet()}.
+     *
+     * @param maxInFlightSends maximum number of sends, default {@value #DEFAULT_MAX_IN_FLIGHT_SENDS}.
+     */
+    public void setMaxInFlightSends(final int maxInFlightSends) {
+        if (maxInFlightSends <= 0) {
+            throw new IllegalArgumentException("Maximum number of in-flight sends must be positive: "
+                    + maxInFlightSends);
+        }
+        inFlightSends.resize(maxInFlightSends);
+        reportUncachedProducers();
+    }
+
+    /**
+     * Check the template; a warning is logged if the connection factory isn't CachingConnectionFactory
+     * caching producers, as then {@link #convertAndSendAsync(String, Object, Map)} closes the producer
+     * after each send, which waits for the broker acknowledgement.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        reportUncachedProducers();
+    }
+
+    private void reportUncachedProducers() {
+        ConnectionFactory connectionFactory = getConnectionFactory();
+        if (connectionFactory == null
+                || connectionFactory instanceof CachingConnectionFactory caching && caching.isCacheProducers()) {
+            return;
+        }
+        if (!uncachedProducersReported) {
+            uncachedProducersReported = true;
+            logger.warn("Connection factory " + connectionFactory.getClass().getName() + " isn't "
+                    + "CachingConnectionFactory caching producers: convertAndSendAsync will wait for the broker "
+                    + "acknowledgement when the producer is closed, unless the factory pools producers itself");
+        }
+    }
+
     /**
      * Convert and send message.
      *
@@ -48,21 +180,321 @@ public class MultiTenantJmsTemplate extends JmsTemplate implements AtpJmsTemplat
             Message toMessage = Objects.requireNonNull(super.getMessageConverter(),
                             "MessageConverter wasn't configured for " + destination + "destination")
                     .toMessage(message, session);
-            for (Map.Entry<String, Object> property : properties.entrySet()) {
-                setProperties(properties, toMessage, property);
-            }
+            setProperties(toMessage, properties);
             return toMessage;
         });
+        metrics.recordJmsSend(tenantIdOf(properties));
     }
 
-    private void setProperties(final Map<String, Object> properties,
-                               final Message toMessage,
-                               final Map.Entry<String, Object> property) throws JMSException {
-        if (!CustomHeader.X_PROJECT_ID.equals(property.getKey())) {
-            toMessage.setStringProperty(property.getKey(), String.valueOf(property.getValue()));
+    /**
+     * Convert and send messages on one session and producer.
+     * <p>Messages are committed together if the template is session transacted.</p>
+     *
+     * @param destination String destination name
+     * @param messages Collection of messages to be sent
+     * @param properties Map of properties set to each message.
+     */
+    @Override
+    public void convertAndSendBatch(final String destination,
+                                    final Collection<?> messages,
+                                    final Map<String, Object> properties) throws JmsException {
+        convertAndSendBatch(destination, messages, properties, isSessionTransacted());
+    }
+
+    /**
+     * Convert and send messages on one session and producer.
+     * <p>If transacted is true and the template isn't session transacted, messages are sent on a transacted session
+     * of their own, unless a transaction of JmsTransactionManager is active: then they are sent within it.
+     * If transacted is false and the template is session transacted, each message is committed once it's sent;
+     * within a transaction of JmsTransactionManager messages are committed with it in any case.</p>
+     *
+     * @param destination String destination name
+     * @param messages Collection of messages to be sent
+     * @param properties Map of properties set to each message
+     * @param transacted true to send all messages in one local transaction: all of them or none are sent;
+     *     false to commit each message on its own.
+     */
+    @Override
+    public void convertAndSendBatch(final String destination,
+                                    final Collection<?> messages,
+                                    final Map<String, Object> properties,
+                                    final boolean transacted) throws JmsException {
+        if (messages.isEmpty()) {
             return;
         }
-        toMessage.setStringProperty(CustomHeader.X_PROJECT_ID,
-                String.valueOf(properties.getOrDefault(property.getKey(), "default")));
+        MessageConverter messageConverter = Objects.requireNonNull(super.getMessageConverter(),
+                "MessageConverter wasn't configured for " + destination + " destination");
+        Map<String, String> stringProperties = new LinkedHashMap<>();
+        properties.forEach((name, value) -> stringProperties.put(name, String.valueOf(value)));
+        if (transacted && !isSessionTransacted()
+                && !TransactionSynchronizationManager.hasResource(obtainConnectionFactory())) {
+            executeTransacted(session -> {
+                sendAll(session, destination, messages, messageConverter, stringProperties, false);
+                return null;
+            });
+        } else {
+            execute(session -> {
+                boolean locallyTransacted = session.getTransacted() && isSessionLocallyTransacted(session);
+                try {
+                    sendAll(session, destination, messages, messageConverter, stringProperties,
+                            locallyTransacted && !transacted);
+                } catch (JMSException | RuntimeException e) {
+                    if (locallyTransacted) {
+                        JmsUtils.rollbackIfNecessary(session);
+                    }
+                    throw e;
+                }
+                if (locallyTransacted && transacted) {
+                    JmsUtils.commitIfNecessary(session);
+                }
+                return null;
+            }, false);
+        }
+        metrics.recordJmsSend(tenantIdOf(properties), messages.size());
+    }
+
+    private void sendAll(final Session session,
+                         final String destination,
+                         final Collection<?> messages,
+                         final MessageConverter messageConverter,
+                         final Map<String, String> stringProperties,
+                         final boolean commitEach) throws JMSException {
+        MessageProducer producer = createProducer(session, resolveDestinationName(session, destination));
+        try {
+            for (Object message : messages) {
+                Message toMessage = messageConverter.toMessage(message, session);
+                for (Map.Entry<String, String> property : stringProperties.entrySet()) {
+                    toMessage.setStringProperty(property.getKey(), property.getValue());
+                }
+                doSend(producer, toMessage);
+                if (commitEach) {
+                    JmsUtils.commitIfNecessary(session);
+                }
+            }
+        } finally {
+            JmsUtils.closeMessageProducer(producer);
+        }
+    }
+
+    /**
+     * Convert and send message asynchronously, with JMS 2.0 CompletionListener.
+     * <p>The call doesn't wait for the broker acknowledgement only if sessions and producers are cached
+     * (CachingConnectionFactory with cacheProducers, the default of Spring Boot): the producer is closed
+     * after the send, and closing a producer which isn't cached blocks until its sends in flight are completed.
+     * A warning is logged on initialization of the template with another connection factory.
+     * Completion callbacks of the future run with the tenant of the caller set to TenantContext.
+     * If the JMS provider doesn't support CompletionListener, the message is sent synchronously,
+     * and a warning is logged on the first such send.</p>
+     *
+     * @param destination String destination name
+     * @param message Object message to be sent
+     * @param properties Map of message properties
+     * @return CompletableFuture completed when the broker acknowledges the message,
+     *     or completed exceptionally with JmsException if the message isn't sent.
+     */
+    @Override
+    public CompletableFuture<Void> convertAndSendAsync(final String destination,
+                                                       final Object message,
+                                                       final Map<String, Object> properties) {
+        AsyncSend asyncSend = new AsyncSend(inFlightSends, TenantContext.getTenantInfo(), tenantIdOf(properties));
+        try {
+            inFlightSends.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            execute(session -> {
+                MessageProducer producer = createProducer(session, resolveDestinationName(session, destination));
+                try {
+                    Message toMessage = Objects.requireNonNull(super.getMessageConverter(),
+                                    "MessageConverter wasn't configured for " + destination + " destination")
+                            .toMessage(message, session);
+                    setProperties(toMessage, properties);
+                    doSendAsync(producer, toMessage, asyncSend);
+                    if (session.getTransacted() && isSessionLocallyTransacted(session)) {
+                        JmsUtils.commitIfNecessary(session);
+                    }
+                } finally {
+                    JmsUtils.closeMessageProducer(producer);
+                }
+                return null;
+            }, false);
+        } catch (RuntimeException e) {
+            asyncSend.onException(null, e);
+        }
+        return asyncSend.future;
+    }
+
+    /**
+     * Stamp the message with the tenant of TenantContext and its message group, if enabled, and send it.
+     * All send and convertAndSend methods of JmsTemplate send messages via this method.
+     *
+     * @param producer MessageProducer to send with
+     * @param message Message to be sent
+     * @throws JMSException in case JMS errors occurred.
+     */
+    @Override
+    protected void doSend(final MessageProducer producer, final Message message) throws JMSException {
+        stampTenant(message);
+        super.doSend(producer, message);
+    }
+
+    private void stampTenant(final Message message) throws JMSException {
+        if (tenantStamping && !message.propertyExists(CustomHeader.X_PROJECT_ID)) {
+            message.setStringProperty(CustomHeader.X_PROJECT_ID, TenantContext.getTenantInfo());
+        }
+        if (tenantGrouping && !message.propertyExists(JMSX_GROUP_ID)) {
+            String tenantId = message.getStringProperty(CustomHeader.X_PROJECT_ID);
+            if (tenantId != null) {
+                message.setStringProperty(JMSX_GROUP_ID, tenantId);
+            }
+        }
+    }
+
+    private void doSendAsync(final MessageProducer producer,
+                             final Message message,
+                             final CompletionListener completionListener) throws JMSException {
+        stampTenant(message);
+        if (getDeliveryDelay() >= 0) {
+            producer.setDeliveryDelay(getDeliveryDelay());
+        }
+        try {
+            if (isExplicitQosEnabled()) {
+                producer.send(message, getDeliveryMode(), getPriority(), getTimeToLive(), completionListener);
+            } else {
+                producer.send(message, completionListener);
+            }
+        } catch (UnsupportedOperationException e) {
+            if (!synchronousSendsReported) {
+                synchronousSendsReported = true;
+                logger.warn("JMS provider of " + producer.getClass().getName() + " doesn't support "
+                        + "CompletionListener: convertAndSendAsync sends messages synchronously");
+            }
+            doSend(producer, message);
+            completionListener.onCompletion(message);
+        }
+    }
+
+    private void executeTransacted(final SessionCallback<Void> action) throws JmsException {
+        Connection connection = null;
+        Session session = null;
+        try {
+            connection = createConnection();
+            session = connection.createSession(true, Session.SESSION_TRANSACTED);
+            try {
+                action.doInJms(session);
+            } catch (JMSException | RuntimeException e) {
+                JmsUtils.rollbackIfNecessary(session);
+                throw e;
+            }
+            session.commit();
+        } catch (JMSException e) {
+            throw convertJmsAccessException(e);
+        } finally {
+            JmsUtils.closeSession(session);
+            ConnectionFactoryUtils.releaseConnection(connection, getConnectionFactory(), false);
+        }
+    }
+
+    /**
+     * Listener of an asynchronous send completing its future once.
+     */
+    private final class AsyncSend implements CompletionListener {
+
+        /**
+         * Future of the send.
+         */
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /**
+         * Whether the send is completed.
+         */
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        /**
+         * Permits of sends in flight; one is released on completion.
+         */
+        private final Semaphore permits;
+
+        /**
+         * Tenant of the caller, set to TenantContext for completion callbacks.
+         */
+        private final String callerTenant;
+
+        /**
+         * Tenant of the message.
+         */
+        private final String tenantId;
+
+        private AsyncSend(final Semaphore permits, final String callerTenant, final String tenantId) {
+            this.permits = permits;
+            this.callerTenant = callerTenant;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public void onCompletion(final Message message) {
+            if (completed.compareAndSet(false, true)) {
+                permits.release();
+                metrics.recordJmsSend(tenantId);
+                TenantContext.runAs(callerTenant, () -> {
+                    future.complete(null);
+                });
+            }
+        }
+
+        @Override
+        public void onException(final Message message, final Exception exception) {
+            if (completed.compareAndSet(false, true)) {
+                permits.release();
+                Exception failure = exception instanceof JMSException jmsException
+                        ? convertJmsAccessException(jmsException)
+                        : exception;
+                TenantContext.runAs(callerTenant, () -> {
+                    future.completeExceptionally(failure);
+                });
+            }
+        }
+    }
+
+    private String tenantIdOf(final Map<String, Object> properties) {
+        if (properties.containsKey(CustomHeader.X_PROJECT_ID)) {
+            return String.valueOf(properties.get(CustomHeader.X_PROJECT_ID));
+        }
+        return tenantStamping ? TenantContext.getTenantInfo() : TenantContext.DEFAULT_TENANT;
+    }
+
+    private static void setProperties(final Message toMessage,
+                                      final Map<String, Object> properties) throws JMSException {
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            toMessage.setStringProperty(property.getKey(), String.valueOf(property.getValue()));
+        }
+    }
+
+    /**
+     * Semaphore which number of permits can be changed while permits are in use.
+     */
+    private static final class InFlightSends extends Semaphore {
+
+        /**
+         * Current limit.
+         */
+        private int limit;
+
+        private InFlightSends(final int limit) {
+            super(limit);
+            this.limit = limit;
+        }
+
+        private synchronized void resize(final int newLimit) {
+            int delta = newLimit - limit;
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+            limit = newLimit;
+        }
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer implementation of {@link TenantMetrics}.
+ * <p>Meters:</p>
+ * <ul>
+ *     <li>atp.multitenancy.access.checks - timer, tags: tenant, outcome (granted/denied);</li>
+ *     <li>atp.multitenancy.jms.sent - counter, tags: tenant;</li>
+ *     <li>atp.multitenancy.jms.received - counter, tags: tenant.</li>
+ * </ul>
+ * <p>Values of the tenant tag are bounded by {@link TenantTags}.</p>
+ */
+public class MicrometerTenantMetrics implements TenantMetrics {
+
+    /**
+     * Name of the tenant tag.
+     */
+    public static final String TENANT_TAG = "tenant";
+
+    /**
+     * Provider of access check timers.
+     */
+    private final Meter.MeterProvider<Timer> accessChecks;
+
+    /**
+     * Provider of sent messages counters.
+     */
+    private final Meter.MeterProvider<Counter> jmsSent;
+
+    /**
+     * Provider of received messages counters.
+     */
+    private final Meter.MeterProvider<Counter> jmsReceived;
+
+    /**
+     * Values of the tenant tag.
+     */
+    private final TenantTags tenantTags;
+
+    /**
+     * Constructor.
+     *
+     * @param registry MeterRegistry to register meters in
+     * @param tenantTags TenantTags object.
+     */
+    public MicrometerTenantMetrics(final MeterRegistry registry, final TenantTags tenantTags) {
+        this.tenantTags = tenantTags;
+        this.accessChecks = Timer.builder("atp.multitenancy.access.checks")
+                .description("Checks of access to tenants")
+                .withRegistry(registry);
+        this.jmsSent = Counter.builder("atp.multitenancy.jms.sent")
+                .description("JMS messages sent")
+                .withRegistry(registry);
+        this.jmsReceived = Counter.builder("atp.multitenancy.jms.received")
+                .description("JMS messages received")
+                .withRegistry(registry);
+    }
+
+    /**
+     * Record check of access to the tenant.
+     *
+     * @param tenantId String tenant identifier
+     * @param permitted whether access is permitted
+     * @param nanos duration of the check, in nanoseconds.
+     */
+    @Override
+    public void recordAccessCheck(final String tenantId, final boolean permitted, final long nanos) {
+        accessChecks.withTags(TENANT_TAG, tenantTags.tagOf(tenantId), "outcome", permitted ? "granted" : "denied")
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record JMS messages sent in a batch.
+     *
+     * @param tenantId String tenant identifier of the messages
+     * @param count number of messages.
+     */
+    @Override
+    public void recordJmsSend(final String tenantId, final int count) {
+        jmsSent.withTags(TENANT_TAG, tenantTags.tagOf(tenantId)).increment(count);
+    }
+
+    /**
+     * Record JMS message received.
+     *
+     * @param tenantId String tenant identifier of the message, or null if the message has no tenant.
+     */
+    @Override
+    public void recordJmsReceive(final String tenantId) {
+        jmsReceived.withTags(TENANT_TAG, tenantTags.tagOf(tenantId)).increment();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.metrics;
+
+/**
+ * Recorder of tenant access checks and JMS messages.
+ * <p>It's implemented by {@link MicrometerTenantMetrics} if metrics are enabled;
+ * the interceptors don't depend on Micrometer themselves.</p>
+ */
+public interface TenantMetrics {
+
+    /**
+     * Recorder doing nothing.
+     */
+    TenantMetrics NOOP = new TenantMetrics() {
+    };
+
+    /**
+     * Record check of access to the tenant.
+     *
+     * @param tenantId String tenant identifier
+     * @param permitted whether access is permitted
+     * @param nanos duration of the check, in nanoseconds.
+     */
+    default void recordAccessCheck(final String tenantId, final boolean permitted, final long nanos) {
+    }
+
+    /**
+     * Record JMS message sent.
+     *
+     * @param tenantId String tenant identifier of the message.
+     */
+    default void recordJmsSend(final String tenantId) {
+        recordJmsSend(tenantId, 1);
+    }
+
+    /**
+     * Record JMS messages sent in a batch.
+     *
+     * @param tenantId String tenant identifier of the messages
+     * @param count number of messages.
+     */
+    default void recordJmsSend(final String tenantId, final int count) {
+    }
+
+    /**
+     * Record JMS message received.
+     *
+     * @param tenantId String tenant identifier of the message, or null if the message has no tenant.
+     */
+    default void recordJmsReceive(final String tenantId) {
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.metrics;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+/**
+ * Bounded-cardinality values of the tenant tag of metrics.
+ * <p>If tenants to be tagged are listed, only they get their own tag value.
+ * Otherwise the first {@code maxTenants} tenants seen get their own tag value.
+ * All other tenants share the "other" value, so the number of time series stays bounded
+ * regardless of the number of tenants. If {@code maxTenants} is 0 and no tenants are listed,
+ * all tenants share the "all" value.</p>
+ */
+public class TenantTags {
+
+    /**
+     * Tag value of requests without tenant.
+     */
+    public static final String DEFAULT = TenantContext.DEFAULT_TENANT;
+
+    /**
+     * Tag value of tenants over the limit.
+     */
+    public static final String OTHER = "other";
+
+    /**
+     * Tag value of all tenants if tenant tags are disabled.
+     */
+    public static final String ALL = "all";
+
+    /**
+     * Maximum number of tenants tagged by their own value.
+     */
+    private final int maxTenants;
+
+    /**
+     * Tenants tagged by their own value; fixed if tenants are listed, otherwise filled up to maxTenants.
+     */
+    private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether tenants tagged by their own value are listed, i.e. the set isn't filled.
+     */
+    private final boolean listed;
+
+    /**
+     * Constructor.
+     *
+     * @param maxTenants maximum number of tenants tagged by their own value
+     * @param tenantIds tenants tagged by their own value; if it's empty, the first maxTenants tenants seen are.
+     */
+    public TenantTags(final int maxTenants, final Collection<String> tenantIds) {
+        this.maxTenants = Math.max(0, maxTenants);
+        this.listed = tenantIds != null && !tenantIds.isEmpty();
+        if (listed) {
+            tenants.addAll(tenantIds);
+        }
+    }
+
+    /**
+     * Get value of the tenant tag.
+     *
+     * @param tenantId String tenant identifier, or null for requests without tenant
+     * @return tenant identifier if it's tagged by its own value; "default", "other" or "all" otherwise.
+     */
+    public String tagOf(final String tenantId) {
+        if (tenantId == null || tenantId.isEmpty() || DEFAULT.equals(tenantId)) {
+            return DEFAULT;
+        }
+        if (tenants.contains(tenantId)) {
+            return tenantId;
+        }
+        if (listed) {
+            return OTHER;
+        }
+        if (maxTenants == 0) {
+            return ALL;
+        }
+        if (tenants.size() >= maxTenants) {
+            return OTHER;
+        }
+        synchronized (tenants) {
+            if (tenants.size() < maxTenants) {
+                tenants.add(tenantId);
+                return tenantId;
+            }
+        }
+        return tenants.contains(tenantId) ? tenantId : OTHER;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.pojo;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@ConfigurationProperties(prefix = "atp.multi-tenancy.access-cache")
+@Getter
+@Setter
+public class AccessDecisionCacheProperties {
+
+    /**
+     * Cache access decisions of PolicyEnforcement or not.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of cached decisions.
+     */
+    private int maximumSize = 10000;
+
+    /**
+     * Time to live of permitted decisions.
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+
+    /**
+     * Time to live of denied decisions.
+     */
+    private Duration negativeTtl = Duration.ofSeconds(10);
+}
@@ -0,0 +1,47 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.pojo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@ConfigurationProperties(prefix = "atp.multi-tenancy.metrics")
+@Getter
+@Setter
+public class TenantMetricsProperties {
+
+    /**
+     * Record metrics of routing, pools, access checks and JMS messages or not.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of tenants tagged by their own value; other tenants are tagged as "other".
+     * 0 disables the tenant tag (all tenants are tagged as "all").
+     */
+    private int maxTenantTags = 100;
+
+    /**
+     * Tenants tagged by their own value; if it's empty, the first max-tenant-tags tenants seen are.
+     */
+    private List<String> tenantTags = new ArrayList<>();
+}
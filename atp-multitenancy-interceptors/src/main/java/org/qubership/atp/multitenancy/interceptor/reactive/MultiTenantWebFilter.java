@@ -0,0 +1,143 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.reactive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.qubership.atp.auth.springbootstarter.entities.Operation;
+import org.qubership.atp.multitenancy.core.header.CustomHeader;
+import org.qubership.atp.multitenancy.interceptor.http.TenantAccessChecker;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.TextEscapeUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive counterpart of MultiTenantHttpRequestInterceptor.
+ * <p>Checks access to the project from X-Project-Id header and puts the tenant to Reactor Context
+ * (see {@link ReactiveTenantContext}). Cached decisions are used on the event loop thread;
+ * otherwise PolicyEnforcement is called on the scheduler given, so event loop threads are never blocked.
+ * PolicyEnforcement reads the authentication from SecurityContextHolder, so the SecurityContext
+ * of ReactiveSecurityContextHolder is bound to the scheduler thread for the call.</p>
+ */
+public class MultiTenantWebFilter implements WebFilter {
+
+    /**
+     * Checker of access to tenants.
+     */
+    private final TenantAccessChecker accessChecker;
+
+    /**
+     * Scheduler to call PolicyEnforcement on.
+     */
+    private final Scheduler scheduler;
+
+    /**
+     * Constructor.
+     *
+     * @param accessChecker TenantAccessChecker object.
+     */
+    public MultiTenantWebFilter(final TenantAccessChecker accessChecker) {
+        this(accessChecker, Schedulers.boundedElastic());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param accessChecker TenantAccessChecker object
+     * @param scheduler Scheduler to call PolicyEnforcement on.
+     */
+    public MultiTenantWebFilter(final TenantAccessChecker accessChecker, final Scheduler scheduler) {
+        this.accessChecker = accessChecker;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Check access to the tenant and process the exchange under the tenant.
+     *
+     * @param exchange ServerWebExchange to be processed
+     * @param chain WebFilterChain to delegate to
+     * @return Mono completed when the exchange is processed.
+     */
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        String tenantId = exchange.getRequest().getHeaders().getFirst(CustomHeader.X_PROJECT_ID);
+        if (tenantId == null) {
+            return chain.filter(exchange);
+        }
+        return checkAccess(exchange, tenantId).flatMap(permitted -> permitted
+                ? chain.filter(exchange).contextWrite(ReactiveTenantContext.withTenantInfo(tenantId))
+                : deny(exchange.getResponse(), tenantId));
+    }
+
+    private Mono<Boolean> checkAccess(final ServerWebExchange exchange, final String tenantId) {
+        String operation = Operation.READ.toString();
+        return exchange.getPrincipal()
+                .map(principal -> Optional.of(principal.getName()))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(principal -> {
+                    String name = principal.orElse(null);
+                    Boolean cached = accessChecker.getCachedDecision(name, tenantId, operation);
+                    if (cached != null) {
+                        return Mono.just(cached);
+                    }
+                    return ReactiveSecurityContextHolder.getContext()
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .flatMap(securityContext -> Mono.fromCallable(() -> loadDecision(
+                                            securityContext.orElse(null), name, tenantId, operation))
+                                    .subscribeOn(scheduler));
+                });
+    }
+
+    private boolean loadDecision(@Nullable final SecurityContext securityContext, @Nullable final String principal,
+                                 final String tenantId, final String operation) {
+        if (securityContext == null) {
+            return accessChecker.loadDecision(principal, tenantId, operation);
+        }
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            return accessChecker.loadDecision(principal, tenantId, operation);
+        } finally {
+            if (previous.getAuthentication() == null) {
+                SecurityContextHolder.clearContext();
+            } else {
+                SecurityContextHolder.setContext(previous);
+            }
+        }
+    }
+
+    private static Mono<Void> deny(final ServerHttpResponse response, final String tenantId) {
+        response.setStatusCode(HttpStatus.FORBIDDEN);
+        DataBuffer body = response.bufferFactory().wrap("Access denied to %s"
+                .formatted(TextEscapeUtils.escapeEntities(tenantId)).getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
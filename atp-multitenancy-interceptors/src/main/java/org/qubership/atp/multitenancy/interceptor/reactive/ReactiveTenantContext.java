@@ -0,0 +1,69 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.reactive;
+
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Tenant carried by Reactor Context, the reactive counterpart of {@link TenantContext}.
+ */
+public final class ReactiveTenantContext {
+
+    /**
+     * Key of the tenant in Reactor Context; it's also the key of TenantContextThreadLocalAccessor.
+     */
+    public static final String TENANT_KEY = "atp.multi-tenancy.tenant";
+
+    /**
+     * Constructor.
+     */
+    private ReactiveTenantContext() {
+    }
+
+    /**
+     * Get tenant of the current Reactor Context.
+     *
+     * @return Mono of tenant, or of default tenant if no tenant is set.
+     */
+    public static Mono<String> getTenantInfo() {
+        return Mono.deferContextual(context -> Mono.just(getTenantInfo(context)));
+    }
+
+    /**
+     * Get tenant of the Reactor Context given.
+     *
+     * @param context ContextView to get tenant from
+     * @return tenant, or default tenant if no tenant is set.
+     */
+    public static String getTenantInfo(final ContextView context) {
+        return context.getOrDefault(TENANT_KEY, TenantContext.DEFAULT_TENANT);
+    }
+
+    /**
+     * Create Context with the tenant; to be used by {@code contextWrite(...)} operator.
+     *
+     * @param tenant String tenant id
+     * @return Context with the tenant.
+     */
+    public static Context withTenantInfo(final String tenant) {
+        return Context.of(TENANT_KEY, tenant);
+    }
+}
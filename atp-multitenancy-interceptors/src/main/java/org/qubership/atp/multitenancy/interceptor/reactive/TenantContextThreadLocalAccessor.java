@@ -0,0 +1,68 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.reactive;
+
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Bridges tenant of Reactor Context to {@link TenantContext} via Micrometer context-propagation,
+ * so the code called from reactive operators (e.g. with Hooks.enableAutomaticContextPropagation())
+ * or from blocking code wrapped by ContextSnapshot can use TenantContext.getTenantInfo().
+ * <p>It's registered in ContextRegistry via ServiceLoader.</p>
+ */
+public class TenantContextThreadLocalAccessor implements ThreadLocalAccessor<String> {
+
+    /**
+     * Get key of the tenant in Reactor Context.
+     *
+     * @return key String.
+     */
+    @Override
+    public Object key() {
+        return ReactiveTenantContext.TENANT_KEY;
+    }
+
+    /**
+     * Get tenant of the current thread.
+     *
+     * @return tenant String.
+     */
+    @Override
+    public String getValue() {
+        return TenantContext.getTenantInfo();
+    }
+
+    /**
+     * Set tenant to the current thread.
+     *
+     * @param value tenant String.
+     */
+    @Override
+    public void setValue(final String value) {
+        TenantContext.setTenantInfo(value);
+    }
+
+    /**
+     * Clear tenant of the current thread.
+     */
+    @Override
+    public void setValue() {
+        TenantContext.clear();
+    }
+}
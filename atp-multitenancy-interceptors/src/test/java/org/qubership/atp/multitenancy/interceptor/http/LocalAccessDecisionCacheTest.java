@@ -0,0 +1,84 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class LocalAccessDecisionCacheTest {
+
+    private final AccessDecisionKey KEY = new AccessDecisionKey("user", "tenant", "READ");
+
+    /**
+     * Test that cached decisions are returned and counted as hits, absent ones as misses.
+     */
+    @Test
+    public void testGetShouldReturnCachedDecisionAndCountHitsAndMisses() {
+        LocalAccessDecisionCache cache = new LocalAccessDecisionCache(10, Duration.ofMinutes(1),
+                Duration.ofMinutes(1));
+        assertNull(cache.get(KEY));
+        cache.put(KEY, true);
+        assertTrue(cache.get(KEY));
+        cache.put(KEY, false);
+        assertFalse(cache.get(KEY));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    /**
+     * Test that denied decisions expire after negative TTL while permitted ones are kept.
+     *
+     * @throws InterruptedException in case the test is interrupted.
+     */
+    @Test
+    public void testGetShouldReturnNullWhenDeniedDecisionNegativeTtlIsExpired() throws InterruptedException {
+        LocalAccessDecisionCache cache = new LocalAccessDecisionCache(10, Duration.ofMinutes(1),
+                Duration.ofMillis(1));
+        AccessDecisionKey permittedKey = new AccessDecisionKey("user", "other", "READ");
+        cache.put(KEY, false);
+        cache.put(permittedKey, true);
+        Thread.sleep(10);
+        assertNull(cache.get(KEY));
+        assertTrue(cache.get(permittedKey));
+    }
+
+    /**
+     * Test that cache size is bounded and decisions are invalidated by tenant and principal.
+     */
+    @Test
+    public void testPutShouldEvictDecisionsWhenMaximumSizeIsExceededAndInvalidateShouldRemoveDecisions() {
+        LocalAccessDecisionCache cache = new LocalAccessDecisionCache(10, Duration.ofMinutes(1),
+                Duration.ofMinutes(1));
+        for (int i = 0; i < 100; i++) {
+            cache.put(new AccessDecisionKey("user" + i % 2, "tenant" + i, "READ"), true);
+        }
+        assertTrue(cache.size() <= 10);
+        assertTrue(cache.getEvictionCount() > 0);
+        cache.put(KEY, true);
+        cache.invalidateTenant("tenant");
+        assertNull(cache.get(KEY));
+        cache.invalidatePrincipal("user0");
+        cache.invalidatePrincipal("user1");
+        assertEquals(0, cache.size());
+    }
+}
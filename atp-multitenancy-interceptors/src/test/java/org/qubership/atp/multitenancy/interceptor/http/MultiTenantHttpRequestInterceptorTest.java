@@ -20,10 +20,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,8 +37,11 @@ import org.mockito.Mock;
 import org.qubership.atp.auth.springbootstarter.security.permissions.PolicyEnforcement;
 import org.qubership.atp.multitenancy.core.context.TenantContext;
 import org.qubership.atp.multitenancy.core.header.CustomHeader;
+import org.qubership.atp.multitenancy.interceptor.metrics.MicrometerTenantMetrics;
+import org.qubership.atp.multitenancy.interceptor.metrics.TenantTags;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -52,6 +60,8 @@ public class MultiTenantHttpRequestInterceptorTest {
     private PolicyEnforcement policyEnforcementMock;
     @Mock
     private PrintWriter printWriterMock;
+    @Mock
+    private Principal principalMock;
 
     /**
      * Init multiTenantHttpRequestInterceptor and response mock.
@@ -100,4 +110,48 @@ public class MultiTenantHttpRequestInterceptorTest {
         assertTrue(multiTenantHttpRequestInterceptor.preHandle(requestMock, responseMock, handlerMock));
     }
 
+    /**
+     * Test that access decision is taken from the cache for repeated requests of the same user to the same project.
+     *
+     * @throws IOException in case IO errors occurred.
+     */
+    @Test
+    public void testPreHandleShouldCheckAccessOnceWhenAccessDecisionIsCachedForTheSameUserAndProject()
+            throws IOException {
+        LocalAccessDecisionCache cache = new LocalAccessDecisionCache(10, Duration.ofMinutes(1),
+                Duration.ofSeconds(10));
+        multiTenantHttpRequestInterceptor = new MultiTenantHttpRequestInterceptor(policyEnforcementMock, cache);
+        when(requestMock.getHeader(CustomHeader.X_PROJECT_ID)).thenReturn(TENANT_ID);
+        when(requestMock.getUserPrincipal()).thenReturn(principalMock);
+        when(principalMock.getName()).thenReturn("user");
+        when(policyEnforcementMock.checkAccess((String) any(), any())).thenReturn(true);
+        assertTrue(multiTenantHttpRequestInterceptor.preHandle(requestMock, responseMock, handlerMock));
+        assertTrue(multiTenantHttpRequestInterceptor.preHandle(requestMock, responseMock, handlerMock));
+        verify(policyEnforcementMock, times(1)).checkAccess((String) any(), any());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    /**
+     * Test that access checks are recorded once per request, tagged by tenant and outcome,
+     * whether the decision is cached or not.
+     *
+     * @throws IOException in case IO errors occurred.
+     */
+    @Test
+    public void testPreHandleShouldRecordAccessChecksWhenMetricsAreSet() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LocalAccessDecisionCache cache = new LocalAccessDecisionCache(10, Duration.ofMinutes(1),
+                Duration.ofSeconds(10));
+        multiTenantHttpRequestInterceptor = new MultiTenantHttpRequestInterceptor(policyEnforcementMock, cache,
+                new MicrometerTenantMetrics(registry, new TenantTags(10, List.of())));
+        when(requestMock.getHeader(CustomHeader.X_PROJECT_ID)).thenReturn(TENANT_ID);
+        when(requestMock.getUserPrincipal()).thenReturn(principalMock);
+        when(principalMock.getName()).thenReturn("user");
+        when(policyEnforcementMock.checkAccess((String) any(), any())).thenReturn(false);
+        assertFalse(multiTenantHttpRequestInterceptor.preHandle(requestMock, responseMock, handlerMock));
+        assertFalse(multiTenantHttpRequestInterceptor.preHandle(requestMock, responseMock, handlerMock));
+        assertEquals(2, registry.get("atp.multitenancy.access.checks")
+                .tags("tenant", TENANT_ID, "outcome", "denied").timer().count());
+    }
 }
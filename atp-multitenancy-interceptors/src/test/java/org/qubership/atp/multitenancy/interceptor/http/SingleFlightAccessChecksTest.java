@@ -0,0 +1,97 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightAccessChecksTest {
+
+    private final AccessDecisionKey KEY = new AccessDecisionKey("user", "tenant", "READ");
+
+    /**
+     * Test that concurrent identical checks are made once and all callers get the result.
+     *
+     * @throws Exception in case the test is interrupted or checks failed.
+     */
+    @Test
+    public void testCheckAccessShouldMakeOneCheckWhenIdenticalChecksAreConcurrent() throws Exception {
+        SingleFlightAccessChecks checks = new SingleFlightAccessChecks();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            results.add(executor.submit(() -> checks.checkAccess(KEY, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                awaitQuietly(release);
+                return true;
+            })));
+            started.await();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> checks.checkAccess(KEY, () -> {
+                    calls.incrementAndGet();
+                    return true;
+                })));
+            }
+            while (checks.getCoalescedCount() < 7) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            release.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that a failed check is not remembered and the next check is made again.
+     */
+    @Test
+    public void testCheckAccessShouldMakeNewCheckWhenPreviousCheckFailed() {
+        SingleFlightAccessChecks checks = new SingleFlightAccessChecks();
+        assertThrows(IllegalStateException.class, () -> checks.checkAccess(KEY, () -> {
+            throw new IllegalStateException("Policy backend is unavailable");
+        }));
+        assertTrue(checks.checkAccess(KEY, () -> true));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -19,6 +19,8 @@ package org.qubership.atp.multitenancy.interceptor.jms;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.activemq.junit.EmbeddedActiveMQBroker;
 import org.junit.jupiter.api.AfterAll;
@@ -27,12 +29,16 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
 import org.qubership.atp.multitenancy.core.header.CustomHeader;
 import org.qubership.atp.multitenancy.interceptor.jms.config.QueueMessageListener;
 import org.qubership.atp.multitenancy.interceptor.jms.config.TestConfiguration;
 import org.qubership.atp.multitenancy.interceptor.jms.config.TopicMessageListener;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.config.SimpleJmsListenerEndpoint;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
@@ -158,6 +164,106 @@ public class MultiTenantJmsInterceptorTest {
         Assertions.assertEquals(TestConstant.TEST_TENANT_ID, receivedMessage.getStringProperty(CustomHeader.X_PROJECT_ID));
     }
 
+    /**
+     * Test of setting X_PROJECT_ID header to each message of a batch sent via JMS queue in one transaction.
+     *
+     * @throws JMSException in case JMS errors occurred.
+     */
+    @Test
+    public void testConvertAndSendBatchShouldReturnEqualsXProjectIdInAllReceivedMessagesFromQueueAfterBatchWasSentInTransactionByMultiTenantJmsTemplate() throws JMSException {
+        Map<String, Object> prop = new HashMap<>();
+        prop.put(CustomHeader.X_PROJECT_ID, TestConstant.TEST_TENANT_ID);
+        queueJmsTemplate.convertAndSendBatch(TestConstant.QUEUE_NAME,
+                List.of(TestConstant.MESSAGE_TEXT, TestConstant.MESSAGE_TEXT, TestConstant.MESSAGE_TEXT), prop, true);
+        ArgumentCaptor<TextMessage> messageCaptor = ArgumentCaptor.forClass(TextMessage.class);
+        Mockito.verify(queueMessageListenerSpy, Mockito.timeout(1000).times(3))
+                .queueJmsListenerMethod(messageCaptor.capture());
+        for (TextMessage receivedMessage : messageCaptor.getAllValues()) {
+            Assertions.assertEquals(TestConstant.TEST_TENANT_ID,
+                    receivedMessage.getStringProperty(CustomHeader.X_PROJECT_ID));
+            Assertions.assertEquals(TestConstant.MESSAGE_TEXT, receivedMessage.getText());
+        }
+    }
+
+    /**
+     * Test of asynchronous send: the future is completed with the tenant of the caller,
+     * and X_PROJECT_ID header is set to the message received via JMS queue.
+     *
+     * @throws Exception in case JMS errors occurred or the send isn't completed in time.
+     */
+    @Test
+    public void testConvertAndSendAsyncShouldCompleteFutureWithTenantOfCallerAndReturnEqualsXProjectIdInReceivedMessageFromQueue() throws Exception {
+        Map<String, Object> prop = new HashMap<>();
+        prop.put(CustomHeader.X_PROJECT_ID, TestConstant.TEST_TENANT_ID);
+        CompletableFuture<String> callbackTenant = TenantContext.runAs(TestConstant.TEST_TENANT_ID,
+                () -> queueJmsTemplate.convertAndSendAsync(TestConstant.QUEUE_NAME, TestConstant.MESSAGE_TEXT, prop)
+                        .thenApply(ignored -> TenantContext.getTenantInfo()));
+        Assertions.assertEquals(TestConstant.TEST_TENANT_ID, callbackTenant.get(1, TimeUnit.SECONDS));
+        ArgumentCaptor<TextMessage> messageCaptor = ArgumentCaptor.forClass(TextMessage.class);
+        Mockito.verify(queueMessageListenerSpy, Mockito.timeout(1000))
+                .queueJmsListenerMethod(messageCaptor.capture());
+        Assertions.assertEquals(TestConstant.TEST_TENANT_ID,
+                messageCaptor.getValue().getStringProperty(CustomHeader.X_PROJECT_ID));
+    }
+
+    /**
+     * Test of stamping X_PROJECT_ID header from TenantContext to a message sent via JMS queue
+     * by convertAndSend inherited from JmsTemplate, without properties.
+     *
+     * @throws JMSException in case JMS errors occurred.
+     */
+    @Test
+    public void testInheritedConvertAndSendShouldReturnEqualsXProjectIdInReceivedMessageFromQueueAfterMessageWasSentUnderTenantOfTenantContext() throws JMSException {
+        TenantContext.runAs(TestConstant.TEST_TENANT_ID,
+                () -> queueJmsTemplate.convertAndSend(TestConstant.QUEUE_NAME, TestConstant.MESSAGE_TEXT));
+        ArgumentCaptor<TextMessage> messageCaptor = ArgumentCaptor.forClass(TextMessage.class);
+        Mockito.verify(queueMessageListenerSpy, Mockito.timeout(1000))
+                .queueJmsListenerMethod(messageCaptor.capture());
+        Assertions.assertEquals(TestConstant.TEST_TENANT_ID,
+                messageCaptor.getValue().getStringProperty(CustomHeader.X_PROJECT_ID));
+    }
+
+    /**
+     * Test of setting JMSXGroupID to the tenant of a message sent via JMS queue with tenant grouping enabled.
+     *
+     * @throws JMSException in case JMS errors occurred.
+     */
+    @Test
+    public void testConvertAndSendShouldReturnJMSXGroupIdEqualToXProjectIdInReceivedMessageFromQueueWhenTenantGroupingIsEnabled() throws JMSException {
+        Map<String, Object> prop = new HashMap<>();
+        prop.put(CustomHeader.X_PROJECT_ID, TestConstant.TEST_TENANT_ID);
+        queueJmsTemplate.setTenantGrouping(true);
+        try {
+            queueJmsTemplate.convertAndSend(TestConstant.QUEUE_NAME, TestConstant.MESSAGE_TEXT, prop);
+        } finally {
+            queueJmsTemplate.setTenantGrouping(false);
+        }
+        ArgumentCaptor<TextMessage> messageCaptor = ArgumentCaptor.forClass(TextMessage.class);
+        Mockito.verify(queueMessageListenerSpy, Mockito.timeout(1000))
+                .queueJmsListenerMethod(messageCaptor.capture());
+        Assertions.assertEquals(TestConstant.TEST_TENANT_ID,
+                messageCaptor.getValue().getStringProperty(MultiTenantJmsTemplate.JMSX_GROUP_ID));
+    }
+
+    /**
+     * Test that tenant-sharded listener container factory creates containers with fixed number of consumers,
+     * which are kept for their whole life.
+     */
+    @Test
+    public void testInitTenantShardedJmsListenerContainerFactoryShouldCreateContainerWithFixedConcurrentConsumersAndCachedConsumers() {
+        DefaultJmsListenerContainerFactory factory =
+                new MultiTenantJmsRequestInterceptor().initTenantShardedJmsListenerContainerFactory(4);
+        SimpleJmsListenerEndpoint endpoint = new SimpleJmsListenerEndpoint();
+        endpoint.setId("tenant-lanes");
+        endpoint.setDestination(TestConstant.QUEUE_NAME);
+        endpoint.setMessageListener(message -> {
+        });
+        DefaultMessageListenerContainer container = factory.createListenerContainer(endpoint);
+        Assertions.assertEquals(4, container.getConcurrentConsumers());
+        Assertions.assertEquals(4, container.getMaxConcurrentConsumers());
+        Assertions.assertEquals(DefaultMessageListenerContainer.CACHE_CONSUMER, container.getCacheLevel());
+    }
+
     /**
      * Test that X_PROJECT_ID header should be set properly for a message sent at default tenant.
      */
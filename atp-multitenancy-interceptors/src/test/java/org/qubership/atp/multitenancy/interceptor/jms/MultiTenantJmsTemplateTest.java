@@ -0,0 +1,114 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.jms;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+
+public class MultiTenantJmsTemplateTest {
+
+    /**
+     * Session of the template.
+     */
+    private Session session;
+
+    /**
+     * Message converter of the template.
+     */
+    private MessageConverter messageConverter;
+
+    /**
+     * Session transacted template.
+     */
+    private MultiTenantJmsTemplate jmsTemplate;
+
+    /**
+     * Init the template with mock connection factory, session and producer.
+     *
+     * @throws JMSException in case JMS errors occurred.
+     */
+    @BeforeEach
+    public void setUp() throws JMSException {
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        Connection connection = mock(Connection.class);
+        session = mock(Session.class);
+        messageConverter = mock(MessageConverter.class);
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.getTransacted()).thenReturn(true);
+        when(session.createQueue(anyString())).thenReturn(mock(Queue.class));
+        when(session.createProducer(any())).thenReturn(mock(MessageProducer.class));
+        jmsTemplate = new MultiTenantJmsTemplate();
+        jmsTemplate.setConnectionFactory(connectionFactory);
+        jmsTemplate.setMessageConverter(messageConverter);
+        jmsTemplate.setSessionTransacted(true);
+        jmsTemplate.afterPropertiesSet();
+    }
+
+    /**
+     * Test that a batch sent with transacted = false by a session transacted template commits each message,
+     * so messages sent before a failure stay committed.
+     *
+     * @throws JMSException in case JMS errors occurred.
+     */
+    @Test
+    public void testConvertAndSendBatchNotTransactedShouldCommitEachMessageWhenTemplateIsSessionTransacted()
+            throws JMSException {
+        when(messageConverter.toMessage(any(), any())).thenReturn(mock(Message.class))
+                .thenThrow(new MessageConversionException("Can't convert"));
+        assertThrows(MessageConversionException.class,
+                () -> jmsTemplate.convertAndSendBatch("queue", List.of("first", "second"), Map.of(), false));
+        verify(session, times(1)).commit();
+        verify(session, times(1)).rollback();
+    }
+
+    /**
+     * Test that a batch sent with transacted = true by a session transacted template is committed once.
+     *
+     * @throws JMSException in case JMS errors occurred.
+     */
+    @Test
+    public void testConvertAndSendBatchTransactedShouldCommitOnceWhenTemplateIsSessionTransacted()
+            throws JMSException {
+        when(messageConverter.toMessage(any(), any())).thenReturn(mock(Message.class));
+        jmsTemplate.convertAndSendBatch("queue", List.of("first", "second", "third"), Map.of(), true);
+        verify(session, times(1)).commit();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TenantTagsTest {
+
+    /**
+     * Test that the first tenants up to the limit are tagged by their own value and the rest as "other".
+     */
+    @Test
+    public void testTagOfShouldReturnOtherWhenMaxTenantsAreAlreadyTagged() {
+        TenantTags tags = new TenantTags(2, List.of());
+        assertEquals("a", tags.tagOf("a"));
+        assertEquals("b", tags.tagOf("b"));
+        assertEquals(TenantTags.OTHER, tags.tagOf("c"));
+        assertEquals("a", tags.tagOf("a"));
+    }
+
+    /**
+     * Test that only listed tenants are tagged by their own value.
+     */
+    @Test
+    public void testTagOfShouldReturnOtherWhenTenantIsNotListed() {
+        TenantTags tags = new TenantTags(100, List.of("a"));
+        assertEquals("a", tags.tagOf("a"));
+        assertEquals(TenantTags.OTHER, tags.tagOf("b"));
+    }
+
+    /**
+     * Test that requests without tenant are tagged as "default" and all tenants as "all" if the limit is 0.
+     */
+    @Test
+    public void testTagOfShouldReturnDefaultForNoTenantAndAllWhenTenantTagsAreDisabled() {
+        TenantTags tags = new TenantTags(0, List.of());
+        assertEquals(TenantTags.DEFAULT, tags.tagOf(null));
+        assertEquals(TenantTags.DEFAULT, tags.tagOf("default"));
+        assertEquals(TenantTags.ALL, tags.tagOf("a"));
+    }
+}
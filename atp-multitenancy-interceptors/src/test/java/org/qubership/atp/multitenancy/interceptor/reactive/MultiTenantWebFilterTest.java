@@ -0,0 +1,123 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.multitenancy.interceptor.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.security.permissions.PolicyEnforcement;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.atp.multitenancy.core.header.CustomHeader;
+import org.qubership.atp.multitenancy.interceptor.http.TenantAccessChecker;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.scheduler.Schedulers;
+
+public class MultiTenantWebFilterTest {
+
+    private final String TENANT_ID = "3d6a138d-057b-4e35-8348-17aee2f2b0f8";
+    private PolicyEnforcement policyEnforcementMock;
+    private MultiTenantWebFilter multiTenantWebFilter;
+    private final AtomicReference<String> chainTenant = new AtomicReference<>();
+    private final WebFilterChain chain = exchange -> ReactiveTenantContext.getTenantInfo()
+            .doOnNext(chainTenant::set)
+            .then();
+
+    /**
+     * Init multiTenantWebFilter with PolicyEnforcement mock.
+     */
+    @BeforeEach
+    public void setUp() {
+        policyEnforcementMock = mock(PolicyEnforcement.class);
+        multiTenantWebFilter = new MultiTenantWebFilter(new TenantAccessChecker(policyEnforcementMock, null),
+                Schedulers.immediate());
+    }
+
+    /**
+     * Test that tenant from X-Project-Id header is put to Reactor Context when user has access to the project.
+     */
+    @Test
+    public void testFilterShouldPutTenantIdFromXProjectIdHeaderToReactorContextWhenUserHasAccessToProject() {
+        when(policyEnforcementMock.checkAccess((String) any(), any())).thenReturn(true);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/")
+                .header(CustomHeader.X_PROJECT_ID, TENANT_ID));
+        multiTenantWebFilter.filter(exchange, chain).block();
+        assertEquals(TENANT_ID, chainTenant.get());
+    }
+
+    /**
+     * Test that response is 403 and the chain isn't called when there is no access to the project.
+     */
+    @Test
+    public void testFilterShouldRespondForbiddenWhenXProjectIdHeaderHasButNoAccessToProject() {
+        when(policyEnforcementMock.checkAccess((String) any(), any())).thenReturn(false);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/")
+                .header(CustomHeader.X_PROJECT_ID, TENANT_ID));
+        multiTenantWebFilter.filter(exchange, chain).block();
+        assertEquals(HttpStatus.FORBIDDEN, exchange.getResponse().getStatusCode());
+        assertNull(chainTenant.get());
+    }
+
+    /**
+     * Test that default tenant is in Reactor Context when there is no X-Project-Id header.
+     */
+    @Test
+    public void testFilterShouldProvideDefaultTenantWhenNoXProjectIdHeader() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        multiTenantWebFilter.filter(exchange, chain).block();
+        assertEquals(TenantContext.DEFAULT_TENANT, chainTenant.get());
+    }
+
+    /**
+     * Test that PolicyEnforcement called on a worker thread sees the authentication of Reactor Context.
+     */
+    @Test
+    public void testFilterShouldBindAuthenticationFromReactiveSecurityContextToPolicyEnforcementThreadWhenCalledOnBoundedElastic() {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated("user", null, List.of());
+        AtomicReference<String> policyThread = new AtomicReference<>();
+        when(policyEnforcementMock.checkAccess((String) any(), any())).thenAnswer(invocation -> {
+            policyThread.set(Thread.currentThread().getName());
+            Authentication bound = SecurityContextHolder.getContext().getAuthentication();
+            return bound != null && "user".equals(bound.getName());
+        });
+        MultiTenantWebFilter filter = new MultiTenantWebFilter(new TenantAccessChecker(policyEnforcementMock, null),
+                Schedulers.boundedElastic());
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/")
+                .header(CustomHeader.X_PROJECT_ID, TENANT_ID));
+        filter.filter(exchange, chain)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+                .block();
+        assertEquals(TENANT_ID, chainTenant.get());
+        assertNotEquals(Thread.currentThread().getName(), policyThread.get());
+    }
+}